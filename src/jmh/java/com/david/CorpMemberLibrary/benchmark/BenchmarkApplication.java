@@ -0,0 +1,37 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.CorpMemberLibraryApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 생성
+ *
+ * 웹 서버 없이 서비스/리포지토리 빈만 띄우고,
+ * 측정에 영향을 주는 SQL 로그는 끕니다.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * 컨텍스트 시작
+     *
+     * @param properties 추가로 덮어쓸 설정 (key=value)
+     * @return 시작된 애플리케이션 컨텍스트
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(CorpMemberLibraryApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsFileFormat;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsImportService;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 동시성 확장 벤치마크
+ *
+ * 동시 요청(concurrency)개의 상세 조회를 한 번에 처리하는 데 걸리는 시간을 측정합니다.
+ * - platform: Tomcat 기본값과 같은 200개 고정 스레드 풀
+ * - virtual: 작업마다 가상 스레드 생성
+ *
+ * 인메모리 H2는 I/O 대기가 없으므로, 원격 DB의 네트워크 왕복을 흉내 내기 위해
+ * 조회마다 latencyMillis 만큼 블로킹 대기를 추가합니다 (0이면 순수 CPU 경로).
+ * 대기는 조회와 같은 트랜잭션 안에서 하므로 실제 원격 DB처럼 그동안 커넥션을 붙잡고 있고,
+ * 커넥션 풀(50개)이 동시 처리량의 상한이 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcurrencyScalingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"0", "5"})
+    private int latencyMillis;
+
+    private ConfigurableApplicationContext context;
+
+    private PostsService postsService;
+
+    private PostsDetailCache postsDetailCache;
+
+    private TransactionTemplate transactionTemplate;
+
+    private ExecutorService executor;
+
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 동시 조회가 커넥션 풀에서 막히지 않도록 풀 크기를 키움
+        context = BenchmarkApplication.start("spring.datasource.hikari.maximum-pool-size=50");
+        postsService = context.getBean(PostsService.class);
+        postsDetailCache = context.getBean(PostsDetailCache.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        StringBuilder csv = new StringBuilder("title,content,author\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("제목").append(i).append(",내용").append(i).append(",작성자").append(i).append('\n');
+        }
+        context.getBean(PostsImportService.class).importPosts(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), PostsFileFormat.CSV);
+        maxId = postsService.findPage(null, 1, CursorDirection.NEXT).getPosts().get(0).getId();
+
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentLookups() throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(this::lookup));
+        }
+        int completed = 0;
+        for (Future<Long> future : futures) {
+            future.get();
+            completed++;
+        }
+        return completed;
+    }
+
+    private Long lookup() {
+        long id = ThreadLocalRandom.current().nextLong(maxId - ROWS + 1, maxId + 1);
+        postsDetailCache.evict(id);  // 캐시를 거치지 않고 DB까지 조회
+        // 조회와 대기를 한 트랜잭션으로 묶어 대기하는 동안 커넥션을 반납하지 않게 함
+        return transactionTemplate.execute(status -> {
+            Long found = postsService.findById(id).getId();
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);  // 원격 DB 왕복 시간 흉내
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return found;
+        });
+    }
+}
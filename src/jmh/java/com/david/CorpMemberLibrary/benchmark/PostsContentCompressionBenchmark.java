@@ -0,0 +1,76 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsContentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 내용 압축 벤치마크 (메모리 절감 vs CPU 비용)
+ *
+ * 회원 소개글과 비슷한 한글 문장을 크기(chars)별로 만들어
+ * - encode: 저장(INSERT/UPDATE) 시 압축 비용
+ * - decode: 상세 조회 시 복원 비용
+ * - rawUtf8: 압축 없이 UTF-8로 변환만 하는 기준 비용
+ * 을 측정합니다.
+ *
+ * 절감되는 메모리(원본 UTF-8 크기 대비 저장 크기)는 시작 시 콘솔에 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsContentCompressionBenchmark {
+
+    private static final String[] PHRASES = {
+            "홍길동 이사는 ", "2015년 삼성전자에 입사하여 ", "재무위원회 위원장을 맡고 있으며 ",
+            "사외이사로서 감사위원회에 참여하고 있습니다. ", "서울대학교 경영학과를 졸업하고 ",
+            "주요 경력으로는 ", "ESG 경영 자문 ", "리스크 관리 총괄 ", "해외 법인 설립 추진 ",
+            "정기 주주총회에서 재선임되었습니다. ", "\n"
+    };
+
+    @Param({"200", "2000", "20000"})
+    private int chars;
+
+    private String content;
+
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(chars);
+        while (builder.length() < chars) {
+            builder.append(PHRASES[random.nextInt(PHRASES.length)]);
+        }
+        content = builder.substring(0, chars);
+        stored = PostsContentCodec.encode(content);
+
+        int raw = content.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[content] chars=%d utf8=%d bytes stored=%d bytes (%.1f%%, compressed=%s)%n",
+                chars, raw, stored.length, 100.0 * stored.length / raw, PostsContentCodec.isCompressed(stored));
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return PostsContentCodec.encode(content);
+    }
+
+    @Benchmark
+    public String decode() {
+        return PostsContentCodec.decode(stored);
+    }
+
+    @Benchmark
+    public byte[] rawUtf8() {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,115 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
+import com.david.CorpMemberLibrary.web.fragment.PostsFragmentCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * posts-list.html 렌더링 벤치마크
+ *
+ * 애플리케이션과 같은 템플릿 파일(classpath:templates/)을
+ * 페이지 크기(rows)별로 렌더링하는 비용을 측정합니다. DB는 사용하지 않습니다.
+ *
+ * - renderList: 행 캐시 없이 매번 모든 행을 렌더링 (캐시 미스와 같은 비용)
+ * - renderListFromFragments: PostsFragmentCache에 행이 모두 있는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsListRenderingBenchmark {
+
+    @Param({"20", "100"})
+    private int rows;
+
+    private SpringTemplateEngine templateEngine;
+
+    private WebContext context;
+
+    private List<PostsListResponseDto> posts;
+
+    private PostsPageResponseDto page;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private JakartaServletWebApplication application;
+
+    private PostsFragmentCache fragmentCache;
+
+    private record Summary(Long getId, String getTitle, String getAuthor, Long getVersion) implements PostsSummary {
+    }
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);  // 운영 환경과 같이 파싱 결과를 캐시
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        posts = new ArrayList<>(rows);
+        for (int i = rows; i > 0; i--) {
+            posts.add(new PostsListResponseDto(new Summary((long) i, "제목" + i, "작성자" + i, 0L)));
+        }
+        page = new PostsPageResponseDto(posts, rows, true, true);
+
+        // @{...} 링크 표현식은 웹 컨텍스트가 있어야 처리할 수 있음
+        MockServletContext servletContext = new MockServletContext();
+        application = JakartaServletWebApplication.buildApplication(servletContext);
+        request = new MockHttpServletRequest(servletContext);
+        response = new MockHttpServletResponse();
+        context = new WebContext(application.buildExchange(request, response), Locale.KOREAN);
+
+        fragmentCache = new PostsFragmentCache(templateEngine, servletContext, 10_000, new SimpleMeterRegistry());
+        fragmentCache.rows(posts, request, response);  // 모든 행을 미리 캐시
+    }
+
+    @Benchmark
+    public String renderList() {
+        List<String> html = new ArrayList<>(posts.size());
+        for (PostsListResponseDto post : posts) {
+            WebContext rowContext = new WebContext(application.buildExchange(request, response), Locale.KOREAN,
+                    Map.of("post", post));
+            html.add(templateEngine.process("posts/fragments/posts-list-row", rowContext));
+        }
+        return renderPage(html);
+    }
+
+    @Benchmark
+    public String renderListFromFragments() {
+        return renderPage(fragmentCache.rows(posts, request, response));
+    }
+
+    private String renderPage(List<String> html) {
+        context.setVariables(Map.of("postsList", posts, "page", page, "rows", html));
+        return templateEngine.process("posts/posts-list", context);
+    }
+}
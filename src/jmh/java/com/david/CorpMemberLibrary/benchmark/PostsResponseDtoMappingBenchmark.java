@@ -0,0 +1,69 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity -> DTO 변환 벤치마크
+ *
+ * 행 수(rows)별로 PostsResponseDto(content 포함)와
+ * PostsListResponseDto(요약) 변환 비용을 비교합니다. DB는 사용하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsResponseDtoMappingBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    private int rows;
+
+    private List<Posts> posts;
+
+    private List<PostsSummary> summaries;
+
+    /**
+     * 요약 프로젝션 구현 (Spring Data가 만드는 프록시 대신 사용)
+     */
+    private record Summary(Long getId, String getTitle, String getAuthor, Long getVersion) implements PostsSummary {
+    }
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>(rows);
+        summaries = new ArrayList<>(rows);
+        String content = "이사회 구성원 소개 ".repeat(50);
+        for (int i = 0; i < rows; i++) {
+            posts.add(Posts.builder().title("제목" + i).content(content).author("작성자" + i).build());
+            summaries.add(new Summary((long) i, "제목" + i, "작성자" + i, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<PostsResponseDto> mapResponseDto() {
+        return posts.stream()
+                .map(PostsResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PostsListResponseDto> mapListResponseDto() {
+        return summaries.stream()
+                .map(PostsListResponseDto::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,116 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsFileFormat;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsImportService;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostsService 벤치마크 (서비스 + JPA + H2 전체 경로)
+ *
+ * rows 개의 게시글을 미리 저장한 뒤 저장/조회/목록/수정의 평균 소요 시간을 측정합니다.
+ * findById는 캐시 적중 경로와 캐시를 비운 DB 조회 경로를 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private PostsService postsService;
+
+    private PostsDetailCache postsDetailCache;
+
+    private long minId;
+
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        postsService = context.getBean(PostsService.class);
+        postsDetailCache = context.getBean(PostsDetailCache.class);
+
+        // 일괄 가져오기로 rows 건을 미리 저장
+        StringBuilder csv = new StringBuilder("title,content,author\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("제목").append(i).append(",이사회 구성원 소개 ").append(i).append(",작성자").append(i % 100).append('\n');
+        }
+        context.getBean(PostsImportService.class).importPosts(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), PostsFileFormat.CSV);
+
+        // 시퀀스로 연속된 ID가 할당되므로 가장 최신 ID로 범위를 계산
+        List<PostsListResponseDto> latest = postsService.findPage(null, 1, CursorDirection.NEXT).getPosts();
+        maxId = latest.get(0).getId();
+        minId = maxId - rows + 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+    }
+
+    @Benchmark
+    public Long save() {
+        return postsService.save(new PostsSaveRequestDto("벤치마크 제목", "벤치마크 내용", "벤치마크"));
+    }
+
+    @Benchmark
+    public PostsResponseDto findByIdCached() {
+        return postsService.findById(minId);
+    }
+
+    @Benchmark
+    public PostsResponseDto findByIdUncached() {
+        long id = randomId();
+        postsDetailCache.evict(id);
+        return postsService.findById(id);
+    }
+
+    @Benchmark
+    public List<PostsResponseDto> findAll() {
+        return postsService.findAll();
+    }
+
+    @Benchmark
+    public PostsPageResponseDto findPage() {
+        return postsService.findPage(randomId(), PostsService.DEFAULT_PAGE_SIZE, CursorDirection.NEXT);
+    }
+
+    @Benchmark
+    public Long update() {
+        long id = randomId();
+        return postsService.update(new PostsUpdateRequestDto(id, "수정 제목 " + id, "수정 내용", "작성자" + (id % 100)));
+    }
+}
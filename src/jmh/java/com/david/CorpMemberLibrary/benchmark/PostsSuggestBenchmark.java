@@ -0,0 +1,54 @@
+package com.david.CorpMemberLibrary.benchmark;
+
+import com.david.CorpMemberLibrary.service.posts.suggest.PostsSuggestIndex;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSuggestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성(PostsSuggestIndex) 조회 벤치마크
+ *
+ * 작성자 1만 명, 게시글 10만 건을 색인한 뒤 입력 길이(prefix)별 상위 10개 조회 시간을 측정합니다.
+ * 짧은 접두사일수록 일치하는 단어가 많지만, 서브트리 최대 가중치로 가지를 골라 내려가므로
+ * 조회 시간이 일치하는 단어 수에 비례하지 않아야 합니다. DB는 사용하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsSuggestBenchmark {
+
+    private static final String[] FAMILY = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+
+    private static final String[] TOPICS = {"이사회", "주주총회", "감사위원회", "재무보고", "사외이사", "ESG"};
+
+    @Param({"김", "김민", "이사회 소집"})
+    private String prefix;
+
+    private PostsSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new PostsSuggestIndex(null, null);
+        for (long id = 1; id <= 100_000; id++) {
+            String author = FAMILY[random.nextInt(FAMILY.length)] + "민" + random.nextInt(1_000);
+            String title = TOPICS[random.nextInt(TOPICS.length)] + " 소집 안내 " + random.nextInt(20_000);
+            index.put(id, author, title);
+        }
+    }
+
+    @Benchmark
+    public List<PostsSuggestionDto> suggest() {
+        return index.suggest(prefix, 10);
+    }
+}
@@ -0,0 +1,77 @@
+package com.david.CorpMemberLibrary.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 시스템 프로퍼티(loadTest.*)에서 읽습니다. Gradle에서는 -P로 넘기면 됩니다.
+ * 예: ./gradlew loadTest -PloadTest.concurrency=64 -PloadTest.duration=PT1M -PloadTest.mix=list:20,detail:70,save:10
+ *
+ * 기본 작업 비율은 조회만 합니다. 이미 떠 있는 서버(baseUrl)에 저장/수정/삭제를 보내려면
+ * loadTest.allowWrites=true를 함께 지정해야 합니다 (실수로 운영/스테이징 데이터를 바꾸지 않도록).
+ *
+ * @param baseUrl 대상 서버 주소 (비어 있으면 애플리케이션을 임의 포트로 직접 띄움)
+ * @param concurrency 동시 사용자 수 (사용자마다 가상 스레드 하나, 응답을 받으면 바로 다음 요청)
+ * @param warmup 측정 전 워밍업 시간 (JIT, 캐시 예열)
+ * @param duration 측정 시간
+ * @param seedRows 시작 전에 넣어 둘 게시글 수 (직접 띄울 때만)
+ * @param mix 작업별 가중치
+ * @param allowWrites baseUrl 대상에 쓰기 작업을 허용하는지 여부 (직접 띄울 때는 항상 허용)
+ * @param report 결과 파일 경로
+ */
+record LoadTestConfig(String baseUrl,
+                      int concurrency,
+                      Duration warmup,
+                      Duration duration,
+                      int seedRows,
+                      Map<Operation, Integer> mix,
+                      boolean allowWrites,
+                      String report) {
+
+    /**
+     * @throws IllegalArgumentException baseUrl 대상에 쓰기 작업이 있는데 allowWrites가 꺼져 있을 때
+     */
+    LoadTestConfig {
+        if (!baseUrl.isBlank() && !allowWrites && mix.keySet().stream().anyMatch(Operation::isWrite)) {
+            throw new IllegalArgumentException("대상 서버(" + baseUrl + ")에 쓰기 작업을 보내려면 "
+                    + "-PloadTest.allowWrites=true를 지정해야 합니다. mix=" + mix);
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadTest.baseUrl", ""),
+                Integer.getInteger("loadTest.concurrency", 32),
+                Duration.parse(System.getProperty("loadTest.warmup", "PT5S")),
+                Duration.parse(System.getProperty("loadTest.duration", "PT30S")),
+                Integer.getInteger("loadTest.seed", 10_000),
+                parseMix(System.getProperty("loadTest.mix", "list:30,detail:70")),
+                Boolean.getBoolean("loadTest.allowWrites"),
+                System.getProperty("loadTest.report", "build/reports/loadtest/report.txt"));
+    }
+
+    /**
+     * 작업 비율 파싱 (예: "list:30,detail:60,save:10")
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("작업 비율 형식이 잘못되었습니다 (예: list:30,detail:70). mix=" + mix);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("가중치가 0보다 큰 작업이 없습니다. mix=" + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,39 @@
+package com.david.CorpMemberLibrary.loadtest;
+
+/**
+ * 부하 테스트 작업 종류 (PostsController 엔드포인트)
+ */
+enum Operation {
+
+    /**
+     * GET /posts
+     */
+    LIST,
+
+    /**
+     * GET /posts/{id}
+     */
+    DETAIL,
+
+    /**
+     * POST /posts/save
+     */
+    SAVE,
+
+    /**
+     * POST /posts/update/{id}
+     */
+    UPDATE,
+
+    /**
+     * POST /posts/delete/{id}
+     */
+    DELETE;
+
+    /**
+     * @return 게시글을 바꾸는 작업인지 여부
+     */
+    boolean isWrite() {
+        return this == SAVE || this == UPDATE || this == DELETE;
+    }
+}
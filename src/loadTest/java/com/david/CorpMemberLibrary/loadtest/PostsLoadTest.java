@@ -0,0 +1,444 @@
+package com.david.CorpMemberLibrary.loadtest;
+
+import com.david.CorpMemberLibrary.CorpMemberLibraryApplication;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsFileFormat;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsImportService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostsController 부하 테스트
+ *
+ * 실행: ./gradlew loadTest
+ *       ./gradlew loadTest -PloadTest.concurrency=64 -PloadTest.duration=PT1M -PloadTest.mix=list:20,detail:70,save:10
+ *       ./gradlew loadTest -PloadTest.baseUrl=http://staging:8080  (이미 떠 있는 서버 대상, 데이터를 넣지 않음)
+ *       ./gradlew loadTest -PloadTest.baseUrl=http://staging:8080 -PloadTest.mix=detail:90,save:10 -PloadTest.allowWrites=true
+ *
+ * 기본 작업 비율은 조회만 하며(list:30,detail:70), 이미 떠 있는 서버에 쓰기 작업을 보내려면 allowWrites가 필요합니다.
+ *
+ * 진행 순서:
+ * 1. 애플리케이션을 임의 포트로 띄우고 seed 건수만큼 게시글을 넣음 (baseUrl이 없을 때)
+ * 2. /posts/export로 게시글 ID 목록을 받아 상세/수정/삭제 대상으로 사용
+ *    (저장한 게시글은 목록 첫 페이지에서 제목으로 ID를 찾아 추가, 삭제한 게시글은 목록에서 제거)
+ * 3. 동시 사용자 수만큼 가상 스레드가 작업 비율(mix)에 따라 실제 HTTP 요청을 보냄
+ *    (닫힌 루프: 응답을 받으면 바로 다음 요청. 서버가 느려지면 요청률도 같이 줄어드는 점에 주의)
+ * 4. 워밍업 이후 구간만 작업별 HdrHistogram에 기록하고 처리량과 p50/p99/p999를 출력
+ *
+ * 결과는 표준 출력과 loadTest.report 파일에 함께 기록하며,
+ * 파일에는 전체 요청의 백분위 분포(HdrHistogram 형식)도 붙여서 그래프로 비교할 수 있게 합니다.
+ */
+public final class PostsLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    /**
+     * 부하 테스트가 저장하는 게시글의 제목 접두어 (뒤에 실행 중 고유한 번호를 붙임)
+     */
+    private static final String SAVED_TITLE = "부하 테스트 저장 " + System.currentTimeMillis() + "-";
+
+    private final LoadTestConfig config;
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private final IdPool ids = new IdPool();
+
+    private final AtomicLong saved = new AtomicLong();
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private volatile boolean measuring;
+
+    private volatile boolean stopped;
+
+    private PostsLoadTest(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)  // 저장/수정/삭제의 302 응답을 그대로 측정
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += config.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));  // 유효 숫자 3자리, 나노초 단위 (범위는 자동 확장)
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        try {
+            if (baseUrl.isBlank()) {
+                context = startApplication();
+                seed(context, config.seedRows());
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            new PostsLoadTest(config, baseUrl).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션을 임의 포트로 시작 (측정에 영향을 주는 SQL 로그는 끔)
+     *
+     * application.properties의 SQL 로그 설정보다 우선하도록 명령행 인자로 넘깁니다.
+     */
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(CorpMemberLibraryApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=50",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+
+    /**
+     * 시작 데이터 넣기 (일괄 가져오기 서비스로 한 번에 저장)
+     */
+    private static void seed(ConfigurableApplicationContext context, int rows) throws IOException {
+        StringBuilder csv = new StringBuilder("title,content,author\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("부하 테스트 제목 ").append(i)
+                    .append(",부하 테스트 내용 ").append(i)
+                    .append(",작성자").append(i % 500).append('\n');
+        }
+        context.getBean(PostsImportService.class).importPosts(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), PostsFileFormat.CSV);
+    }
+
+    private void run() throws Exception {
+        loadIds();
+        System.out.printf("부하 테스트 시작: %s, 동시 사용자 %d, 워밍업 %s, 측정 %s, 대상 게시글 %d건%n",
+                baseUrl, config.concurrency(), config.warmup(), config.duration(), ids.size());
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                users.execute(this::user);
+            }
+            Thread.sleep(config.warmup().toMillis());
+            measuring = true;
+            long started = System.nanoTime();
+            Thread.sleep(config.duration().toMillis());
+            measuring = false;
+            long elapsedNanos = System.nanoTime() - started;
+            stopped = true;
+            report(elapsedNanos);
+        }
+    }
+
+    /**
+     * 가상 사용자 한 명 (닫힌 루프)
+     */
+    private void user() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!stopped) {
+            Operation operation = pick(random);
+            long started = System.nanoTime();
+            Outcome outcome;
+            try {
+                outcome = execute(operation, random);
+            } catch (IOException e) {
+                outcome = Outcome.FAILED;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (measuring) {
+                recorders.get(operation).recordValue(System.nanoTime() - started);
+                if (!outcome.ok()) {
+                    errors.get(operation).increment();
+                }
+            }
+            if (outcome.ok() && outcome.savedTitle() != null) {
+                // 지연 시간을 기록한 뒤에 조회하므로 저장 작업의 측정값에는 포함되지 않음 (서버 부하에는 포함됨)
+                try {
+                    addSaved(outcome.savedTitle());
+                } catch (IOException e) {
+                    // 찾지 못하면 대상 목록에 넣지 않고 넘어감
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * 작업 하나 실행
+     *
+     * @return 성공 여부(4xx/5xx가 아니면 성공)와 저장한 게시글의 제목
+     */
+    private Outcome execute(Operation operation, ThreadLocalRandom random) throws IOException, InterruptedException {
+        // 저장하는 게시글은 나중에 목록에서 찾을 수 있도록 실행 중 고유한 제목을 씀
+        String savedTitle = null;
+        HttpRequest request = switch (operation) {
+            case LIST -> get("/posts");
+            case DETAIL -> {
+                Long id = ids.random(random);
+                yield id == null ? get("/posts") : get("/posts/" + id);
+            }
+            case SAVE -> {
+                savedTitle = SAVED_TITLE + saved.incrementAndGet();
+                yield form("/posts/save", savedTitle, random);
+            }
+            case UPDATE -> {
+                Long id = ids.random(random);
+                if (id == null) {
+                    savedTitle = SAVED_TITLE + saved.incrementAndGet();
+                    yield form("/posts/save", savedTitle, random);
+                }
+                yield form("/posts/update/" + id, null, random);
+            }
+            case DELETE -> {
+                // 다른 사용자가 삭제된 게시글을 조회하지 않도록 요청 전에 목록에서 먼저 뺌
+                Long id = ids.removeRandom(random);
+                yield id == null ? get("/posts") : form("/posts/delete/" + id, null, random);
+            }
+        };
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        return new Outcome(response.statusCode() < 400, savedTitle);
+    }
+
+    /**
+     * 저장한 게시글도 상세/수정/삭제 대상에 넣어, 삭제가 이어져도 목록이 줄어들기만 하지 않게 함
+     *
+     * 저장 응답은 목록으로 리다이렉트할 뿐 새 ID를 알려주지 않으므로,
+     * 최신순인 목록 첫 페이지(최대 크기)에서 고유한 제목으로 새 게시글을 찾습니다.
+     * 그 사이 다른 사용자의 저장이 한 페이지 넘게 쌓이면 찾지 못하고 넘어갈 수 있습니다.
+     *
+     * @param title 저장한 게시글의 제목
+     */
+    private void addSaved(String title) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get("/posts?size=" + PostsService.MAX_PAGE_SIZE),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() != 200) {
+            return;
+        }
+        Matcher matcher = Pattern.compile("href=\"/posts/(\\d+)\"[^>]*>" + Pattern.quote(title) + "<")
+                .matcher(response.body());
+        if (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    /**
+     * 폼 요청 (title이 null이면 임의의 제목)
+     */
+    private HttpRequest form(String path, String title, ThreadLocalRandom random) {
+        int n = random.nextInt(1_000_000);
+        String body = "title=" + encode(title != null ? title : "부하 테스트 제목 " + n)
+                + "&content=" + encode("부하 테스트 내용 " + n)
+                + "&author=" + encode("작성자" + (n % 500));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * /posts/export(NDJSON)에서 게시글 ID 목록 읽기
+     */
+    private void loadIds() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get("/posts/export?format=NDJSON"),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("게시글 목록을 읽지 못했습니다. status=" + response.statusCode());
+        }
+        for (String line : response.body().split("\n")) {
+            Matcher matcher = ID.matcher(line);
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    /**
+     * 결과 출력 (표준 출력 + 파일)
+     */
+    private void report(long elapsedNanos) throws IOException {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Histogram total = null;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("PostsController 부하 테스트 결과 (%s)", baseUrl));
+        lines.add(String.format("동시 사용자 %d, 측정 %.1fs, 작업 비율 %s", config.concurrency(), seconds, config.mix()));
+        lines.add("");
+        lines.add(String.format("%-8s %10s %10s %8s %10s %10s %10s %10s",
+                "작업", "요청 수", "ops/s", "오류", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        long totalErrors = 0;
+        for (Operation operation : operations) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            lines.add(row(operation.name(), histogram, errorCount, seconds));
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            totalErrors += errorCount;
+        }
+        lines.add(row("TOTAL", total, totalErrors, seconds));
+
+        Path path = Path.of(config.report());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path), true, StandardCharsets.UTF_8)) {
+            lines.forEach(out::println);
+            out.println();
+            out.println("전체 요청 백분위 분포 (ms)");
+            total.outputPercentileDistribution(out, 1_000_000.0);
+        }
+        lines.forEach(System.out::println);
+        System.out.println();
+        System.out.println("결과 파일: " + path.toAbsolutePath());
+    }
+
+    private static String row(String name, Histogram histogram, long errorCount, double seconds) {
+        return String.format("%-8s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                errorCount,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 작업 결과
+     *
+     * @param ok 4xx/5xx가 아니면 true
+     * @param savedTitle 게시글을 저장했으면 그 제목, 아니면 null
+     */
+    private record Outcome(boolean ok, String savedTitle) {
+
+        static final Outcome FAILED = new Outcome(false, null);
+    }
+
+    /**
+     * 상세/수정/삭제 대상 게시글 ID 목록
+     */
+    private static final class IdPool {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final List<Long> ids = new ArrayList<>();
+
+        void add(Long id) {
+            lock.lock();
+            try {
+                ids.add(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Long random(ThreadLocalRandom random) {
+            lock.lock();
+            try {
+                return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 임의의 ID를 꺼내서 목록에서 제거 (마지막 원소와 바꿔서 O(1)로 제거)
+         */
+        Long removeRandom(ThreadLocalRandom random) {
+            lock.lock();
+            try {
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                int index = random.nextInt(ids.size());
+                Long id = ids.get(index);
+                ids.set(index, ids.getLast());
+                ids.removeLast();
+                return id;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return ids.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.david.CorpMemberLibrary.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (posts.datasource.routing.enabled=true일 때만 적용)
+ *
+ * 주(primary) DB와 읽기 전용 복제본(replica)에 커넥션 풀을 하나씩 만들고,
+ * 애플리케이션이 사용하는 DataSource는 트랜잭션의 읽기 전용 여부로 둘 중 하나를 고릅니다.
+ * - @Transactional(readOnly = true) 트랜잭션 -> 복제본 (복제 지연이 max-lag를 넘으면 주 DB)
+ * - 그 밖의 트랜잭션과 트랜잭션 밖의 쿼리 -> 주 DB
+ *
+ * 커넥션을 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 가져오도록
+ * LazyConnectionDataSourceProxy로 감쌉니다. 그래야 트랜잭션 매니저가 읽기 전용 표시를 한 뒤에
+ * 대상 풀이 정해집니다.
+ *
+ * 주의:
+ * - 복제본은 max-lag만큼 늦을 수 있음. 상세 캐시와 목록(/posts)은 변경 후 max-lag 동안
+ *   주 DB 값을 쓰지만(PostsDetailCache, PostsChangeTracker), 그 밖의 읽기 전용 조회에는 방금 쓴 글이 빠질 수 있음
+ * - 요청 전체에서 커넥션을 붙잡는 open-in-view는 꺼야 함 (spring.jpa.open-in-view=false)
+ */
+@Configuration  // Spring: 설정 클래스로 등록
+@ConditionalOnProperty(name = "posts.datasource.routing.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource.* 설정 사용)
+     *
+     * @param properties spring.datasource 설정
+     * @return 주 DB 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")  // Spring Boot: 풀 설정 바인딩
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀 (posts.datasource.replica.* 설정 사용)
+     *
+     * @return 복제본 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("posts.datasource.replica")  // Spring Boot: jdbc-url, username, password, 풀 설정 바인딩
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * 복제 지연 감시
+     *
+     * @param replicaDataSource 복제본 커넥션 풀
+     * @param maxLag 복제본으로 읽기를 보낼 수 있는 최대 지연
+     * @param lagQuery 지연 시간(초)을 반환하는 SQL
+     * @param meterRegistry 지표 저장소
+     * @return 복제 지연 감시
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${posts.datasource.routing.max-lag:5s}") Duration maxLag,
+                                               @Value("${posts.datasource.routing.lag-query:}") String lagQuery,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, lagQuery, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource (JPA, JdbcTemplate 등)
+     *
+     * @param primaryDataSource 주 DB 커넥션 풀
+     * @param replicaDataSource 복제본 커넥션 풀
+     * @param replicaLagMonitor 복제 지연 감시
+     * @param meterRegistry 지표 저장소
+     * @return 읽기 전용 여부로 대상을 고르는 DataSource
+     */
+    @Bean
+    @Primary  // Spring: DataSource가 여러 개일 때 기본으로 주입
+    public LazyConnectionDataSourceProxy dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                    @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                    ReplicaLagMonitor replicaLagMonitor,
+                                                    MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,68 @@
+package com.david.CorpMemberLibrary.config;
+
+import com.david.CorpMemberLibrary.config.sqlbudget.SqlStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 쿼리 계측 설정
+ *
+ * Spring Boot가 만든 DataSource(HikariCP)를 datasource-proxy로 감싸서
+ * JPA/Hibernate가 실행하는 모든 SQL의 실행 시간과 횟수를 기록합니다.
+ *
+ * 감싼 DataSource는 unwrap()으로 원래 HikariDataSource를 돌려주므로
+ * 커넥션 풀 지표(hikaricp.*)도 그대로 수집됩니다.
+ *
+ * SQL 예산(posts.sql-budget.enabled=true)을 켜면 요청/서비스 호출별 SQL 집계용 리스너도 붙이고,
+ * 읽은 행 수를 세기 위해 ResultSet도 프록시로 감쌉니다.
+ * 모든 JDBC 메서드 호출이 리스너를 거치므로 기본값은 꺼짐이며, 테스트(src/test/resources)에서 켭니다.
+ */
+@Configuration  // Spring: 설정 클래스로 등록
+public class JdbcMetricsConfig {
+
+    /**
+     * DataSource 빈을 프록시로 감싸는 후처리기
+     *
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언하고,
+     * MeterRegistry는 실제로 DataSource를 감쌀 때 ObjectProvider로 가져옵니다.
+     *
+     * 다른 DataSource 빈을 감싸기만 하는 DataSource(예: 읽기/쓰기 라우팅용 LazyConnectionDataSourceProxy)는
+     * 대상 풀이 이미 계측되므로 건너뜁니다 (같은 쿼리가 두 번 기록되지 않도록).
+     *
+     * @param meterRegistry 지표 저장소
+     * @param environment 설정 (posts.sql-budget.enabled 확인용)
+     * @return DataSource 후처리기
+     */
+    @Bean
+    public static BeanPostProcessor jdbcMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                       Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new JdbcMetricsListener(meterRegistry.getObject()));
+                if (environment.getProperty("posts.sql-budget.enabled", Boolean.class, false)) {
+                    SqlStatementListener sqlStatementListener = new SqlStatementListener();
+                    builder.listener(sqlStatementListener)
+                            .methodListener(sqlStatementListener)
+                            .proxyResultSet();
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.david.CorpMemberLibrary.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 쿼리 실행 시간/횟수를 Micrometer에 기록하는 리스너
+ *
+ * datasource-proxy가 Statement 실행을 가로챌 때마다 호출됩니다.
+ * - jdbc.query: DataSource 빈 이름, 쿼리 종류(select/insert/update/delete/other), 배치 여부, 성공 여부별 실행 시간
+ * - jdbc.query.batch.size: JDBC 배치 한 번에 묶인 문장 수
+ */
+class JdbcMetricsListener implements QueryExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+
+    JdbcMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 시간은 datasource-proxy가 측정하므로 여기서는 할 일이 없음
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryType type = queryInfoList.isEmpty()
+                ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+
+        Timer.builder("jdbc.query")
+                .description("JDBC 문장 실행 시간")
+                .tag("datasource", String.valueOf(execInfo.getDataSourceName()))
+                .tag("type", type.name().toLowerCase())
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("success", String.valueOf(execInfo.isSuccess()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        if (execInfo.isBatch()) {
+            DistributionSummary.builder("jdbc.query.batch.size")
+                    .description("JDBC 배치 한 번에 묶인 문장 수")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry)
+                    .record(execInfo.getBatchSize());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.david.CorpMemberLibrary.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션도 주 DB에서 읽도록 강제하는 표시 (현재 스레드)
+ *
+ * 방금 커밋한 변경이 복제본에 아직 없을 수 있는 동안, 그 변경을 반드시 보여야 하는 조회에 사용합니다.
+ * ReplicaRoutingDataSource는 실제 커넥션을 가져오는 시점에 이 값을 보므로,
+ * 트랜잭션 안에서는 첫 SQL이 실행되기 전에 표시해야 합니다.
+ *
+ * 읽기/쓰기 라우팅을 끄면 모든 조회가 주 DB이므로 아무 영향이 없습니다.
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadContext() {
+    }
+
+    /**
+     * @return 현재 스레드가 주 DB에서 읽어야 하는지 여부
+     */
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * 주 DB에서 읽도록 표시하고 작업 실행 (끝나면 이전 값으로 되돌림)
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.david.CorpMemberLibrary.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica)의 복제 지연 감시
+ *
+ * lag-check-interval마다 복제본에 lag-query를 실행해서 지연 시간(초)을 읽고,
+ * max-lag 이하일 때만 읽기 전용 트랜잭션을 복제본으로 보냅니다.
+ * 지연이 크거나 복제본에 연결할 수 없으면 다음 확인 때까지 읽기도 주(primary) DB에서 처리합니다.
+ *
+ * lag-query 예:
+ * - PostgreSQL: SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+ * - lag-query가 비어 있으면 연결 가능 여부만 확인 (지연 0으로 간주)
+ *
+ * 지표: posts.datasource.replica.lag(초, 확인 실패 시 NaN), posts.datasource.replica.available(1/0)
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+public class ReplicaLagMonitor {
+
+    /**
+     * 연결 확인 제한 시간 (초)
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replicaDataSource;
+
+    /**
+     * 복제본으로 읽기를 보낼 수 있는 최대 지연
+     */
+    private final Duration maxLag;
+
+    /**
+     * 지연 시간(초)을 반환하는 SQL (비어 있으면 연결만 확인)
+     */
+    private final String lagQuery;
+
+    /**
+     * 마지막으로 확인한 지연 시간 (초, 확인 실패 시 NaN)
+     */
+    private volatile double lagSeconds = Double.NaN;
+
+    /**
+     * 복제본으로 읽기를 보낼 수 있는지 여부 (첫 확인 전에는 주 DB 사용)
+     */
+    private volatile boolean available;
+
+    /**
+     * @param replicaDataSource 복제본 DataSource
+     * @param maxLag 복제본으로 읽기를 보낼 수 있는 최대 지연
+     * @param lagQuery 지연 시간(초)을 반환하는 SQL
+     * @param meterRegistry 지표 저장소
+     */
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, String lagQuery, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null ? "" : lagQuery.strip();
+        Gauge.builder("posts.datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("복제본 복제 지연 시간 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("posts.datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 복제본으로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 한 번 확인 (이후는 주기적으로 확인)
+     */
+    @PostConstruct
+    public void init() {
+        check();
+    }
+
+    /**
+     * 복제 지연 확인
+     *
+     * 상태가 바뀔 때만 로그를 남깁니다.
+     */
+    @Scheduled(initialDelayString = "${posts.datasource.routing.lag-check-interval:PT1S}",
+            fixedDelayString = "${posts.datasource.routing.lag-check-interval:PT1S}")  // Spring: 이전 실행이 끝난 뒤 interval마다 실행
+    public void check() {
+        double lag;
+        try {
+            lag = measureLag();
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            if (available) {
+                log.warn("복제본 지연 확인 실패, 읽기를 주 DB로 전환합니다: {}", e.getMessage());
+            }
+            available = false;
+            return;
+        }
+
+        lagSeconds = lag;
+        boolean usable = lag * 1000 <= maxLag.toMillis();
+        if (usable != available) {
+            if (usable) {
+                log.info("복제본 지연 {}초, 읽기를 복제본으로 전환합니다", lag);
+            } else {
+                log.warn("복제본 지연 {}초가 허용치 {}를 넘어 읽기를 주 DB로 전환합니다", lag, maxLag);
+            }
+        }
+        available = usable;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보낼 수 있는지 여부
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 마지막으로 확인한 지연 시간 (초, 확인 실패 시 NaN)
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private double measureLag() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (lagQuery.isEmpty()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("복제본 연결이 유효하지 않습니다.");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    throw new SQLException("지연 확인 쿼리 결과가 없습니다: " + lagQuery);
+                }
+                return Math.max(0, resultSet.getDouble(1));
+            }
+        }
+    }
+}
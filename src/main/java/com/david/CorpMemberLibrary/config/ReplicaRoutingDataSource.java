@@ -0,0 +1,60 @@
+package com.david.CorpMemberLibrary.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 커넥션을 복제본 또는 주 DB로 보내는 DataSource
+ *
+ * LazyConnectionDataSourceProxy의 읽기 전용 대상으로만 사용되므로
+ * 실제 커넥션을 가져오는 시점에 복제 지연 상태(ReplicaLagMonitor)를 보고 대상을 고릅니다.
+ * 주 DB 읽기가 표시된 스레드(PrimaryReadContext)는 복제본 상태와 상관없이 주 DB를 사용합니다.
+ *
+ * 지표: posts.datasource.reads (target=replica|primary, 읽기 전용 커넥션 수)
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Counter replicaReads;
+
+    private final Counter primaryReads;
+
+    ReplicaRoutingDataSource(DataSource primaryDataSource,
+                             DataSource replicaDataSource,
+                             ReplicaLagMonitor replicaLagMonitor,
+                             MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.replicaReads = readsCounter(meterRegistry, REPLICA);
+        this.primaryReads = readsCounter(meterRegistry, PRIMARY);
+        setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!PrimaryReadContext.isActive() && replicaLagMonitor.isAvailable()) {
+            replicaReads.increment();
+            return REPLICA;
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    private static Counter readsCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("posts.datasource.reads")
+                .description("읽기 전용 트랜잭션이 가져간 커넥션 수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
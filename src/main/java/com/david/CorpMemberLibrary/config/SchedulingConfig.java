@@ -0,0 +1,14 @@
+package com.david.CorpMemberLibrary.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * @Scheduled 메서드(예: 게시글 스냅샷 주기 저장)를 실행하도록 활성화합니다.
+ */
+@Configuration  // Spring: 설정 클래스로 등록
+@EnableScheduling  // Spring: @Scheduled 어노테이션 처리
+public class SchedulingConfig {
+}
@@ -0,0 +1,256 @@
+package com.david.CorpMemberLibrary.config.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기/목록 요청 수락 제어 필터 (과부하 시 빠른 거절)
+ *
+ * 과부하일 때 쓰기 요청과 목록(/posts) 요청이 톰캣 스레드 풀에 쌓이면
+ * 모든 요청이 함께 느려지다가 시간 초과로 실패합니다.
+ * 이 필터는 컨트롤러에 들어가기 전에 요청을 받아들일지 정하고, 받아들일 수 없으면 바로 거절합니다.
+ *
+ * 1. 클라이언트별 속도 제한 (TokenBucket): 넘으면 429 Too Many Requests
+ *    - 클라이언트는 posts.admission.client-key-header 헤더 값으로 구분하고,
+ *      설정하지 않았거나 헤더가 없으면 접속 IP(request.getRemoteAddr())로 구분 (요청 종류마다 버킷이 따로 있음)
+ *    - Retry-After: 다음 토큰이 채워질 때까지의 초
+ * 2. 요청 종류별 동시 처리 한도 (AimdConcurrencyLimit): 넘으면 503 Service Unavailable
+ *    - 응답 시간이 목표를 넘으면 한도를 줄이고, 목표 안이면 조금씩 늘림
+ *    - Retry-After: 1초
+ *
+ * 요청 종류:
+ * - write: POST /posts/save, /posts/update/{id}, /posts/delete/{id}, /posts/bulk/*
+ * - list: GET /posts
+ * 나머지 요청(상세 조회, 가져오기/내보내기, 변경 피드 등)은 제한하지 않습니다.
+ * (가져오기/내보내기와 변경 피드는 오래 걸리는 것이 정상이라 응답 시간으로 한도를 조절할 수 없음)
+ *
+ * 로드 밸런서/리버스 프록시 뒤에서 실행할 때:
+ * 접속 IP가 모두 프록시 주소가 되어 모든 클라이언트가 버킷 하나를 나눠 쓰게 됩니다. 둘 중 하나를 설정해야 합니다.
+ * - server.forward-headers-strategy=native 또는 framework: X-Forwarded-For의 클라이언트 IP가 접속 IP가 됨
+ *   (framework는 ForwardedHeaderFilter가 이 필터보다 먼저 실행됨)
+ * - posts.admission.client-key-header: 프록시가 넣는 클라이언트 식별 헤더 (예: X-Real-IP, API 키 헤더)
+ * 어느 쪽이든 클라이언트가 보낸 값을 프록시가 덮어쓰는 헤더만 사용해야 합니다 (아니면 헤더를 바꿔 제한을 피할 수 있음).
+ *
+ * 지표:
+ * - posts.admission.requests: 요청 수 (class=write|list, outcome=admitted|rate-limited|overloaded)
+ * - posts.admission.limit: 현재 동시 처리 한도 (class)
+ * - posts.admission.in-flight: 처리 중인 요청 수 (class)
+ *
+ * posts.admission.enabled=true 일 때만 등록됩니다.
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록 (서블릿 필터로 자동 등록)
+@ConditionalOnProperty(name = "posts.admission.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)  // Spring: 요청 관측 필터 뒤, 다른 필터보다 먼저 실행 (거절한 요청에 일을 하지 않도록)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    /**
+     * 제한하는 요청 종류
+     */
+    public enum EndpointClass {
+        WRITE, LIST;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 요청 종류 하나의 설정 (posts.admission.write.*, posts.admission.list.*)
+     *
+     * @param rate 클라이언트별 초당 요청 수
+     * @param burst 클라이언트별 한꺼번에 보낼 수 있는 요청 수
+     * @param initialConcurrency 시작 동시 처리 한도
+     * @param minConcurrency 최소 동시 처리 한도
+     * @param maxConcurrency 최대 동시 처리 한도
+     * @param targetLatency 목표 응답 시간
+     */
+    public record Settings(@DefaultValue("20") double rate,
+                           @DefaultValue("40") int burst,
+                           @DefaultValue("16") int initialConcurrency,
+                           @DefaultValue("2") int minConcurrency,
+                           @DefaultValue("64") int maxConcurrency,
+                           @DefaultValue("200ms") Duration targetLatency) {
+    }
+
+    private final Map<EndpointClass, Settings> settings = new EnumMap<>(EndpointClass.class);
+
+    private final Map<EndpointClass, AimdConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * 클라이언트 식별 헤더 이름 (비어 있으면 접속 IP 사용)
+     */
+    private final String clientKeyHeader;
+
+    /**
+     * 클라이언트별 토큰 버킷 ("종류 클라이언트" -> 버킷)
+     *
+     * 한동안 요청이 없던 클라이언트의 버킷은 어차피 가득 찬 상태이므로 지워도 결과가 같습니다.
+     */
+    private final Cache<String, TokenBucket> buckets;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param environment 요청 종류별 설정을 읽기 위한 설정
+     * @param backoffRatio 느린 응답마다 동시 처리 한도에 곱하는 비율
+     * @param maxClients 기억할 최대 클라이언트 수 (넘으면 오래 쓰지 않은 버킷부터 제거)
+     * @param clientIdle 요청이 없으면 버킷을 지우는 시간
+     * @param clientKeyHeader 클라이언트 식별 헤더 이름 (비어 있으면 접속 IP 사용)
+     * @param meterRegistry 지표 저장소
+     */
+    public AdmissionControlFilter(Environment environment,
+                                  @Value("${posts.admission.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${posts.admission.max-clients:10000}") long maxClients,
+                                  @Value("${posts.admission.client-idle:PT10M}") Duration clientIdle,
+                                  @Value("${posts.admission.client-key-header:}") String clientKeyHeader,
+                                  MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        for (EndpointClass type : EndpointClass.values()) {
+            Settings current = binder.bindOrCreate("posts.admission." + type.key(), Settings.class);
+            AimdConcurrencyLimit limit = new AimdConcurrencyLimit(current.initialConcurrency(),
+                    current.minConcurrency(), current.maxConcurrency(), current.targetLatency().toNanos(), backoffRatio);
+            settings.put(type, current);
+            limits.put(type, limit);
+            Gauge.builder("posts.admission.limit", limit, AimdConcurrencyLimit::limit)
+                    .description("현재 동시 처리 한도")
+                    .tag("class", type.key())
+                    .register(meterRegistry);
+            Gauge.builder("posts.admission.in-flight", limit, AimdConcurrencyLimit::inFlight)
+                    .description("처리 중인 요청 수")
+                    .tag("class", type.key())
+                    .register(meterRegistry);
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(clientIdle)
+                .build();
+        this.clientKeyHeader = clientKeyHeader.strip();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass type = classify(request);
+        if (type == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        Settings current = settings.get(type);
+        TokenBucket bucket = buckets.get(type.key() + " " + clientKey(request),
+                key -> new TokenBucket(current.rate(), current.burst(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            count(type, "rate-limited");
+            long retryAfterSeconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);  // 올림
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        AimdConcurrencyLimit limit = limits.get(type);
+        if (!limit.tryAcquire()) {
+            count(type, "overloaded");
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        count(type, "admitted");
+        boolean failed = true;
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - started, failed);
+        }
+    }
+
+    /**
+     * @param type 요청 종류
+     * @return 현재 동시 처리 한도 (테스트/모니터링용)
+     */
+    public int limitOf(EndpointClass type) {
+        return limits.get(type).limit();
+    }
+
+    /**
+     * 속도 제한에 쓰는 클라이언트 식별 값
+     *
+     * @return 식별 헤더 값 (여러 값이면 첫 번째), 없으면 접속 IP
+     */
+    private String clientKey(HttpServletRequest request) {
+        if (!clientKeyHeader.isEmpty()) {
+            String value = request.getHeader(clientKeyHeader);
+            if (value != null) {
+                int comma = value.indexOf(',');
+                String first = (comma < 0 ? value : value.substring(0, comma)).strip();
+                if (!first.isEmpty()) {
+                    return first;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 요청 종류 판별
+     *
+     * @return 제한하는 요청이면 종류, 아니면 null
+     */
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("GET".equals(request.getMethod())) {
+            return "/posts".equals(path) ? EndpointClass.LIST : null;
+        }
+        if ("POST".equals(request.getMethod()) && (path.equals("/posts/save")
+                || path.startsWith("/posts/update/")
+                || path.startsWith("/posts/delete/")
+                || path.startsWith("/posts/bulk/"))) {
+            return EndpointClass.WRITE;
+        }
+        return null;
+    }
+
+    private void count(EndpointClass type, String outcome) {
+        Counter.builder("posts.admission.requests")
+                .description("수락 제어를 거친 요청 수")
+                .tag("class", type.key())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+}
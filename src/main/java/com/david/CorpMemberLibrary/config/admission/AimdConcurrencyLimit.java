@@ -0,0 +1,93 @@
+package com.david.CorpMemberLibrary.config.admission;
+
+/**
+ * 응답 시간을 보고 스스로 조절하는 동시 처리 한도 (AIMD)
+ *
+ * - 응답이 목표 시간 안에 끝나면 한도를 조금씩 올림 (한도만큼 응답이 끝날 때마다 +1)
+ * - 목표 시간을 넘기거나 서버 오류(5xx)가 나면 한도를 비율(backoff-ratio)만큼 바로 줄임
+ *
+ * 한도를 넘는 요청은 기다리게 하지 않고 바로 거절합니다.
+ * 그래서 과부하일 때 톰캣 스레드와 DB 커넥션을 기다리는 요청이 쌓이지 않고,
+ * 받아들인 요청은 목표 시간 근처의 응답 시간을 유지합니다.
+ *
+ * 한도를 다 쓰지 않는 한가한 시간에는 한도를 올리지 않습니다
+ * (부하가 없을 때 한도만 커져 있다가 갑자기 몰린 요청을 모두 받아들이지 않도록).
+ */
+final class AimdConcurrencyLimit {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long targetLatencyNanos;
+
+    private final double backoffRatio;
+
+    private double limit;
+
+    private int inFlight;
+
+    /**
+     * @param initialLimit 시작 한도
+     * @param minLimit 최소 한도 (아무리 느려도 이만큼은 처리)
+     * @param maxLimit 최대 한도
+     * @param targetLatencyNanos 목표 응답 시간 (나노초)
+     * @param backoffRatio 느린 응답마다 한도에 곱하는 비율 (0 ~ 1)
+     */
+    AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도 범위가 잘못되었습니다. min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff-ratio는 0과 1 사이여야 합니다. value=" + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 처리 시작 시도
+     *
+     * @return 한도 안이면 true (끝나면 반드시 release 호출), 한도를 넘으면 false
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 처리 끝 (결과로 한도 조절)
+     *
+     * @param latencyNanos 처리 시간 (나노초)
+     * @param failed 서버 오류 여부
+     */
+    synchronized void release(long latencyNanos, boolean failed) {
+        boolean saturated = inFlight * 2 >= (int) limit;  // 한도의 절반 이상을 쓰고 있었는지
+        inFlight--;
+        if (failed || latencyNanos > targetLatencyNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * @return 현재 한도
+     */
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return 처리 중인 요청 수
+     */
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,49 @@
+package com.david.CorpMemberLibrary.config.admission;
+
+/**
+ * 클라이언트 하나의 요청 속도 제한 (토큰 버킷)
+ *
+ * 초당 rate개씩 토큰이 채워지고 최대 burst개까지 쌓입니다.
+ * 요청마다 토큰 하나를 쓰므로, 잠시 쉬었던 클라이언트는 burst개까지 한꺼번에 보낼 수 있고
+ * 오래 보면 초당 rate개를 넘지 못합니다.
+ *
+ * 토큰은 따로 채우지 않고 요청이 올 때 지난 시간만큼 한 번에 계산합니다 (타이머 스레드 없음).
+ */
+final class TokenBucket {
+
+    private final double capacity;
+
+    private final double tokensPerNano;
+
+    private double tokens;
+
+    private long refilledAt;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst 최대 토큰 수 (처음에는 가득 찬 상태)
+     * @param now 현재 시각 (System.nanoTime())
+     */
+    TokenBucket(double ratePerSecond, int burst, long now) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @param now 현재 시각 (System.nanoTime())
+     * @return 0이면 사용함, 아니면 다음 토큰이 채워질 때까지 남은 나노초
+     */
+    synchronized long tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+}
@@ -0,0 +1,48 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드 이름
+ *
+ * ShardRoutingDataSource는 실제 커넥션을 가져오는 시점에 이 값을 보고 대상 커넥션 풀을 고릅니다.
+ * 값이 없으면 첫 번째(기본) 샤드를 사용합니다.
+ *
+ * 트랜잭션 안에서는 첫 SQL이 실행되기 전에 샤드를 정해야 합니다.
+ * (커넥션을 한 번 가져온 트랜잭션은 커밋할 때까지 같은 샤드를 사용)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return 현재 스레드의 샤드 이름 (정하지 않았으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 샤드를 정해서 작업 실행 (끝나면 이전 값으로 되돌림)
+     *
+     * @param shard 샤드 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T call(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
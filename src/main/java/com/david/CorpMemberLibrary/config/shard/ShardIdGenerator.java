@@ -0,0 +1,22 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * 게시글 ID 생성기
+ *
+ * 샤드를 정한 스레드(ShardContext)에서 저장하면 시간순 ID(ShardIds)를 만들고,
+ * 그 밖에는 기존처럼 시퀀스(posts_seq)에서 ID를 받습니다.
+ * 샤딩을 끄면 샤드를 정하는 일이 없으므로 항상 시퀀스를 사용합니다.
+ */
+public class ShardIdGenerator extends SequenceStyleGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (ShardContext.current() != null) {
+            return ShardIds.next();
+        }
+        return super.generate(session, object);
+    }
+}
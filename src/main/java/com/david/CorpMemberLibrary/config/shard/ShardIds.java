@@ -0,0 +1,91 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import java.time.Instant;
+
+/**
+ * 샤드에 저장하는 게시글의 시간순 ID
+ *
+ * 샤드마다 시퀀스를 따로 쓰면 ID 크기가 샤드 순서를 따르므로, 여러 샤드의 목록을 ID로 병합하면
+ * 뒤쪽 샤드의 게시글이 작성 시각과 상관없이 항상 앞에 옵니다.
+ * 샤딩을 켜면 ID 앞부분을 작성 시각(초)으로 만들어 모든 샤드에서 ID 순서가 작성 순서를 따르게 합니다.
+ *
+ * ID 구조 (53비트, JavaScript 숫자로도 정확히 표현됨):
+ * <pre>
+ * [2025-01-01 UTC 이후 초 31비트][노드 6비트][같은 초 안의 순번 16비트]
+ * </pre>
+ * - 노드: 애플리케이션 인스턴스 번호 (posts.sharding.node-id, 인스턴스마다 달라야 함)
+ * - 순번: 1초에 65536개를 넘으면 다음 초를 미리 사용 (ID는 계속 증가하고 잠시 실제 시각보다 앞섬)
+ *
+ * 재시작 직후 이전 실행의 ID와 겹치지 않도록, 시작할 때 모든 샤드의 최대 ID 다음 초부터 사용합니다
+ * (ShardSchemaInitializer).
+ */
+public final class ShardIds {
+
+    /**
+     * 2025-01-01T00:00:00Z (epoch 초)
+     */
+    private static final long EPOCH_SECOND = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+
+    private static final int NODE_BITS = 6;
+
+    private static final int SEQUENCE_BITS = 16;
+
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static int node;
+
+    /**
+     * 마지막으로 사용한 초 (EPOCH_SECOND 기준)
+     */
+    private static long lastSecond = -1;
+
+    private static int sequence;
+
+    private ShardIds() {
+    }
+
+    /**
+     * @param nodeId 이 인스턴스의 노드 번호 (0 ~ MAX_NODE)
+     * @throws IllegalArgumentException 범위를 벗어날 때
+     */
+    static synchronized void configure(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("posts.sharding.node-id는 0 ~ " + MAX_NODE + " 사이여야 합니다. value=" + nodeId);
+        }
+        node = nodeId;
+    }
+
+    /**
+     * @return 새 ID (이 인스턴스에서 항상 증가)
+     */
+    public static synchronized long next() {
+        long second = Math.max(Instant.now().getEpochSecond() - EPOCH_SECOND, lastSecond);
+        if (second == lastSecond) {
+            if (sequence == MAX_SEQUENCE) {
+                second++;  // 이번 초의 순번을 다 썼으면 다음 초를 미리 사용
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastSecond = second;
+        return (second << (NODE_BITS + SEQUENCE_BITS)) | ((long) node << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 이미 저장된 ID 다음 초부터 사용
+     *
+     * @param id 저장된 ID
+     */
+    static synchronized void advancePast(long id) {
+        long second = id >>> (NODE_BITS + SEQUENCE_BITS);
+        if (second >= lastSecond) {
+            lastSecond = second + 1;
+            sequence = -1;  // 다음 ID의 순번이 0이 되도록
+        }
+    }
+}
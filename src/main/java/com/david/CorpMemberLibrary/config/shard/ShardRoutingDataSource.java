@@ -0,0 +1,41 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드의 샤드(ShardContext)에 해당하는 커넥션 풀로 커넥션을 보내는 DataSource
+ *
+ * 샤드를 정하지 않은 스레드는 첫 번째(기본) 샤드를 사용하고,
+ * 설정에 없는 샤드 이름이면 예외가 발생합니다 (기본 샤드로 조용히 보내지 않음).
+ *
+ * 컨텍스트가 종료될 때 모든 샤드의 커넥션 풀을 닫습니다.
+ */
+class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    /**
+     * @param pools 샤드 이름 -> 커넥션 풀 (설정 순서, 첫 번째가 기본 샤드)
+     */
+    ShardRoutingDataSource(Map<String, HikariDataSource> pools) {
+        this.pools = pools;
+        setTargetDataSources(new LinkedHashMap<>(pools));
+        setDefaultTargetDataSource(pools.values().iterator().next());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,69 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SchemaManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 기본 샤드 외 샤드의 스키마 준비와 ID 생성 시작점 설정
+ *
+ * Hibernate의 ddl-auto는 시작할 때 기본 샤드(첫 번째 샤드)에만 스키마를 만듭니다.
+ * ddl-auto가 create/create-drop이면 나머지 샤드에도 같은 스키마를 만듭니다.
+ * 그 밖의 ddl-auto(none, validate 등)에서는 스키마를 직접 같은 방식으로 준비해야 합니다.
+ *
+ * 샤드에 저장하는 게시글은 시간순 ID(ShardIds)를 사용하므로, 재시작 전에 만든 ID와 겹치지 않도록
+ * 모든 샤드의 최대 ID 이후부터 ID를 만들게 합니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final DataSource dataSource;
+
+    private final List<String> shards;
+
+    private final String ddlAuto;
+
+    ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, DataSource dataSource,
+                           List<String> shards, String ddlAuto) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.shards = shards;
+        this.ddlAuto = ddlAuto;
+    }
+
+    /**
+     * 모든 싱글톤 빈이 만들어진 뒤, 시작 시 색인 생성(ApplicationReadyEvent)보다 먼저 실행
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        boolean createSchema = "create".equals(ddlAuto) || "create-drop".equals(ddlAuto);
+        if (!createSchema) {
+            log.info("ddl-auto={}: 샤드 스키마를 만들지 않습니다. 샤드 {}에 posts 스키마가 있어야 합니다.", ddlAuto, shards);
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            String shard = shards.get(i);
+            boolean create = createSchema && i > 0;
+            ShardContext.call(shard, () -> {
+                if (create) {
+                    SchemaManager schemaManager = entityManagerFactory.getSchemaManager();
+                    schemaManager.drop(false);
+                    schemaManager.create(false);
+                }
+                Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from posts", Long.class);
+                ShardIds.advancePast(maxId);
+                return null;
+            });
+            if (create) {
+                log.info("샤드 스키마 생성 완료: {}", shard);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 법인(테넌트) 단위 샤딩 설정 (posts.sharding.enabled=true일 때만 적용)
+ *
+ * posts.sharding.shards에 나열한 샤드마다 커넥션 풀을 하나씩 만들고,
+ * 애플리케이션이 사용하는 DataSource는 현재 스레드의 샤드(ShardContext)로 커넥션 풀을 고릅니다.
+ * - 첫 번째 샤드: spring.datasource.* 설정 (기본 샤드, 샤드를 정하지 않은 작업도 여기로 감)
+ * - 나머지 샤드: posts.sharding.datasource.<샤드이름>.* 설정 (HikariCP 설정 이름 그대로 사용)
+ *
+ * 어느 법인이 어느 샤드에 있는지, 여러 샤드에 나누어 조회하는 방법은 PostsShards가 정합니다.
+ *
+ * 커넥션을 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 가져오도록
+ * LazyConnectionDataSourceProxy로 감쌉니다. 그래야 @Transactional 메서드 안에서
+ * 게시글이 있는 샤드를 찾은 뒤에 그 샤드의 커넥션을 사용할 수 있습니다.
+ *
+ * 주의:
+ * - 샤드 사이에는 분산 트랜잭션이 없으므로 여러 샤드에 걸친 일괄 변경은 샤드별로 커밋됨
+ * - 읽기/쓰기 라우팅(posts.datasource.routing.enabled)과는 함께 켤 수 없음
+ * - 첫 번째(기본) 샤드는 바꾸지 않아야 함 (샤드를 정하지 않은 작업이 사용)
+ * - 인스턴스를 여러 개 띄우면 posts.sharding.node-id를 인스턴스마다 다르게 설정 (ShardIds 참고)
+ */
+@Configuration  // Spring: 설정 클래스로 등록
+@ConditionalOnProperty(name = "posts.sharding.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+public class ShardingConfig {
+
+    /**
+     * @param routingEnabled 읽기/쓰기 라우팅 사용 여부
+     * @param nodeId 이 인스턴스의 ID 노드 번호 (0 ~ ShardIds.MAX_NODE)
+     * @throws IllegalStateException 읽기/쓰기 라우팅도 켜져 있을 때
+     */
+    public ShardingConfig(@Value("${posts.datasource.routing.enabled:false}") boolean routingEnabled,
+                          @Value("${posts.sharding.node-id:0}") int nodeId) {
+        if (routingEnabled) {
+            throw new IllegalStateException(
+                    "posts.sharding.enabled와 posts.datasource.routing.enabled는 함께 켤 수 없습니다.");
+        }
+        ShardIds.configure(nodeId);
+    }
+
+    /**
+     * 샤드별 커넥션 풀을 가진 라우팅 DataSource
+     *
+     * 빈으로 등록되므로 JDBC 쿼리 계측(JdbcMetricsConfig)이 이 DataSource를 감쌉니다.
+     *
+     * @param properties spring.datasource 설정 (첫 번째 샤드)
+     * @param environment 샤드별 접속 설정을 읽기 위한 설정
+     * @param shards 샤드 이름 목록 (설정 순서)
+     * @return 현재 스레드의 샤드로 커넥션 풀을 고르는 DataSource
+     */
+    @Bean
+    public DataSource shardDataSource(DataSourceProperties properties,
+                                      Environment environment,
+                                      @Value("${posts.sharding.shards}") List<String> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("posts.sharding.shards에 샤드가 하나 이상 필요합니다.");
+        }
+        Binder binder = Binder.get(environment);
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (String shard : shards) {
+            HikariDataSource pool;
+            if (pools.isEmpty()) {
+                pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+                binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            } else {
+                pool = binder.bind("posts.sharding.datasource." + shard, Bindable.ofInstance(new HikariDataSource()))
+                        .orElseThrow(() -> new IllegalStateException(
+                                "샤드 접속 설정이 없습니다: posts.sharding.datasource." + shard + ".jdbc-url"));
+            }
+            pool.setPoolName("shard-" + shard);
+            if (pools.putIfAbsent(shard, pool) != null) {
+                throw new IllegalStateException("샤드 이름이 중복되었습니다: " + shard);
+            }
+        }
+        return new ShardRoutingDataSource(pools);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource (JPA, JdbcTemplate 등)
+     *
+     * @param shardDataSource 샤드 라우팅 DataSource
+     * @return 첫 SQL 실행 시점에 샤드 커넥션을 가져오는 DataSource
+     */
+    @Bean
+    @Primary  // Spring: DataSource가 여러 개일 때 기본으로 주입
+    public LazyConnectionDataSourceProxy dataSource(@Qualifier("shardDataSource") DataSource shardDataSource) {
+        return new LazyConnectionDataSourceProxy(shardDataSource);
+    }
+
+    /**
+     * 기본 샤드 외 샤드의 스키마 준비와 ID 생성 시작점 설정
+     *
+     * @param entityManagerFactory 스키마 생성용
+     * @param dataSource 샤드별 최대 ID 조회용
+     * @param shards 샤드 이름 목록
+     * @param ddlAuto spring.jpa.hibernate.ddl-auto 설정
+     * @return 샤드 스키마 준비 작업
+     */
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         @Qualifier("dataSource") DataSource dataSource,
+                                                         @Value("${posts.sharding.shards}") List<String> shards,
+                                                         @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        return new ShardSchemaInitializer(entityManagerFactory, dataSource, shards, ddlAuto);
+    }
+}
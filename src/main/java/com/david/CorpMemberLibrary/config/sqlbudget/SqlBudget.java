@@ -0,0 +1,142 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HTTP 요청/서비스 호출별 SQL 예산
+ *
+ * 구간이 끝날 때 집계(SqlStatementScope)를 예산과 비교해서 넘은 항목을 경고 로그로 남깁니다.
+ * 요청/응답은 그대로 처리하며, 예산 초과로 실패시키지는 않습니다 (테스트에서는 집계 값을 직접 검증).
+ *
+ * 검사 항목:
+ * - statements: SQL 실행 횟수
+ * - rows: 읽은 행 수 (목록을 제한 없이 읽는 경우)
+ * - time: SQL 실행 시간 합계
+ * - repeated: 같은 SQL이 repeated-statement-threshold번 이상 실행됨 (N+1 의심)
+ *
+ * 지표:
+ * - posts.sql-budget.statements: 구간별 SQL 실행 횟수 분포 (scope=request|service, name)
+ * - posts.sql-budget.violations: 예산 초과 횟수 (scope, name, type)
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+@ConditionalOnProperty(name = "posts.sql-budget.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+public class SqlBudget {
+
+    /**
+     * 구간 종류
+     */
+    public enum Scope {
+        REQUEST, SERVICE
+    }
+
+    /**
+     * 구간 하나의 예산
+     *
+     * @param maxStatements 최대 SQL 실행 횟수
+     * @param maxRows 최대 읽은 행 수
+     * @param maxTime 최대 SQL 실행 시간 합계
+     */
+    public record Limits(int maxStatements, long maxRows, Duration maxTime) {
+    }
+
+    private final Limits requestLimits;
+
+    private final Limits serviceLimits;
+
+    /**
+     * 같은 SQL이 이 횟수 이상 실행되면 N+1로 판단
+     */
+    private final int repeatedStatementThreshold;
+
+    /**
+     * 검사하지 않는 요청 (URL 패턴, 예: 전체 내보내기)
+     */
+    private final Set<String> excludedRequests;
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudget(@Value("${posts.sql-budget.request.max-statements:20}") int requestMaxStatements,
+                     @Value("${posts.sql-budget.request.max-rows:1000}") long requestMaxRows,
+                     @Value("${posts.sql-budget.request.max-time:500ms}") Duration requestMaxTime,
+                     @Value("${posts.sql-budget.service.max-statements:10}") int serviceMaxStatements,
+                     @Value("${posts.sql-budget.service.max-rows:1000}") long serviceMaxRows,
+                     @Value("${posts.sql-budget.service.max-time:200ms}") Duration serviceMaxTime,
+                     @Value("${posts.sql-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold,
+                     @Value("${posts.sql-budget.request.exclude:}") Set<String> excludedRequests,
+                     MeterRegistry meterRegistry) {
+        this.requestLimits = new Limits(requestMaxStatements, requestMaxRows, requestMaxTime);
+        this.serviceLimits = new Limits(serviceMaxStatements, serviceMaxRows, serviceMaxTime);
+        this.repeatedStatementThreshold = Math.max(2, repeatedStatementThreshold);
+        this.excludedRequests = excludedRequests;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 끝난 구간을 예산과 비교해서 넘은 항목을 기록
+     *
+     * @param scope 구간 종류
+     * @param name 구간 이름 (요청: "GET /posts/{id}", 서비스: "PostsService.findPage")
+     * @param stats 구간 집계
+     * @return 넘은 항목 설명 (없으면 빈 목록)
+     */
+    public List<String> check(Scope scope, String name, SqlStatementScope stats) {
+        if (scope == Scope.REQUEST && excludedRequests.contains(name.substring(name.indexOf(' ') + 1))) {
+            return List.of();
+        }
+        String scopeTag = scope.name().toLowerCase(Locale.ROOT);
+        DistributionSummary.builder("posts.sql-budget.statements")
+                .description("구간별 SQL 실행 횟수")
+                .tag("scope", scopeTag)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        Limits limits = scope == Scope.REQUEST ? requestLimits : serviceLimits;
+        List<String> violations = new ArrayList<>();
+        if (stats.getStatements() > limits.maxStatements()) {
+            violations.add(violation(scopeTag, name, "statements",
+                    "SQL " + stats.getStatements() + "회 (예산 " + limits.maxStatements() + "회)"));
+        }
+        if (stats.getRows() > limits.maxRows()) {
+            violations.add(violation(scopeTag, name, "rows",
+                    "읽은 행 " + stats.getRows() + "건 (예산 " + limits.maxRows() + "건)"));
+        }
+        if (stats.getJdbcMillis() > limits.maxTime().toMillis()) {
+            violations.add(violation(scopeTag, name, "time",
+                    "SQL 시간 " + stats.getJdbcMillis() + "ms (예산 " + limits.maxTime().toMillis() + "ms)"));
+        }
+        if (stats.getMaxRepeats() >= repeatedStatementThreshold) {
+            violations.add(violation(scopeTag, name, "repeated",
+                    "같은 SQL " + stats.getMaxRepeats() + "회 반복 (N+1 의심): " + stats.getMostRepeatedSql()));
+        }
+
+        if (!violations.isEmpty()) {
+            log.warn("SQL 예산 초과 [{} {}] {}", scopeTag, name, String.join(", ", violations));
+        }
+        return violations;
+    }
+
+    private String violation(String scopeTag, String name, String type, String message) {
+        Counter.builder("posts.sql-budget.violations")
+                .description("SQL 예산 초과 횟수")
+                .tag("scope", scopeTag)
+                .tag("name", name)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+        return message;
+    }
+}
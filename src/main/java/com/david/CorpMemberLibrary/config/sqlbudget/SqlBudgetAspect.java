@@ -0,0 +1,39 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostsService 호출 하나에서 실행된 SQL을 집계해서 예산과 비교하는 애스펙트
+ *
+ * 트랜잭션보다 바깥에서 실행되도록 가장 높은 우선순위로 두어,
+ * 커밋 시점의 flush와 커밋 이후 이벤트 처리에서 실행된 SQL도 그 호출에 포함합니다.
+ * 구간 이름은 "PostsService.메서드이름"입니다.
+ */
+@Aspect  // AspectJ: 애스펙트로 등록
+@Component  // Spring: 이 클래스를 빈으로 등록
+@Order(Ordered.HIGHEST_PRECEDENCE)  // Spring: @Transactional보다 바깥에서 실행
+@ConditionalOnProperty(name = "posts.sql-budget.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class SqlBudgetAspect {
+
+    private final SqlBudget sqlBudget;
+
+    @Around("execution(public * com.david.CorpMemberLibrary.service.posts.PostsService.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = "PostsService." + joinPoint.getSignature().getName();
+        SqlStatementScope scope = SqlStatements.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            sqlBudget.check(SqlBudget.Scope.SERVICE, name, scope);
+        }
+    }
+}
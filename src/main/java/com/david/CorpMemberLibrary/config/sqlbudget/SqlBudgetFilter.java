@@ -0,0 +1,49 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL을 집계해서 예산과 비교하는 필터
+ *
+ * 뷰 렌더링까지 포함한 요청 전체가 한 구간입니다.
+ * 구간 이름은 "메서드 URL패턴"(예: GET /posts/{id})이고, 매핑되지 않은 요청은 "메서드 UNMATCHED"입니다.
+ *
+ * 집계 결과는 요청 속성(SCOPE_ATTRIBUTE)에 남기므로 MockMvc 테스트에서 꺼내 검증할 수 있습니다.
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록 (서블릿 필터로 자동 등록)
+@ConditionalOnProperty(name = "posts.sql-budget.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    /**
+     * 요청의 SQL 집계(SqlStatementScope)를 담는 요청 속성 이름
+     */
+    public static final String SCOPE_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".scope";
+
+    private final SqlBudget sqlBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatements.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlBudget.check(SqlBudget.Scope.REQUEST,
+                    request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED"), scope);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy가 가로챈 JDBC 호출을 현재 스레드의 SQL 집계 구간에 기록하는 리스너
+ *
+ * - 문장 실행: afterQuery에서 SQL과 실행 시간 기록
+ * - 읽은 행: ResultSet.next()가 true를 반환할 때마다 기록 (ResultSet 프록시 필요)
+ *
+ * 현재 스레드에 열린 집계 구간이 없으면 아무것도 하지 않고 바로 돌아갑니다.
+ */
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 시간은 datasource-proxy가 측정하므로 여기서는 할 일이 없음
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!SqlStatements.isActive()) {
+            return;
+        }
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        SqlStatements.recordStatement(sql, execInfo.getElapsedTime());
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        // 메서드 실행 결과만 사용
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (SqlStatements.isActive()
+                && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlStatements.recordRow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 구간(HTTP 요청, 서비스 호출, 테스트 블록)에서 실행된 SQL 집계
+ *
+ * SqlStatements.open()으로 열고 close()로 닫으며, 열려 있는 동안 같은 스레드에서 실행된
+ * 모든 JDBC 문장이 기록됩니다. 구간은 중첩될 수 있고, 문장은 열려 있는 모든 구간에 기록됩니다.
+ *
+ * 집계 기준:
+ * - statements: JDBC 실행 횟수 (JDBC 배치 한 번은 1회)
+ * - rows: ResultSet에서 읽은 행 수 (INSERT/UPDATE/DELETE로 변경된 행은 포함하지 않음)
+ * - jdbcMillis: 문장 실행 시간 합계
+ * - 같은 SQL이 반복된 횟수 (파라미터만 다른 같은 쿼리가 반복되면 N+1 의심)
+ *
+ * 한 스레드에서만 사용되므로 동기화하지 않습니다.
+ *
+ * 테스트 예:
+ * <pre>
+ * try (SqlStatementScope sql = SqlStatements.open("목록 조회")) {
+ *     postsService.findPage(null, 20, CursorDirection.NEXT);
+ *     assertThat(sql.getStatements()).isLessThanOrEqualTo(2);
+ * }
+ * </pre>
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private final String name;
+
+    private int statements;
+
+    private long rows;
+
+    private long jdbcMillis;
+
+    /**
+     * SQL -> 실행 횟수
+     */
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    SqlStatementScope(String name) {
+        this.name = name;
+    }
+
+    void recordStatement(String sql, long elapsedMillis) {
+        statements++;
+        jdbcMillis += elapsedMillis;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    /**
+     * 구간 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * JDBC 실행 횟수
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * ResultSet에서 읽은 행 수
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 문장 실행 시간 합계 (밀리초)
+     */
+    public long getJdbcMillis() {
+        return jdbcMillis;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL의 실행 횟수 (실행된 문장이 없으면 0)
+     */
+    public int getMaxRepeats() {
+        return executions.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * 가장 많이 반복된 SQL (실행된 문장이 없으면 null)
+     */
+    public String getMostRepeatedSql() {
+        return executions.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    /**
+     * 구간 닫기 (이후 실행되는 문장은 기록되지 않음)
+     */
+    @Override
+    public void close() {
+        SqlStatements.close(this);
+    }
+
+    @Override
+    public String toString() {
+        return name + " [statements=" + statements + ", rows=" + rows + ", jdbc=" + jdbcMillis
+                + "ms, maxRepeats=" + getMaxRepeats() + "]";
+    }
+}
@@ -0,0 +1,74 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에 열려 있는 SQL 집계 구간 관리
+ *
+ * 구간이 하나도 없으면 기록을 건너뛰므로 집계 대상이 아닌 쿼리(시작 시 색인 생성,
+ * 쓰기 지연 큐 작업 스레드 등)에는 비용이 거의 들지 않습니다.
+ */
+public final class SqlStatements {
+
+    /**
+     * 현재 스레드에 열려 있는 구간 (바깥 구간이 아래)
+     */
+    private static final ThreadLocal<Deque<SqlStatementScope>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatements() {
+    }
+
+    /**
+     * 구간 열기 (try-with-resources로 닫기)
+     *
+     * @param name 구간 이름 (로그/지표용)
+     * @return 열린 구간
+     */
+    public static SqlStatementScope open(String name) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        SqlStatementScope scope = new SqlStatementScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    /**
+     * @return 현재 스레드에 열린 구간이 있는지 여부
+     */
+    static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    static void close(SqlStatementScope scope) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static void recordStatement(String sql, long elapsedMillis) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (SqlStatementScope scope : scopes) {
+                scope.recordStatement(sql, elapsedMillis);
+            }
+        }
+    }
+
+    static void recordRow() {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (SqlStatementScope scope : scopes) {
+                scope.recordRow();
+            }
+        }
+    }
+}
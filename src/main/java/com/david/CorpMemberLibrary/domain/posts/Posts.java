@@ -1,9 +1,15 @@
 package com.david.CorpMemberLibrary.domain.posts;
 
+import com.david.CorpMemberLibrary.config.shard.ShardIdGenerator;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import java.time.LocalDateTime;
 
 /**
  * 게시글 엔티티 클래스
@@ -12,15 +18,31 @@ import lombok.NoArgsConstructor;
 @Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
 @NoArgsConstructor  // Lombok: 기본 생성자 자동 생성 (JPA 필수)
 @Entity  // JPA: 이 클래스를 엔티티로 지정
-@Table(name = "posts")  // JPA: 데이터베이스 테이블명을 "posts"로 지정
+@Table(name = "posts", indexes = @Index(name = "idx_posts_corporation_id", columnList = "corporation, id"))  // JPA: 테이블명 "posts", 법인별 목록 조회용 (법인, id) 인덱스
 public class Posts {
 
+    /**
+     * 법인을 지정하지 않은 게시글의 법인 키
+     */
+    public static final String DEFAULT_CORPORATION = "default";
+
     /**
      * 게시글 고유 ID (기본키)
-     * 데이터베이스에서 자동으로 증가하는 값으로 생성됩니다.
+     * 데이터베이스 시퀀스(posts_seq)에서 생성됩니다.
+     * 
+     * IDENTITY(AUTO_INCREMENT) 전략은 INSERT를 실행해야 ID를 알 수 있어
+     * Hibernate가 INSERT를 JDBC 배치로 묶지 못합니다.
+     * 시퀀스 전략은 allocationSize만큼 ID를 미리 할당받으므로
+     * 시퀀스 조회 없이 여러 건의 INSERT를 한 번에 보낼 수 있습니다.
+     * 
+     * 샤딩을 켜면 샤드에 저장하는 게시글은 시퀀스 대신 시간순 ID를 사용합니다 (ShardIdGenerator).
      */
     @Id  // JPA: 기본키로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // JPA: ID 자동 생성 전략 (AUTO_INCREMENT)
+    @GeneratedValue(generator = "posts_seq_generator")  // JPA: 아래 생성기로 ID 생성
+    @GenericGenerator(name = "posts_seq_generator", type = ShardIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "posts_seq"),
+            @Parameter(name = "increment_size", value = "50")
+    })  // Hibernate: 시퀀스 생성기 (50개씩 미리 할당, 샤드 저장 시 시간순 ID)
     private Long id;
 
 
@@ -32,10 +54,22 @@ public class Posts {
     private String title;
 
     /**
-     * 게시글 내용
-     * TEXT 타입으로 저장되며, 필수 입력 항목입니다.
+     * 게시글 내용 (저장 형식)
+     * 
+     * PostsContentCodec 형식의 바이너리로 저장되며, 필수 입력 항목입니다.
+     * 일정 크기 이상의 내용은 압축되어 DB(인메모리 H2 -> JVM 힙)에 저장됩니다.
+     * 
+     * 엔티티를 읽을 때는 압축된 바이트만 가져오고,
+     * getContent()를 호출할 때 처음 한 번만 압축을 풉니다 (지연 복원).
+     */
+    @Column(name = "content", columnDefinition = "VARBINARY", nullable = false)  // JPA: BLOB(별도 LOB 저장소) 대신 행 안에 저장되는 VARBINARY, NOT NULL
+    private byte[] encodedContent;
+
+    /**
+     * 복원한 게시글 내용 (DB에 저장하지 않음)
      */
-    @Column(columnDefinition = "TEXT", nullable = false)  // JPA: TEXT 타입, NOT NULL 제약조건
+    @Transient  // JPA: 컬럼에 매핑하지 않음
+    @Getter(AccessLevel.NONE)  // Lombok: getter 생성 안 함 (getContent()로 접근)
     private String content;
 
     /**
@@ -44,6 +78,31 @@ public class Posts {
      */
     private String author;
 
+    /**
+     * 게시글이 속한 법인(테넌트) 키
+     * 
+     * 샤딩(posts.sharding.enabled=true)을 켜면 이 값으로 게시글을 저장할 DB(샤드)가 정해지므로
+     * 저장한 뒤에는 바꾸지 않습니다. 지정하지 않으면 DEFAULT_CORPORATION입니다.
+     */
+    @Column(length = 100, nullable = false, updatable = false)  // JPA: 컬럼 길이 100, NOT NULL, UPDATE 대상에서 제외
+    private String corporation;
+
+    /**
+     * 게시글 버전 (낙관적 잠금)
+     * 
+     * 더티 체킹으로 UPDATE가 실행될 때마다 Hibernate가 1씩 증가시킵니다.
+     * 상세 페이지의 ETag를 만들 때 사용하므로, 일괄 변경 쿼리에서도 직접 증가시켜야 합니다.
+     */
+    @Version  // JPA: 버전 컬럼 (UPDATE 시 자동 증가, 동시 수정 충돌 감지)
+    private Long version;
+
+    /**
+     * 마지막 수정 시각 (저장 시각 포함)
+     * 
+     * 상세 페이지의 Last-Modified 헤더로 사용합니다.
+     */
+    private LocalDateTime modifiedDate;
+
     /**
      * 빌더 패턴을 사용한 생성자
      * @Builder 어노테이션으로 빌더 클래스가 자동 생성됩니다.
@@ -53,13 +112,43 @@ public class Posts {
      *     .title("제목")
      *     .content("내용")
      *     .author("작성자")
+     *     .corporation("법인")  // 생략하면 DEFAULT_CORPORATION
      *     .build();
      */
     @Builder  // Lombok: 빌더 패턴 자동 생성
-    public Posts(String title, String content,String author) {
+    public Posts(String title, String content, String author, String corporation) {
         this.title = title;
-        this.content = content;
+        setContent(content);
         this.author = author;
+        this.corporation = normalizeCorporation(corporation);
+    }
+
+    /**
+     * 법인 키 정리 (앞뒤 공백 제거, 비어 있으면 DEFAULT_CORPORATION)
+     * 
+     * @param corporation 요청한 법인 키 (null 가능)
+     * @return 저장/라우팅에 사용할 법인 키
+     */
+    public static String normalizeCorporation(String corporation) {
+        if (corporation == null || corporation.isBlank()) {
+            return DEFAULT_CORPORATION;
+        }
+        return corporation.strip();
+    }
+
+    /**
+     * 게시글 내용 조회
+     * 
+     * 저장 형식(encodedContent)을 처음 호출할 때 복원하고, 이후에는 복원한 값을 재사용합니다.
+     * 목록 화면처럼 내용이 필요 없는 조회에서는 압축을 풀지 않습니다.
+     * 
+     * @return 게시글 내용
+     */
+    public String getContent() {
+        if (content == null && encodedContent != null) {
+            content = PostsContentCodec.decode(encodedContent);
+        }
+        return content;
     }
     
     /**
@@ -79,7 +168,21 @@ public class Posts {
         // Entity의 필드를 직접 수정
         // JPA의 더티 체킹(Dirty Checking)으로 자동으로 UPDATE 쿼리 실행
         this.title = title;
-        this.content = content;
+        setContent(content);
         this.author = author;
     }
+
+    private void setContent(String content) {
+        this.content = content;
+        this.encodedContent = PostsContentCodec.encode(content);
+    }
+
+    /**
+     * INSERT/UPDATE 직전에 수정 시각 기록
+     */
+    @PrePersist  // JPA: INSERT 전에 호출
+    @PreUpdate  // JPA: UPDATE 전에 호출 (변경된 필드가 있을 때만)
+    void touch() {
+        this.modifiedDate = LocalDateTime.now();
+    }
 }
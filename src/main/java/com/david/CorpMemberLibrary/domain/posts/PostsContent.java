@@ -0,0 +1,24 @@
+package com.david.CorpMemberLibrary.domain.posts;
+
+/**
+ * 게시글 내용 프로젝션
+ *
+ * 일괄 수정 후처럼 이미 다른 값은 알고 있고 내용만 필요할 때,
+ * 엔티티 전체 대신 id와 저장 형식의 내용 컬럼만 SELECT 하는 조회에 사용합니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에도 올라가지 않습니다.
+ */
+public interface PostsContent {
+
+    Long getId();
+
+    byte[] getEncodedContent();
+
+    /**
+     * 복원한 게시글 내용
+     *
+     * @return 게시글 내용
+     */
+    default String getContent() {
+        return PostsContentCodec.decode(getEncodedContent());
+    }
+}
@@ -0,0 +1,141 @@
+package com.david.CorpMemberLibrary.domain.posts;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 내용(content) 저장 형식 변환기
+ *
+ * 인메모리 H2에서는 내용 컬럼의 모든 바이트가 JVM 힙에 올라가므로,
+ * 일정 크기 이상의 내용은 DEFLATE로 압축한 바이너리로 저장합니다.
+ *
+ * 저장 형식 (첫 바이트로 구분):
+ * <pre>
+ * [0][UTF-8 바이트]                       : 압축하지 않은 내용
+ * [1][원본 UTF-8 길이 int][DEFLATE 데이터] : 압축한 내용
+ * </pre>
+ *
+ * 압축하지 않는 경우:
+ * 1. UTF-8로 COMPRESSION_THRESHOLD 바이트 미만인 짧은 내용 (압축 효과보다 CPU 비용이 큼)
+ * 2. 압축해도 크기가 줄지 않는 내용
+ */
+public final class PostsContentCodec {
+
+    /**
+     * 이 크기(UTF-8 바이트) 이상일 때만 압축을 시도
+     */
+    public static final int COMPRESSION_THRESHOLD = 256;
+
+    private static final byte RAW = 0;
+
+    private static final byte DEFLATE = 1;
+
+    /**
+     * 압축 헤더 크기 (형식 1바이트 + 원본 길이 4바이트)
+     */
+    private static final int DEFLATE_HEADER = 5;
+
+    private PostsContentCodec() {
+    }
+
+    /**
+     * 내용을 저장 형식으로 변환
+     *
+     * @param content 게시글 내용 (null이면 null 반환)
+     * @return 저장할 바이트 배열
+     */
+    public static byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length + 1) {
+                return compressed;
+            }
+        }
+        byte[] stored = new byte[raw.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(raw, 0, stored, 1, raw.length);
+        return stored;
+    }
+
+    /**
+     * 저장 형식을 내용으로 복원
+     *
+     * @param stored 저장된 바이트 배열 (null이면 null 반환)
+     * @return 게시글 내용
+     * @throws IllegalStateException 저장 형식이 잘못되었을 때
+     */
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length == 0) {
+            throw new IllegalStateException("게시글 내용 형식이 잘못되었습니다. length=0");
+        }
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("게시글 내용 형식이 잘못되었습니다. type=" + stored[0]);
+        };
+    }
+
+    /**
+     * 저장된 내용이 압축되어 있는지 확인
+     *
+     * @param stored 저장된 바이트 배열
+     * @return 압축 여부
+     */
+    public static boolean isCompressed(byte[] stored) {
+        return stored != null && stored.length > 0 && stored[0] == DEFLATE;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 2 + DEFLATE_HEADER);
+            output.write(DEFLATE);
+            output.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(raw.length).array());
+            byte[] buffer = new byte[Math.min(raw.length, 8192)];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();  // 네이티브 메모리 즉시 해제
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        if (stored.length < DEFLATE_HEADER) {
+            throw new IllegalStateException("게시글 내용 형식이 잘못되었습니다. length=" + stored.length);
+        }
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        byte[] raw = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER, stored.length - DEFLATE_HEADER);
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("게시글 내용 압축 데이터가 잘렸습니다.");
+                }
+                read += n;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 내용 압축 데이터가 잘못되었습니다.", e);
+        } finally {
+            inflater.end();  // 네이티브 메모리 즉시 해제
+        }
+    }
+}
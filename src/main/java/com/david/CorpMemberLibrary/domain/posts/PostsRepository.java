@@ -1,6 +1,18 @@
 package com.david.CorpMemberLibrary.domain.posts;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 게시글 데이터 접근 계층 (Repository)
@@ -30,4 +42,224 @@ public interface PostsRepository extends JpaRepository<Posts,Long>  {
     // - Posts: 엔티티 타입
     // - Long: 엔티티의 ID 타입
 
+    /**
+     * 목록 화면 첫 페이지 요약 조회 (최신 글부터)
+     *
+     * 커서(cursor) 기반 페이지네이션의 시작점입니다.
+     * content(TEXT) 컬럼은 읽지 않고 id, title, author, version만 SELECT 합니다.
+     *
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p order by p.id desc")
+    List<PostsSummary> findSummaries(Limit limit);
+
+    /**
+     * 목록 화면 다음 페이지 요약 조회 (커서보다 오래된 글)
+     *
+     * 기본키 인덱스에서 커서 위치로 바로 탐색(seek)하므로
+     * 몇 번째 페이지이든 조회 비용이 일정합니다.
+     *
+     * @param cursor 현재 페이지의 마지막 게시글 ID
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p"
+            + " where p.id < :cursor order by p.id desc")
+    List<PostsSummary> findSummariesBefore(@Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 목록 화면 이전 페이지 요약 조회 (커서보다 최신 글)
+     *
+     * 커서에 가까운 글부터 읽어야 하므로 오름차순으로 조회하며,
+     * 화면 순서(내림차순)로 뒤집는 것은 Service 계층에서 처리합니다.
+     *
+     * @param cursor 현재 페이지의 첫 번째 게시글 ID
+     * @param limit 가져올 최대 행 수
+     * @return id 오름차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p"
+            + " where p.id > :cursor order by p.id asc")
+    List<PostsSummary> findSummariesAfter(@Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 법인 하나의 목록 첫 페이지 요약 조회 (최신 글부터)
+     *
+     * (corporation, id) 인덱스에서 법인 범위만 역순으로 읽습니다.
+     *
+     * @param corporation 법인 키
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p"
+            + " where p.corporation = :corporation order by p.id desc")
+    List<PostsSummary> findCorporationSummaries(@Param("corporation") String corporation, Limit limit);
+
+    /**
+     * 법인 하나의 목록 다음 페이지 요약 조회 (커서보다 오래된 글)
+     *
+     * @param corporation 법인 키
+     * @param cursor 현재 페이지의 마지막 게시글 ID
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p"
+            + " where p.corporation = :corporation and p.id < :cursor order by p.id desc")
+    List<PostsSummary> findCorporationSummariesBefore(@Param("corporation") String corporation,
+                                                      @Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 법인 하나의 목록 이전 페이지 요약 조회 (커서보다 최신 글)
+     *
+     * @param corporation 법인 키
+     * @param cursor 현재 페이지의 첫 번째 게시글 ID
+     * @param limit 가져올 최대 행 수
+     * @return id 오름차순 게시글 요약 목록
+     */
+    @Query("select p.id as id, p.title as title, p.author as author, p.version as version from Posts p"
+            + " where p.corporation = :corporation and p.id > :cursor order by p.id asc")
+    List<PostsSummary> findCorporationSummariesAfter(@Param("corporation") String corporation,
+                                                     @Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 전체 게시글을 나누어 읽기 위한 첫 청크 조회 (최신 글부터)
+     *
+     * 검색 색인 생성처럼 content까지 필요한 작업에서 사용합니다.
+     * OFFSET을 쓰지 않고 기본키 인덱스를 역순으로 읽다가 limit 개수에서 멈춥니다.
+     *
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 목록
+     */
+    List<Posts> findAllByOrderByIdDesc(Limit limit);
+
+    /**
+     * 다음 청크 조회 (커서보다 오래된 글)
+     *
+     * WHERE id < :cursor ORDER BY id DESC LIMIT :limit
+     * 기본키 인덱스에서 커서 위치로 바로 탐색(seek)하므로
+     * 몇 번째 청크이든 조회 비용이 일정합니다.
+     *
+     * @param cursor 이전 청크의 마지막 게시글 ID
+     * @param limit 가져올 최대 행 수
+     * @return id 내림차순 게시글 목록
+     */
+    List<Posts> findByIdLessThanOrderByIdDesc(Long cursor, Limit limit);
+
+    /**
+     * ID 목록에 해당하는 게시글의 내용만 조회
+     *
+     * 제목/작성자 등 나머지 값을 이미 알고 있을 때 엔티티 전체를 읽지 않도록
+     * id와 content 컬럼만 SELECT 합니다.
+     *
+     * @param ids 조회할 게시글 ID 목록
+     * @return 게시글 내용 프로젝션 목록 (순서 보장 안 함, 없는 ID는 빠짐)
+     */
+    @Query("select p.id as id, p.encodedContent as encodedContent from Posts p where p.id in :ids")
+    List<PostsContent> findContents(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 게시글을 스트림으로 조회 (id 오름차순)
+     *
+     * List로 한 번에 받지 않고 JDBC ResultSet을 따라가며 한 행씩 엔티티로 만듭니다.
+     * - fetch size: 드라이버가 DB에서 한 번에 가져오는 행 수
+     * - read only: 변경 감지용 스냅샷을 만들지 않음
+     *
+     * 주의: 트랜잭션 안에서 사용해야 하며, 사용 후 반드시 close() 해야 합니다.
+     * 읽은 엔티티는 호출하는 쪽에서 detach 해야 영속성 컨텍스트에 쌓이지 않습니다.
+     *
+     * @return 게시글 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Posts p order by p.id asc")
+    Stream<Posts> streamAll();
+
+    /**
+     * 커서보다 오래된 글이 존재하는지 확인
+     *
+     * @param cursor 기준 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByIdLessThan(Long cursor);
+
+    /**
+     * 커서보다 최신 글이 존재하는지 확인
+     *
+     * @param cursor 기준 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByIdGreaterThan(Long cursor);
+
+    /**
+     * 법인 안에서 커서보다 오래된 글이 존재하는지 확인
+     *
+     * @param corporation 법인 키
+     * @param cursor 기준 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByCorporationAndIdLessThan(String corporation, Long cursor);
+
+    /**
+     * 법인 안에서 커서보다 최신 글이 존재하는지 확인
+     *
+     * @param corporation 법인 키
+     * @param cursor 기준 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByCorporationAndIdGreaterThan(String corporation, Long cursor);
+
+    /**
+     * ID 목록에 해당하는 게시글 일괄 삭제
+     *
+     * DELETE FROM posts WHERE id IN (...)
+     * 엔티티를 하나씩 조회해서 삭제하지 않고 한 번의 SQL로 처리합니다.
+     *
+     * @Modifying: SELECT가 아닌 변경 쿼리임을 표시
+     * - flushAutomatically: 실행 전 영속성 컨텍스트의 변경 사항을 먼저 DB에 반영
+     * - clearAutomatically: 실행 후 영속성 컨텍스트를 비워 오래된 엔티티가 남지 않게 함
+     *
+     * @param ids 삭제할 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Posts p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID 목록에 해당하는 게시글의 작성자 일괄 변경
+     *
+     * 일괄 UPDATE는 엔티티를 거치지 않으므로 버전과 수정 시각을 쿼리에서 직접 갱신합니다.
+     *
+     * @param ids 변경할 게시글 ID 목록
+     * @param author 새 작성자
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Posts p set p.author = :author, p.version = p.version + 1, p.modifiedDate = :now"
+            + " where p.id in :ids")
+    int updateAuthorByIds(@Param("ids") Collection<Long> ids, @Param("author") String author,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * ID 목록에 해당하는 게시글 일괄 부분 수정
+     *
+     * null로 전달한 필드는 coalesce()로 기존 값을 유지합니다.
+     *
+     * @param ids 수정할 게시글 ID 목록
+     * @param title 새 제목 (null이면 유지)
+     * @param content 새 내용 (PostsContentCodec 저장 형식, null이면 유지)
+     * @param author 새 작성자 (null이면 유지)
+     * @param now 수정 시각
+     * @return 수정된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Posts p set p.title = coalesce(:title, p.title), p.encodedContent = coalesce(:content, p.encodedContent),"
+            + " p.author = coalesce(:author, p.author), p.version = p.version + 1, p.modifiedDate = :now"
+            + " where p.id in :ids")
+    int patchByIds(@Param("ids") Collection<Long> ids, @Param("title") String title,
+                   @Param("content") byte[] content, @Param("author") String author,
+                   @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,22 @@
+package com.david.CorpMemberLibrary.domain.posts;
+
+/**
+ * 게시글 요약 프로젝션 (목록 화면용)
+ *
+ * 목록 화면에는 ID, 제목, 작성자(와 렌더링 캐시 확인용 버전)만 필요하므로
+ * TEXT 타입인 content 컬럼을 SELECT 하지 않는 조회에 사용합니다.
+ *
+ * Spring Data JPA가 쿼리의 별칭(id, title, author, version)을
+ * 아래 getter에 연결한 프록시 객체를 만들어 반환합니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에도 올라가지 않습니다.
+ */
+public interface PostsSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    Long getVersion();
+}
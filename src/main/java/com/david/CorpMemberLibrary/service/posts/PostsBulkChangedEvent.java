@@ -0,0 +1,87 @@
+package com.david.CorpMemberLibrary.service.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 변경 이벤트
+ *
+ * 일괄 수정/삭제는 엔티티를 읽지 않고 SQL 한 번으로 처리하므로
+ * 게시글별 변경 후 데이터 대신 영향을 받은 게시글 ID 목록과, 수정이면 모든 대상에 똑같이 적용한 새 값(Patch)을 전달합니다.
+ * 구독하는 쪽은 자신이 들고 있는 이전 값에 Patch를 적용해서 반영합니다 (대상 게시글을 다시 조회하지 않음).
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsBulkChangedEvent {
+
+    /**
+     * 변경 종류 (UPDATED 또는 DELETED)
+     */
+    private final PostsChangedEvent.Type type;
+
+    /**
+     * 변경 대상 게시글 ID 목록 (실제로 존재하지 않던 ID가 포함될 수 있음)
+     */
+    private final List<Long> ids;
+
+    /**
+     * 수정된 값 (삭제 이벤트에서는 null)
+     */
+    private final Patch patch;
+
+    /**
+     * 일괄 수정으로 모든 대상 게시글에 적용된 새 값
+     *
+     * @param title 새 제목 (null이면 유지)
+     * @param content 새 내용 (null이면 유지)
+     * @param author 새 작성자 (authorChanged가 false면 유지)
+     * @param authorChanged 작성자를 바꿨는지 여부 (작성자 일괄 변경은 작성자를 null로도 바꿀 수 있음)
+     */
+    public record Patch(String title, String content, String author, boolean authorChanged) {
+
+        /**
+         * 작성자 일괄 변경 (author가 null이면 작성자를 지움)
+         */
+        public static Patch author(String author) {
+            return new Patch(null, null, author, true);
+        }
+
+        /**
+         * 일괄 부분 수정 (null인 필드는 유지)
+         */
+        public static Patch of(String title, String content, String author) {
+            return new Patch(title, content, author, author != null);
+        }
+
+        public boolean titleChanged() {
+            return title != null;
+        }
+
+        public boolean contentChanged() {
+            return content != null;
+        }
+    }
+
+    /**
+     * 일괄 수정 이벤트 생성
+     *
+     * @param ids 대상 게시글 ID 목록
+     * @param patch 적용된 새 값
+     * @return 수정 이벤트
+     */
+    public static PostsBulkChangedEvent updated(List<Long> ids, Patch patch) {
+        return new PostsBulkChangedEvent(PostsChangedEvent.Type.UPDATED, ids, patch);
+    }
+
+    /**
+     * 일괄 삭제 이벤트 생성
+     *
+     * @param ids 대상 게시글 ID 목록
+     * @return 삭제 이벤트
+     */
+    public static PostsBulkChangedEvent deleted(List<Long> ids) {
+        return new PostsBulkChangedEvent(PostsChangedEvent.Type.DELETED, ids, null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.david.CorpMemberLibrary.service.posts;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 변경 이벤트
+ *
+ * PostsService가 게시글을 저장/수정/삭제할 때 발행하는 이벤트입니다.
+ * 검색 색인처럼 게시글 데이터를 메모리에 따로 들고 있는 컴포넌트는
+ * 이 이벤트를 구독해서 자신의 상태를 최신으로 유지합니다.
+ *
+ * PostsService가 각 컴포넌트를 직접 호출하지 않고 이벤트를 사용하는 이유:
+ * 1. 서비스 계층이 부가 기능(색인, 캐시 등)에 의존하지 않음
+ * 2. @TransactionalEventListener로 커밋이 끝난 변경만 반영할 수 있음
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsChangedEvent {
+
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        SAVED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 변경 종류
+     */
+    private final Type type;
+
+    /**
+     * 변경된 게시글 ID
+     */
+    private final Long id;
+
+    /**
+     * 변경 후 게시글 데이터 (삭제 이벤트에서는 null)
+     */
+    private final PostsResponseDto post;
+
+    /**
+     * 저장 이벤트 생성
+     *
+     * @param post 저장된 게시글 데이터
+     * @return 저장 이벤트
+     */
+    public static PostsChangedEvent saved(PostsResponseDto post) {
+        return new PostsChangedEvent(Type.SAVED, post.getId(), post);
+    }
+
+    /**
+     * 수정 이벤트 생성
+     *
+     * @param post 수정된 게시글 데이터
+     * @return 수정 이벤트
+     */
+    public static PostsChangedEvent updated(PostsResponseDto post) {
+        return new PostsChangedEvent(Type.UPDATED, post.getId(), post);
+    }
+
+    /**
+     * 삭제 이벤트 생성
+     *
+     * @param id 삭제된 게시글 ID
+     * @return 삭제 이벤트
+     */
+    public static PostsChangedEvent deleted(Long id) {
+        return new PostsChangedEvent(Type.DELETED, id, null);
+    }
+}
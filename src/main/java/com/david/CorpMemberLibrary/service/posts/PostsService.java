@@ -1,15 +1,49 @@
 package com.david.CorpMemberLibrary.service.posts;
 
+import com.david.CorpMemberLibrary.config.PrimaryReadContext;
 import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsContentCodec;
 import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import com.david.CorpMemberLibrary.service.posts.author.PostsAuthorIndex;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsChangeTracker;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.service.posts.duplicate.PostsDuplicateException;
+import com.david.CorpMemberLibrary.service.posts.duplicate.PostsDuplicateIndex;
+import com.david.CorpMemberLibrary.service.posts.search.PostsSearchIndex;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.service.posts.suggest.PostsSuggestIndex;
+import com.david.CorpMemberLibrary.service.posts.writebehind.PostsWriteBehindQueue;
+import com.david.CorpMemberLibrary.service.posts.writebehind.PostsWriteRejectedException;
+import com.david.CorpMemberLibrary.service.posts.writebehind.PostsWriteTimeoutException;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsAuthorStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsCacheStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsDuplicateDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSearchResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSuggestionDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -20,12 +54,61 @@ import java.util.stream.Collectors;
  * 2. 트랜잭션 관리
  * 3. Repository와 Controller 사이의 중간 계층
  * 
+ * 조회 메서드는 @Transactional(readOnly = true)로 표시합니다.
+ * 읽기/쓰기 라우팅(posts.datasource.routing.enabled=true)을 켜면 이 트랜잭션은 복제본 DB로 갑니다.
+ * 
+ * 샤딩(posts.sharding.enabled=true)을 켜면 게시글은 법인의 샤드에 저장되고(PostsShards),
+ * ID로 찾는 작업은 게시글이 있는 샤드에서, 법인을 지정하지 않은 목록은 모든 샤드에서 동시에 조회합니다.
+ * 
  * @Service: Spring이 이 클래스를 서비스 빈으로 등록
  * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성 (의존성 주입용)
  */
 @Service  // Spring: 이 클래스를 서비스 빈으로 등록하여 의존성 주입 가능하게 함
 @RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성 (의존성 주입)
 public class PostsService {
+
+    /**
+     * 목록 페이지 기본 크기
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * 목록 페이지 최대 크기 (한 번에 너무 많은 행을 읽지 않도록 제한)
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 검색 결과 최대 개수
+     */
+    public static final int MAX_SEARCH_RESULTS = 100;
+
+    /**
+     * 상위 작성자 조회 최대 인원
+     */
+    public static final int MAX_TOP_AUTHORS = 100;
+
+    /**
+     * 자동완성 추천어 최대 개수
+     */
+    public static final int MAX_SUGGESTIONS = 20;
+
+    /**
+     * 중복 의심 게시글 조회 최대 개수
+     */
+    public static final int MAX_DUPLICATES = 100;
+
+    /**
+     * 일괄 변경 시 SQL 한 번에 담을 최대 ID 수
+     * 
+     * IN 절의 바인딩 파라미터가 너무 많아지지 않도록 이 크기로 나누어 실행합니다.
+     * (모든 청크는 하나의 트랜잭션 안에서 실행됨)
+     */
+    public static final int BULK_CHUNK_SIZE = 1000;
+
+    /**
+     * 샤드별 목록 병합 순서 (id 오름차순)
+     */
+    private static final Comparator<PostsSummary> SUMMARY_ID_ASC = Comparator.comparing(PostsSummary::getId);
     
     /**
      * 게시글 데이터 접근 계층 (Repository)
@@ -38,6 +121,54 @@ public class PostsService {
     2. 생성자 주입 방식 사용 (권장되는 방식)
      */
     private final PostsRepository postsRepository;
+
+    /**
+     * 게시글 변경 이벤트 발행기
+     * 
+     * 저장/수정/삭제 후 PostsChangedEvent를 발행하면
+     * 검색 색인 등 메모리에 게시글 데이터를 가진 컴포넌트가 이를 반영합니다.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 검색 색인
+     */
+    private final PostsSearchIndex postsSearchIndex;
+
+    /**
+     * 게시글 상세 조회 캐시
+     */
+    private final PostsDetailCache postsDetailCache;
+
+    /**
+     * 작성자별 게시글 집계 색인
+     */
+    private final PostsAuthorIndex postsAuthorIndex;
+
+    /**
+     * 작성자/제목 자동완성 색인
+     */
+    private final PostsSuggestIndex postsSuggestIndex;
+
+    /**
+     * 게시글 변경 세대 추적기 (목록 ETag용)
+     */
+    private final PostsChangeTracker postsChangeTracker;
+
+    /**
+     * 중복 의심 색인 (SimHash + LSH)
+     */
+    private final PostsDuplicateIndex postsDuplicateIndex;
+
+    /**
+     * 저장 쓰기 지연 큐 (posts.write-behind.enabled=true일 때만 존재)
+     */
+    private final ObjectProvider<PostsWriteBehindQueue> postsWriteBehindQueue;
+
+    /**
+     * 게시글 샤드 배치 (샤딩을 끄면 기본 샤드 하나)
+     */
+    private final PostsShards postsShards;
     
     /**
      * 게시글 저장 메서드
@@ -45,21 +176,61 @@ public class PostsService {
      * @Transactional이 없는 이유:
      * JpaRepository의 save() 메서드가 이미 트랜잭션을 포함하고 있기 때문
      * 
+     * 쓰기 지연 큐가 켜져 있으면 큐에 넣고, 다른 요청과 함께 한 트랜잭션으로 커밋된 뒤 ID를 반환합니다.
+     * 샤딩을 켜면 요청의 법인에 해당하는 샤드에 저장합니다.
+     * 
+     * 중복 거절 모드(posts.duplicate.reject-on-save=true)이면 비슷한 게시글이 이미 있거나 저장 중일 때 저장하지 않습니다.
+     * 색인은 커밋 이후 갱신되므로, 확인할 때 서명을 예약해서(PostsDuplicateIndex.reserve())
+     * 같은 글이 동시에 저장되거나 쓰기 지연 큐의 한 묶음에 함께 들어와도 하나만 저장합니다.
+     * (일괄 가져오기(PostsImportService)는 이 확인을 하지 않음)
+     * 
      * @param requestDto 저장할 게시글 데이터
      * @return 저장된 게시글의 ID
+     * @throws PostsWriteRejectedException 쓰기 지연 큐가 가득 찼을 때
+     * @throws PostsWriteTimeoutException 쓰기 지연 큐에서 제시간에 커밋되지 않았을 때
+     * @throws PostsDuplicateException 중복 거절 모드에서 비슷한 게시글이 있을 때
      */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
     public Long save(PostsSaveRequestDto requestDto) {
+        if (!postsDuplicateIndex.isRejectOnSave()) {
+            return insert(requestDto);
+        }
+        long reservation = postsDuplicateIndex.reserve(requestDto.getTitle(), requestDto.getContent());
+        try {
+            return insert(requestDto);
+        } finally {
+            // 커밋되었으면 이미 색인에 반영되어 있고(커밋 이후 이벤트), 실패했으면 예약만 풀면 됨
+            postsDuplicateIndex.release(reservation);
+        }
+    }
+
+    /**
+     * 게시글 저장 (쓰기 지연 큐 또는 바로 저장)
+     * 
+     * @param requestDto 저장할 게시글 데이터
+     * @return 저장된 게시글의 ID
+     */
+    private Long insert(PostsSaveRequestDto requestDto) {
+        PostsWriteBehindQueue writeBehindQueue = postsWriteBehindQueue.getIfAvailable();
+        if (writeBehindQueue != null) {
+            return writeBehindQueue.save(requestDto);
+        }
+        
         // DTO를 Entity로 변환
         // Builder 패턴을 사용하여 Entity 생성
         Posts posts = Posts.builder()
                 .title(requestDto.getTitle())  // DTO에서 제목 가져오기
                 .content(requestDto.getContent())  // DTO에서 내용 가져오기
                 .author(requestDto.getAuthor())  // DTO에서 작성자 가져오기
+                .corporation(requestDto.getCorporation())  // DTO에서 법인 가져오기 (없으면 기본 법인)
                 .build();  // Posts 객체 생성
         
-        // Repository를 통해 데이터베이스에 저장
+        // Repository를 통해 법인의 샤드에 저장
         // save() 메서드는 저장된 Entity를 반환
-        Posts savedPosts = postsRepository.save(posts);
+        Posts savedPosts = postsShards.inCorporation(posts.getCorporation(), () -> postsRepository.save(posts));
+
+        // 저장된 게시글을 색인 등에 반영하도록 이벤트 발행
+        eventPublisher.publishEvent(PostsChangedEvent.saved(new PostsResponseDto(savedPosts)));
         
         // 저장된 게시글의 ID를 반환
         return savedPosts.getId();
@@ -73,12 +244,22 @@ public class PostsService {
      * - 메서드 실행 중 예외 발생 시 모든 변경사항이 롤백됨
      * - 데이터 일관성 보장
      * 
+     * 샤딩을 켜면 게시글이 있는 샤드를 먼저 찾고, 트랜잭션의 SQL은 모두 그 샤드에서 실행합니다.
+     * 
      * @param requestDto 수정할 게시글 데이터 (ID 포함)
      * @return 수정된 게시글의 ID
      * @throws IllegalArgumentException 게시글이 존재하지 않을 때
      */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
     @Transactional  // Spring: 이 메서드를 트랜잭션으로 묶음
     public Long update(PostsUpdateRequestDto requestDto) {
+        return postsShards.inShard(postsShards.locate(requestDto.getId()), () -> updateInShard(requestDto));
+    }
+
+    /**
+     * 게시글이 있는 샤드에서 수정 (update()의 트랜잭션 안에서 호출)
+     */
+    private Long updateInShard(PostsUpdateRequestDto requestDto) {
         // 수정할 게시글을 데이터베이스에서 조회
         // findById()는 Optional<Posts>를 반환하므로 orElseThrow()로 예외 처리
         Posts posts = postsRepository.findById(requestDto.getId())
@@ -97,6 +278,11 @@ public class PostsService {
         // 트랜잭션이 끝날 때 자동으로 UPDATE 쿼리가 실행됨
         // 별도로 save()를 호출하지 않아도 됨!
         // 하지만 명시적으로 save()를 호출해도 무방함
+        // 여기서는 이벤트에 증가된 버전/수정 시각이 담기도록 바로 flush 함
+        postsRepository.flush();
+
+        // 커밋 이후 색인 등에 반영되도록 이벤트 발행
+        eventPublisher.publishEvent(PostsChangedEvent.updated(new PostsResponseDto(posts)));
         
         // 수정된 게시글의 ID 반환
         return posts.getId();
@@ -105,59 +291,447 @@ public class PostsService {
     /**
      * 게시글 ID로 조회 메서드
      * 
+     * 캐시에 있으면 DB를 조회하지 않고 바로 반환합니다 (read-through 캐시).
+     * 캐시에 없을 때만 loadById()로 DB에서 읽어 캐시에 저장합니다.
+     * 
+     * 캐시 적중 시에는 트랜잭션을 열지 않도록 이 메서드에는 @Transactional을 붙이지 않습니다.
+     * 캐시 미스 때 호출하는 postsRepository.findById()가 이미 읽기 전용 트랜잭션이므로
+     * 라우팅을 켜면 미스도 복제본에서 읽습니다.
+     * 
      * @param id 조회할 게시글 ID
      * @return 게시글 응답 DTO
      * @throws IllegalArgumentException 게시글이 존재하지 않을 때
      */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
     public PostsResponseDto findById(Long id) {
+        return postsDetailCache.get(id, this::loadById);
+    }
+
+    /**
+     * 게시글 상세 캐시 통계 조회
+     * 
+     * @return 적중/미스/제거 횟수와 적중률
+     */
+    public PostsCacheStatsDto cacheStats() {
+        return postsDetailCache.stats();
+    }
+
+    /**
+     * 게시글 목록 ETag 조회
+     * 
+     * 마지막 변경 이후 같은 값을 반환하므로, 클라이언트의 If-None-Match와 같으면
+     * 목록을 조회하지 않고 304로 응답할 수 있습니다.
+     * 
+     * @return 따옴표를 포함한 강한 ETag
+     */
+    public String listETag() {
+        return postsChangeTracker.etag();
+    }
+
+    /**
+     * 게시글 목록 마지막 변경 시각 조회 (Last-Modified용)
+     * 
+     * @return epoch 밀리초
+     */
+    public long listLastModified() {
+        return postsChangeTracker.lastModified();
+    }
+
+    /**
+     * DB에서 게시글 조회 (캐시 미스 시 호출)
+     * 
+     * 샤딩을 켜면 ID로는 샤드를 알 수 없으므로 모든 샤드에 동시에 조회합니다.
+     * 
+     * @param id 조회할 게시글 ID
+     * @return 게시글 응답 DTO
+     * @throws IllegalArgumentException 게시글이 존재하지 않을 때
+     */
+    private PostsResponseDto loadById(Long id) {
         // 데이터베이스에서 게시글 조회
-        Posts posts = postsRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "해당 게시글이 없습니다. id=" + id));
-        
-        // Entity를 DTO로 변환하여 반환
         // Entity를 직접 반환하지 않고 DTO로 변환하는 이유:
         // 1. 보안: Entity의 모든 필드를 노출하지 않음
         // 2. 유연성: 필요한 데이터만 선택적으로 전달
-        return new PostsResponseDto(posts);
+        return postsShards.findFirst(shard -> postsRepository.findById(id).map(PostsResponseDto::new))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "해당 게시글이 없습니다. id=" + id));
     }
     
     /**
      * 전체 게시글 목록 조회 메서드
      * 
+     * 샤딩을 켜면 모든 샤드에 동시에 조회해서 샤드 순서대로 이어 붙입니다.
+     * 
      * @return 게시글 응답 DTO 리스트
      */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional(readOnly = true)  // Spring: 읽기 전용 트랜잭션 (변경 감지 생략, 라우팅 시 복제본)
     public List<PostsResponseDto> findAll() {
-        // 데이터베이스에서 전체 게시글 조회
-        List<Posts> postsList = postsRepository.findAll();
+        // 데이터베이스(모든 샤드)에서 전체 게시글 조회
+        List<List<Posts>> postsLists = postsShards.readAll(shard -> postsRepository.findAll());
         
         // Stream API를 사용하여 Entity 리스트를 DTO 리스트로 변환
+        // flatMap(): 샤드별 리스트를 하나로 이어 붙임
         // map(): 각 Posts Entity를 PostsResponseDto로 변환
         // collect(): 변환된 DTO들을 리스트로 수집
-        return postsList.stream()
+        return postsLists.stream()
+                .flatMap(List::stream)
                 .map(PostsResponseDto::new)  // 각 Entity를 DTO로 변환
                 .collect(Collectors.toList());  // 리스트로 수집
     }
     
+    /**
+     * 커서 기반 게시글 목록 조회 메서드 (모든 법인)
+     * 
+     * @param cursor 기준 게시글 ID (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE 범위로 보정)
+     * @param direction 이동 방향 (NEXT: 오래된 글, PREV: 최신 글)
+     * @return 게시글 목록 페이지 응답 DTO
+     * @see #findPage(String, Long, int, CursorDirection)
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional(readOnly = true)  // Spring: 목록과 exists 쿼리를 같은 읽기 전용 트랜잭션에서 실행
+    public PostsPageResponseDto findPage(Long cursor, int size, CursorDirection direction) {
+        return findPage(null, cursor, size, direction);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 메서드
+     * 
+     * OFFSET 방식은 뒤쪽 페이지로 갈수록 건너뛸 행을 모두 읽어야 하지만,
+     * 커서 방식은 id 인덱스에서 커서 위치로 바로 이동하므로
+     * 테이블 크기와 상관없이 한 페이지 분량만 읽습니다.
+     * 
+     * 페이지 크기보다 1건 더 조회해서 그 방향으로 더 읽을 글이 있는지 판단하고,
+     * 반대 방향은 커서가 있을 때만 exists 쿼리로 확인합니다.
+     * 
+     * 목록에는 내용(content)이 필요 없으므로 요약 프로젝션으로
+     * id, title, author 컬럼만 조회합니다.
+     * 
+     * 법인을 지정하면 그 법인의 샤드에서 (corporation, id) 인덱스로만 조회합니다.
+     * 지정하지 않으면 모든 샤드에 동시에 pageSize + 1건씩 조회해서 id 순서로 병합합니다
+     * (샤드마다 앞쪽 pageSize + 1건을 읽었으므로 병합한 앞 pageSize + 1건은 전체에서 조회한 것과 같음).
+     * 
+     * 읽기/쓰기 라우팅을 켰을 때 마지막 변경 후 max-lag가 지나지 않았으면 주 DB에서 읽습니다.
+     * (목록 ETag는 커밋 시점에 이미 새 세대이므로, 복제본의 이전 목록이 새 ETag로 캐시되지 않도록)
+     * 
+     * @param corporation 법인 키 (null이거나 비어 있으면 모든 법인)
+     * @param cursor 기준 게시글 ID (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE 범위로 보정)
+     * @param direction 이동 방향 (NEXT: 오래된 글, PREV: 최신 글)
+     * @return 게시글 목록 페이지 응답 DTO
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional(readOnly = true)  // Spring: 목록과 exists 쿼리를 같은 읽기 전용 트랜잭션에서 실행
+    public PostsPageResponseDto findPage(String corporation, Long cursor, int size, CursorDirection direction) {
+        if (postsChangeTracker.isReplicaStale()) {
+            return PrimaryReadContext.call(() -> loadPage(corporation, cursor, size, direction));
+        }
+        return loadPage(corporation, cursor, size, direction);
+    }
+
+    /**
+     * 목록 페이지 조회 (findPage의 트랜잭션 안에서 호출)
+     */
+    private PostsPageResponseDto loadPage(String corporation, Long cursor, int size, CursorDirection direction) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);  // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        String tenant = corporation == null || corporation.isBlank() ? null : Posts.normalizeCorporation(corporation);
+        boolean ascending = cursor != null && direction == CursorDirection.PREV;  // 이전 페이지는 오름차순으로 조회
+
+        List<PostsSummary> rows;
+        if (tenant != null) {
+            rows = postsShards.inCorporation(tenant, () -> findSummaries(tenant, cursor, ascending, limit));
+        } else {
+            rows = PostsShards.merge(postsShards.readAll(shard -> findSummaries(null, cursor, ascending, limit)),
+                    ascending ? SUMMARY_ID_ASC : SUMMARY_ID_ASC.reversed(), limit.max());
+        }
+
+        // 진행 방향으로 더 읽을 글이 있는지 확인 후 초과분 제거
+        boolean hasMore = rows.size() > pageSize;
+        List<PostsSummary> pageRows = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (ascending) {
+            // 이전 페이지는 오름차순으로 조회했으므로 화면 순서(내림차순)로 뒤집음
+            Collections.reverse(pageRows);
+        }
+
+        List<PostsListResponseDto> posts = pageRows.stream()
+                .map(PostsListResponseDto::new)
+                .collect(Collectors.toList());
+
+        if (cursor == null || posts.isEmpty()) {
+            // 첫 페이지이거나 커서 바깥에 글이 없는 경우: 이전 페이지 링크는 만들지 않음
+            return new PostsPageResponseDto(posts, pageSize, hasMore, false);
+        }
+        if (direction == CursorDirection.PREV) {
+            boolean hasNext = existsOlder(tenant, posts.get(posts.size() - 1).getId());
+            return new PostsPageResponseDto(posts, pageSize, hasNext, hasMore);
+        }
+        boolean hasPrev = existsNewer(tenant, posts.get(0).getId());
+        return new PostsPageResponseDto(posts, pageSize, hasMore, hasPrev);
+    }
+
+    /**
+     * 샤드 하나에서 목록 요약 조회
+     * 
+     * @param corporation 법인 키 (null이면 모든 법인)
+     * @param cursor 기준 게시글 ID (null이면 첫 페이지)
+     * @param ascending 커서보다 최신 글을 오름차순으로 조회할지 여부 (이전 페이지)
+     * @param limit 가져올 최대 행 수
+     * @return 게시글 요약 목록
+     */
+    private List<PostsSummary> findSummaries(String corporation, Long cursor, boolean ascending, Limit limit) {
+        if (corporation == null) {
+            if (cursor == null) {
+                return postsRepository.findSummaries(limit);
+            }
+            return ascending ? postsRepository.findSummariesAfter(cursor, limit)
+                    : postsRepository.findSummariesBefore(cursor, limit);
+        }
+        if (cursor == null) {
+            return postsRepository.findCorporationSummaries(corporation, limit);
+        }
+        return ascending ? postsRepository.findCorporationSummariesAfter(corporation, cursor, limit)
+                : postsRepository.findCorporationSummariesBefore(corporation, cursor, limit);
+    }
+
+    /**
+     * 기준 게시글보다 오래된 글이 있는지 확인 (법인을 지정하지 않으면 모든 샤드)
+     */
+    private boolean existsOlder(String corporation, Long id) {
+        if (corporation != null) {
+            return postsShards.inCorporation(corporation,
+                    () -> postsRepository.existsByCorporationAndIdLessThan(corporation, id));
+        }
+        return postsShards.readAll(shard -> postsRepository.existsByIdLessThan(id)).contains(true);
+    }
+
+    /**
+     * 기준 게시글보다 최신 글이 있는지 확인 (법인을 지정하지 않으면 모든 샤드)
+     */
+    private boolean existsNewer(String corporation, Long id) {
+        if (corporation != null) {
+            return postsShards.inCorporation(corporation,
+                    () -> postsRepository.existsByCorporationAndIdGreaterThan(corporation, id));
+        }
+        return postsShards.readAll(shard -> postsRepository.existsByIdGreaterThan(id)).contains(true);
+    }
+    
+    /**
+     * 게시글 검색 메서드
+     * 
+     * DB에 LIKE 쿼리를 보내지 않고 메모리 역색인에서 바로 조회합니다.
+     * 
+     * @param query 검색어
+     * @param limit 최대 결과 수 (1 ~ MAX_SEARCH_RESULTS 범위로 보정)
+     * @return 점수 내림차순 검색 결과
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public List<PostsSearchResultDto> search(String query, int limit) {
+        return postsSearchIndex.search(query, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+    }
+    
+    /**
+     * 자동완성 추천어 조회
+     * 
+     * 입력할 때마다 호출되므로 DB를 조회하지 않고 메모리 접두사 트리에서 바로 반환합니다.
+     * 
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 개수 (1 ~ MAX_SUGGESTIONS 범위로 보정)
+     * @return 가중치(게시글 수) 내림차순 작성자/제목 추천어
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public List<PostsSuggestionDto> suggest(String prefix, int limit) {
+        return postsSuggestIndex.suggest(prefix, Math.clamp(limit, 1, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * 작성자별 게시글 집계 조회
+     * 
+     * 테이블을 조회하지 않고 메모리 집계 색인에서 바로 반환합니다.
+     * 
+     * @param author 작성자
+     * @return 게시글 수와 최근 게시글 (게시글이 없으면 건수 0)
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public PostsAuthorStatsDto authorStats(String author) {
+        return postsAuthorIndex.stats(author);
+    }
+
+    /**
+     * 게시글과 비슷한 다른 게시글 조회
+     * 
+     * 전체 게시글과 비교하지 않고 LSH 밴드가 같은 후보만 비교하므로 게시글 수와 거의 상관없이 빠릅니다.
+     * 
+     * @param id 게시글 ID
+     * @param limit 최대 개수 (1 ~ MAX_DUPLICATES 범위로 보정)
+     * @return 거리 오름차순 중복 의심 게시글
+     * @throws IllegalArgumentException 게시글이 존재하지 않을 때
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public List<PostsDuplicateDto> duplicates(Long id, int limit) {
+        return postsDuplicateIndex.duplicatesOf(id, Math.clamp(limit, 1, MAX_DUPLICATES));
+    }
+
+    /**
+     * 저장하기 전에 비슷한 게시글이 있는지 조회
+     * 
+     * @param requestDto 저장할 게시글 데이터
+     * @param limit 최대 개수 (1 ~ MAX_DUPLICATES 범위로 보정)
+     * @return 거리 오름차순 중복 의심 게시글
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public List<PostsDuplicateDto> findDuplicates(PostsSaveRequestDto requestDto, int limit) {
+        return postsDuplicateIndex.find(requestDto.getTitle(), requestDto.getContent(),
+                Math.clamp(limit, 1, MAX_DUPLICATES));
+    }
+
+    /**
+     * 게시글 수 상위 작성자 조회
+     * 
+     * @param limit 최대 인원 (1 ~ MAX_TOP_AUTHORS 범위로 보정)
+     * @return 건수 내림차순 작성자 집계 목록
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    public List<PostsAuthorStatsDto> topAuthors(int limit) {
+        return postsAuthorIndex.top(Math.clamp(limit, 1, MAX_TOP_AUTHORS));
+    }
+    
     /**
      * 게시글 삭제 메서드
      * 
      * @Transactional 어노테이션:
      * 삭제 작업도 트랜잭션으로 묶어서 안전하게 처리
      * 
+     * 샤딩을 켜면 게시글이 있는 샤드를 먼저 찾아 그 샤드에서 삭제합니다.
+     * 
      * @param id 삭제할 게시글 ID
      * @throws IllegalArgumentException 게시글이 존재하지 않을 때
      */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
     @Transactional  // Spring: 이 메서드를 트랜잭션으로 묶음
     public void delete(Long id) {
-        // 삭제할 게시글을 먼저 조회
-        // 존재하지 않으면 예외 발생
-        Posts posts = postsRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "해당 게시글이 없습니다. id=" + id));
-        
-        // Repository를 통해 데이터베이스에서 삭제
-        postsRepository.delete(posts);
+        postsShards.inShard(postsShards.locate(id), () -> {
+            // 삭제할 게시글을 먼저 조회
+            // 존재하지 않으면 예외 발생
+            Posts posts = postsRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "해당 게시글이 없습니다. id=" + id));
+            
+            // Repository를 통해 데이터베이스에서 삭제
+            postsRepository.delete(posts);
+            return null;
+        });
+
+        // 커밋 이후 색인 등에서 제거되도록 이벤트 발행
+        eventPublisher.publishEvent(PostsChangedEvent.deleted(id));
     }
-}
 
+    /**
+     * 게시글 일괄 삭제 메서드
+     * 
+     * delete()와 달리 게시글을 먼저 조회하지 않고
+     * DELETE ... WHERE id IN (...) 한 번으로 삭제합니다.
+     * 존재하지 않는 ID는 예외 없이 무시되며, 실제 삭제된 행 수를 반환합니다.
+     * 
+     * 샤딩을 켜면 모든 샤드에 동시에 실행하고 샤드마다 따로 커밋합니다 (일괄 수정도 같음).
+     * 
+     * @param ids 삭제할 게시글 ID 목록
+     * @return 요청 ID 수와 삭제된 행 수
+     * @throws IllegalArgumentException ID 목록이 비어 있을 때
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional  // Spring: 이 메서드를 트랜잭션으로 묶음
+    public PostsBulkResultDto deleteAll(List<Long> ids) {
+        List<Long> targets = distinctIds(ids);
+        int affected = sum(postsShards.writeAll(shard -> executeInChunks(targets, postsRepository::deleteByIds)));
+
+        // 커밋 이후 캐시/색인에서 제거되도록 이벤트 발행
+        eventPublisher.publishEvent(PostsBulkChangedEvent.deleted(targets));
+        return new PostsBulkResultDto(targets.size(), affected);
+    }
+
+    /**
+     * 게시글 작성자 일괄 변경 메서드
+     * 
+     * @param requestDto 변경할 ID 목록과 새 작성자
+     * @return 요청 ID 수와 변경된 행 수
+     * @throws IllegalArgumentException ID 목록이 비어 있을 때
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional  // Spring: 이 메서드를 트랜잭션으로 묶음
+    public PostsBulkResultDto updateAuthor(PostsBulkRequestDto requestDto) {
+        List<Long> targets = distinctIds(requestDto.getIds());
+        LocalDateTime now = LocalDateTime.now();
+        int affected = sum(postsShards.writeAll(shard -> executeInChunks(targets,
+                chunk -> postsRepository.updateAuthorByIds(chunk, requestDto.getAuthor(), now))));
+
+        // 색인 등이 게시글을 다시 읽지 않도록 새 작성자를 이벤트에 담음
+        eventPublisher.publishEvent(PostsBulkChangedEvent.updated(targets,
+                PostsBulkChangedEvent.Patch.author(requestDto.getAuthor())));
+        return new PostsBulkResultDto(targets.size(), affected);
+    }
+
+    /**
+     * 게시글 일괄 부분 수정 메서드
+     * 
+     * title, content, author 중 null이 아닌 필드만 변경합니다.
+     * 
+     * @param requestDto 변경할 ID 목록과 새 값
+     * @return 요청 ID 수와 변경된 행 수
+     * @throws IllegalArgumentException ID 목록이 비어 있거나 변경할 필드가 없을 때
+     */
+    @Timed("posts.service")  // Micrometer: 메서드 실행 시간 기록
+    @Transactional  // Spring: 이 메서드를 트랜잭션으로 묶음
+    public PostsBulkResultDto patchAll(PostsBulkRequestDto requestDto) {
+        if (requestDto.getTitle() == null && requestDto.getContent() == null && requestDto.getAuthor() == null) {
+            throw new IllegalArgumentException("변경할 항목이 없습니다.");
+        }
+        List<Long> targets = distinctIds(requestDto.getIds());
+        LocalDateTime now = LocalDateTime.now();
+        byte[] content = PostsContentCodec.encode(requestDto.getContent());  // 한 번만 압축해서 모든 청크에 사용
+        int affected = sum(postsShards.writeAll(shard -> executeInChunks(targets, chunk -> postsRepository.patchByIds(
+                chunk, requestDto.getTitle(), content, requestDto.getAuthor(), now))));
+
+        eventPublisher.publishEvent(PostsBulkChangedEvent.updated(targets, PostsBulkChangedEvent.Patch.of(
+                requestDto.getTitle(), requestDto.getContent(), requestDto.getAuthor())));
+        return new PostsBulkResultDto(targets.size(), affected);
+    }
+
+    /**
+     * 일괄 변경 대상 ID 정리 (null 제거, 중복 제거, 순서 유지)
+     * 
+     * @param ids 요청 ID 목록
+     * @return 정리된 ID 목록
+     * @throws IllegalArgumentException 유효한 ID가 하나도 없을 때
+     */
+    private List<Long> distinctIds(List<Long> ids) {
+        List<Long> targets = ids == null ? List.of()
+                : ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("변경할 게시글 ID가 없습니다.");
+        }
+        return targets;
+    }
+
+    /**
+     * ID 목록을 BULK_CHUNK_SIZE 단위로 나누어 변경 쿼리 실행
+     * 
+     * @param ids 대상 ID 목록
+     * @param statement 청크 하나를 처리하고 영향받은 행 수를 반환하는 쿼리
+     * @return 영향받은 행 수 합계
+     */
+    private int executeInChunks(List<Long> ids, ToIntFunction<List<Long>> statement) {
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            affected += statement.applyAsInt(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return affected;
+    }
+
+    /**
+     * 샤드별 영향받은 행 수 합계
+     */
+    private static int sum(List<Integer> affected) {
+        return affected.stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,312 @@
+package com.david.CorpMemberLibrary.service.posts.author;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsAuthorStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자별 게시글 집계 색인
+ *
+ * "이 회원의 게시글이 몇 건이고 최근 글은 무엇인가"를 물을 때마다 findAll()로
+ * 전체를 읽어 묶지 않도록, 작성자별 게시글 ID 집합을 메모리에 유지합니다.
+ *
+ * 자료 구조:
+ * - 게시글 ID -> (작성자, 제목): 수정/삭제 시 이전 작성자를 찾고, 일괄 수정 시 바뀌지 않은 값을 채우기 위해 보관
+ * - 작성자 -> 게시글 ID 정렬 집합(TreeSet): 건수는 size(), 최근 글은 last()
+ * - 건수 내림차순 순위 집합(TreeSet): 상위 N명 조회
+ *
+ * 조회 비용:
+ * - 작성자별 건수/최근 글: O(1) 해시 조회 + O(log k) (k = 해당 작성자 글 수)
+ * - 상위 N명: O(N), 변경 시 순위 갱신 O(log m) (m = 작성자 수)
+ *
+ * 작성자가 없는(null) 게시글은 집계하지 않습니다 (일괄 작성자 변경에 대비해 제목만 보관).
+ * 색인 유지 방식은 검색 색인(PostsSearchIndex)과 같습니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsAuthorIndex {
+
+    /**
+     * 시작 시 색인을 만들 때 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    /**
+     * 순위 정렬: 건수 내림차순, 같으면 작성자 오름차순
+     */
+    private static final Comparator<AuthorRank> RANK_ORDER =
+            Comparator.comparingInt(AuthorRank::count).reversed().thenComparing(AuthorRank::author);
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * 게시글 샤드 (색인 생성 시 모든 샤드를 동시에 읽음)
+     */
+    private final PostsShards postsShards;
+
+    /**
+     * 게시글 ID -> 집계된 게시글 정보
+     */
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+
+    /**
+     * 작성자 -> 게시글 ID 정렬 집합
+     */
+    private final Map<String, TreeSet<Long>> idsByAuthor = new HashMap<>();
+
+    /**
+     * 작성자 순위 (건수 내림차순)
+     */
+    private final TreeSet<AuthorRank> ranking = new TreeSet<>(RANK_ORDER);
+
+    /**
+     * 조회는 동시에 여러 요청이 수행하고, 색인 변경만 배타적으로 수행
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 집계된 게시글 하나의 정보
+     *
+     * @param author 작성자 (null이면 집계하지 않음)
+     * @param title 제목 (최근 글 표시용)
+     */
+    private record IndexedPost(String author, String title) {
+    }
+
+    /**
+     * 순위 집합의 항목 (건수가 바뀌면 제거 후 다시 추가)
+     *
+     * @param author 작성자
+     * @param count 게시글 수
+     */
+    private record AuthorRank(String author, int count) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 게시글로 색인 생성
+     *
+     * 내용(content)은 필요 없으므로 요약 프로젝션(id, title, author)을
+     * id 커서로 REBUILD_CHUNK_SIZE씩 나누어 읽습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        clear();
+
+        postsShards.forEachShard(shard -> {
+            List<PostsSummary> chunk = postsRepository.findSummaries(Limit.of(REBUILD_CHUNK_SIZE));
+            while (!chunk.isEmpty()) {
+                for (PostsSummary summary : chunk) {
+                    put(summary.getId(), summary.getAuthor(), summary.getTitle());
+                }
+                Long cursor = chunk.get(chunk.size() - 1).getId();
+                chunk = postsRepository.findSummariesBefore(cursor, Limit.of(REBUILD_CHUNK_SIZE));
+            }
+        });
+
+        log.info("작성자 집계 색인 생성 완료: 작성자 {}명, {}ms",
+                authorCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋 이후)
+     *
+     * 수정으로 작성자가 바뀌면 이전 작성자의 집계에서 빼고 새 작성자에 더합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            PostsResponseDto post = event.getPost();
+            put(post.getId(), post.getAuthor(), post.getTitle());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (커밋 이후)
+     *
+     * 수정은 게시글을 다시 읽지 않고 이벤트의 새 작성자/제목을 보관 중인 값에 적용합니다.
+     * (색인에 없는 ID는 DB에도 없는 게시글이므로 건너뜀, 내용만 바뀌었으면 할 일 없음)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            event.getIds().forEach(this::remove);
+            return;
+        }
+        PostsBulkChangedEvent.Patch patch = event.getPatch();
+        if (!patch.titleChanged() && !patch.authorChanged()) {
+            return;
+        }
+        for (Long id : event.getIds()) {
+            lock.writeLock().lock();
+            try {
+                IndexedPost post = posts.get(id);
+                if (post != null) {
+                    putLocked(id, patch.authorChanged() ? patch.author() : post.author(),
+                            patch.titleChanged() ? patch.title() : post.title());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글 반영 (이미 있으면 이전 작성자 집계에서 빼고 다시 반영)
+     *
+     * @param id 게시글 ID
+     * @param author 작성자 (null이면 집계하지 않음)
+     * @param title 제목
+     */
+    public void put(Long id, String author, String title) {
+        lock.writeLock().lock();
+        try {
+            putLocked(id, author, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거
+     *
+     * @param id 게시글 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작성자별 집계 조회
+     *
+     * @param author 작성자
+     * @return 게시글 수와 최근 게시글 (게시글이 없으면 건수 0)
+     */
+    public PostsAuthorStatsDto stats(String author) {
+        lock.readLock().lock();
+        try {
+            TreeSet<Long> ids = idsByAuthor.get(author);
+            if (ids == null) {
+                return new PostsAuthorStatsDto(author, 0, null, null);
+            }
+            return toDto(author, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 수 상위 작성자 조회
+     *
+     * @param limit 최대 작성자 수
+     * @return 건수 내림차순 작성자 집계 목록
+     */
+    public List<PostsAuthorStatsDto> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<PostsAuthorStatsDto> results = new ArrayList<>(Math.min(limit, ranking.size()));
+            Iterator<AuthorRank> iterator = ranking.iterator();
+            while (iterator.hasNext() && results.size() < limit) {
+                String author = iterator.next().author();
+                results.add(toDto(author, idsByAuthor.get(author)));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 집계된 작성자 수
+     *
+     * @return 작성자 수
+     */
+    public int authorCount() {
+        lock.readLock().lock();
+        try {
+            return idsByAuthor.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체 삭제
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            posts.clear();
+            idsByAuthor.clear();
+            ranking.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private PostsAuthorStatsDto toDto(String author, TreeSet<Long> ids) {
+        Long latestId = ids.last();
+        return new PostsAuthorStatsDto(author, ids.size(), latestId, posts.get(latestId).title());
+    }
+
+    private void putLocked(Long id, String author, String title) {
+        removeLocked(id);
+        posts.put(id, new IndexedPost(author, title));
+        if (author == null) {
+            return;
+        }
+        TreeSet<Long> ids = idsByAuthor.computeIfAbsent(author, key -> new TreeSet<>());
+        if (!ids.isEmpty()) {
+            ranking.remove(new AuthorRank(author, ids.size()));
+        }
+        ids.add(id);
+        ranking.add(new AuthorRank(author, ids.size()));
+    }
+
+    private void removeLocked(Long id) {
+        IndexedPost post = posts.remove(id);
+        if (post == null || post.author() == null) {
+            return;
+        }
+        TreeSet<Long> ids = idsByAuthor.get(post.author());
+        ranking.remove(new AuthorRank(post.author(), ids.size()));
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByAuthor.remove(post.author());
+        } else {
+            ranking.add(new AuthorRank(post.author(), ids.size()));
+        }
+    }
+}
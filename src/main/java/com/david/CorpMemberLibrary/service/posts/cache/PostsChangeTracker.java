@@ -0,0 +1,115 @@
+package com.david.CorpMemberLibrary.service.posts.cache;
+
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 전체 변경 세대(generation) 추적기
+ *
+ * 목록 페이지(/posts)는 어떤 게시글이 저장/수정/삭제되어도 내용이 바뀔 수 있으므로,
+ * 커밋된 변경마다 세대 번호를 1씩 올리고 이 번호로 목록의 ETag를 만듭니다.
+ * 세대 번호가 같으면 목록 내용도 같으므로 DB를 조회하지 않고 304로 응답할 수 있습니다.
+ *
+ * 세대 번호는 재시작하면 0부터 다시 시작하므로, 이전 실행의 ETag와 겹치지 않도록
+ * 시작 시각(bootId)을 ETag에 함께 넣습니다.
+ *
+ * 읽기/쓰기 라우팅을 켜면 세대 번호는 주 DB 커밋 시점에 오르지만 목록은 복제본에서 읽으므로,
+ * 마지막 변경 후 max-lag 동안은 목록을 주 DB에서 읽어야 합니다 (isReplicaStale).
+ * 그러지 않으면 새 세대의 강한 ETag에 변경 전 목록이 담겨 다음 변경까지 304로 재사용됩니다.
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsChangeTracker {
+
+    private final long bootId = System.currentTimeMillis();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 복제본이 최근 변경을 아직 반영하지 못했을 수 있는 기간 (라우팅을 끄면 0)
+     */
+    private final long replicaLagNanos;
+
+    /**
+     * 마지막 변경 시각 (System.nanoTime(), 변경이 없었으면 시작 시각보다 replicaLagNanos 이전)
+     */
+    private volatile long lastChangedNanos;
+
+    /**
+     * 마지막 변경 시각 (HTTP 날짜 형식에 맞춰 초 단위로 절삭)
+     */
+    private volatile Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    /**
+     * @param routingEnabled 읽기/쓰기 라우팅 사용 여부
+     * @param maxLag 복제본 최대 지연
+     */
+    public PostsChangeTracker(@Value("${posts.datasource.routing.enabled:false}") boolean routingEnabled,
+                              @Value("${posts.datasource.routing.max-lag:5s}") Duration maxLag) {
+        this.replicaLagNanos = routingEnabled && maxLag.isPositive() ? maxLag.toNanos() : 0;
+        this.lastChangedNanos = System.nanoTime() - replicaLagNanos;
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋 이후)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        changed();
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (커밋 이후)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        changed();
+    }
+
+    /**
+     * 게시글 목록 ETag (강한 ETag)
+     *
+     * 목록을 조회하기 전에 읽어야 합니다. 조회 도중 변경이 커밋되면 이전 세대의 ETag에
+     * 새 내용이 담길 수 있지만, 다음 요청에서는 세대가 달라 다시 조회하므로 오래된 내용이 남지 않습니다.
+     *
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String etag() {
+        return "\"posts-" + Long.toHexString(bootId) + "-" + generation.get() + "\"";
+    }
+
+    /**
+     * 마지막 변경 시각
+     *
+     * @return epoch 밀리초
+     */
+    public long lastModified() {
+        return lastModified.toEpochMilli();
+    }
+
+    /**
+     * 마지막 변경이 아직 복제본에 없을 수 있는지 여부
+     *
+     * @return 라우팅을 켰고 마지막 변경 후 max-lag가 지나지 않았으면 true
+     */
+    public boolean isReplicaStale() {
+        return replicaLagNanos > 0 && System.nanoTime() - lastChangedNanos < replicaLagNanos;
+    }
+
+    private void changed() {
+        lastChangedNanos = System.nanoTime();  // 세대보다 먼저 기록 (새 ETag를 본 요청은 항상 주 DB에서 읽음)
+        generation.incrementAndGet();
+        lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,181 @@
+package com.david.CorpMemberLibrary.service.posts.cache;
+
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsCacheStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회용 read-through 캐시
+ *
+ * 상세 페이지(/posts/{id})와 수정 폼(/posts/update/{id})은 소수의 인기 게시글에
+ * 요청이 몰리므로, 조회 결과(PostsResponseDto)를 ID 기준으로 메모리에 보관합니다.
+ *
+ * Caffeine 캐시를 사용하는 이유:
+ * 1. W-TinyLFU 정책: 최근 사용 빈도를 기준으로 제거 대상을 골라 적중률이 높음
+ * 2. 최대 크기(maximum-size)와 만료 시간(expire-after-write)으로 메모리 사용량 제한
+ *
+ * 캐시 미스는 SingleFlight로 합칩니다. 같은 ID를 동시에 조회하면 DB 조회는 한 번만 수행하고,
+ * 게시글이 없을 때의 예외도 기다리던 요청 모두에게 한 번의 조회로 전달합니다.
+ * (Caffeine의 get(key, loader)는 예외를 공유하지 않아 기다리던 요청이 차례로 다시 조회함)
+ *
+ * 게시글이 수정/삭제되면 커밋 이후 PostsChangedEvent를 받아 해당 항목을 제거합니다.
+ * 제거와 겹친 조회는 변경 전 값을 읽었을 수 있으므로, 제거 횟수(invalidations)가
+ * 조회 시작 때와 달라졌으면 결과를 반환만 하고 캐시에 저장하지 않습니다.
+ *
+ * 읽기/쓰기 라우팅(posts.datasource.routing.enabled=true)을 켜면 캐시 미스는 복제본에서 읽으므로,
+ * 변경 후 max-lag 동안은 변경 전 값을 읽을 수 있습니다. 이 기간에 읽은 값은 캐시에 저장하지 않아
+ * 복제 지연이 캐시 만료 시간(expire-after-write)만큼 길어지지 않게 합니다.
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsDetailCache {
+
+    private final Cache<Long, PostsResponseDto> cache;
+
+    private final SingleFlight<Long, PostsResponseDto> loads;
+
+    /**
+     * 항목 제거 횟수 (제거와 겹친 조회 결과를 캐시에 넣지 않기 위해 사용)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 복제 지연 기간 안에 변경된 게시글 ID (라우팅을 켰을 때만 존재, max-lag 후 만료)
+     */
+    private final Cache<Long, Boolean> recentlyChanged;
+
+    /**
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWrite 저장 후 만료 시간
+     * @param routingEnabled 읽기/쓰기 라우팅 사용 여부
+     * @param maxLag 복제본 최대 지연 (이 기간에 변경된 게시글은 캐시에 저장하지 않음)
+     * @param meterRegistry 지표 저장소 (cache.gets, cache.evictions 등으로 노출)
+     */
+    public PostsDetailCache(@Value("${posts.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${posts.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                            @Value("${posts.datasource.routing.enabled:false}") boolean routingEnabled,
+                            @Value("${posts.datasource.routing.max-lag:5s}") Duration maxLag,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()  // 적중/미스/제거 횟수 기록
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "posts.detail");
+        this.loads = new SingleFlight<>("posts.detail", meterRegistry);
+        this.recentlyChanged = routingEnabled && maxLag.isPositive()
+                ? Caffeine.newBuilder().expireAfterWrite(maxLag).build()
+                : null;
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 읽어서 저장
+     *
+     * loader에서 발생한 예외(예: 게시글 없음)는 그대로 전달되며 캐시에 저장되지 않습니다.
+     *
+     * @param id 게시글 ID
+     * @param loader 캐시 미스 시 DB에서 읽는 함수
+     * @return 게시글 응답 DTO
+     */
+    public PostsResponseDto get(Long id, Function<Long, PostsResponseDto> loader) {
+        PostsResponseDto cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(id, () -> {
+            long stamp = invalidations.get();
+            PostsResponseDto loaded = loader.apply(id);
+            if (invalidations.get() == stamp && !isRecentlyChanged(id)) {
+                cache.put(id, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리
+     *
+     * 커밋 이후에 제거해야 다른 요청이 커밋 전 값을 다시 캐시에 넣는 일을 줄일 수 있습니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() != PostsChangedEvent.Type.SAVED) {
+            evict(event.getId());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리
+     *
+     * 일괄 수정/삭제 모두 대상 ID 항목을 제거합니다.
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        invalidations.incrementAndGet();
+        event.getIds().forEach(this::markChanged);
+        event.getIds().forEach(loads::forget);
+        cache.invalidateAll(event.getIds());
+    }
+
+    /**
+     * 항목 제거
+     *
+     * @param id 게시글 ID
+     */
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        markChanged(id);
+        loads.forget(id);
+        cache.invalidate(id);
+    }
+
+    /**
+     * 전체 항목 제거
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        loads.forgetAll();
+        cache.invalidateAll();
+        if (recentlyChanged != null) {
+            recentlyChanged.invalidateAll();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 적중/미스/제거 횟수, 적중률과 미스 조회 합침 횟수
+     */
+    public PostsCacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new PostsCacheStatsDto(cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate(),
+                loads.leaderCount(), loads.followerCount(), loads.coalescedRate());
+    }
+
+    private void markChanged(Long id) {
+        if (recentlyChanged != null) {
+            recentlyChanged.put(id, Boolean.TRUE);
+        }
+    }
+
+    private boolean isRecentlyChanged(Long id) {
+        return recentlyChanged != null && recentlyChanged.getIfPresent(id) != null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.david.CorpMemberLibrary.service.posts.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 single-flight
+ *
+ * 인기 게시글이 외부에 링크되면 캐시가 비어 있는 순간 같은 ID로 수백 건의 요청이 동시에 들어옵니다.
+ * 처음 들어온 요청(leader)만 loader를 실행하고, 그 사이에 들어온 요청(follower)은
+ * 진행 중인 조회의 결과를 기다렸다가 함께 받습니다.
+ *
+ * - 예외(예: 게시글 없음)도 기다리던 요청 모두에게 같은 예외로 전달됩니다.
+ * - 결과를 보관하지 않습니다. 조회가 끝나면 바로 제거되므로 이후 요청은 새로 조회합니다.
+ * - loader는 leader 스레드에서 실행되므로 별도 스레드 풀이 필요 없습니다.
+ *
+ * 지표: posts.singleflight{name, role=leader|follower}
+ * 합쳐진 비율 = follower / (leader + follower)
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+
+    private final Counter followers;
+
+    /**
+     * @param name 지표 태그 이름
+     * @param meterRegistry 지표 저장소
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("posts.singleflight")
+                .description("실제로 실행한 조회 수")
+                .tags("name", name, "role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("posts.singleflight")
+                .description("진행 중인 조회에 합쳐진 요청 수")
+                .tags("name", name, "role", "follower")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 실행 (같은 키의 조회가 진행 중이면 그 결과를 기다림)
+     *
+     * @param key 키
+     * @param loader 조회 함수
+     * @return 조회 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 조회와의 연결을 끊음
+     *
+     * 데이터가 바뀐 뒤 들어온 요청이 변경 전에 시작된 조회 결과를 받지 않도록,
+     * 이후 요청은 새 조회를 시작합니다. (이미 기다리던 요청은 그대로 결과를 받음)
+     *
+     * @param key 키
+     */
+    public void forget(K key) {
+        flights.remove(key);
+    }
+
+    /**
+     * 모든 진행 중인 조회와의 연결을 끊음
+     */
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    /**
+     * 실제로 실행한 조회 수
+     */
+    public long leaderCount() {
+        return (long) leaders.count();
+    }
+
+    /**
+     * 진행 중인 조회에 합쳐진 요청 수
+     */
+    public long followerCount() {
+        return (long) followers.count();
+    }
+
+    /**
+     * 합쳐진 비율 (0.0 ~ 1.0, 요청이 없으면 0)
+     */
+    public double coalescedRate() {
+        long total = leaderCount() + followerCount();
+        return total == 0 ? 0.0 : (double) followerCount() / total;
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // leader에서 발생한 예외를 감싸지 않고 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
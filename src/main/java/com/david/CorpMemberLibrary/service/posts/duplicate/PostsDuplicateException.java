@@ -0,0 +1,25 @@
+package com.david.CorpMemberLibrary.service.posts.duplicate;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsDuplicateDto;
+import lombok.Getter;
+
+/**
+ * 중복 거절 모드(posts.duplicate.reject-on-save=true)에서
+ * 저장하려는 게시글과 비슷한 게시글이 이미 있을 때 발생하는 예외
+ *
+ * (웹 요청에서는 409 Conflict로 응답)
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+public class PostsDuplicateException extends IllegalArgumentException {
+
+    /**
+     * 가장 비슷한 기존 게시글 (아직 저장 중인 게시글이면 id가 null)
+     */
+    private final PostsDuplicateDto duplicate;
+
+    public PostsDuplicateException(PostsDuplicateDto duplicate) {
+        super(duplicate.getId() == null ? "비슷한 게시글을 저장하는 중입니다."
+                : "비슷한 게시글이 이미 있습니다. id=" + duplicate.getId());
+        this.duplicate = duplicate;
+    }
+}
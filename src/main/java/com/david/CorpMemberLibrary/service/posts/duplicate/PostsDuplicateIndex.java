@@ -0,0 +1,419 @@
+package com.david.CorpMemberLibrary.service.posts.duplicate;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsContent;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsDuplicateDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 중복 의심 색인 (SimHash + LSH)
+ *
+ * 피드에서 같은 회원 소개글이 약간씩 고쳐져 다시 들어오는 경우를 찾기 위해,
+ * 게시글마다 제목+내용의 64비트 SimHash 서명을 메모리에 유지합니다.
+ * 전체 게시글과 하나씩 비교(O(n))하지 않고 LSH 밴드로 후보만 골라 비교합니다.
+ *
+ * LSH 밴드:
+ * - 서명을 16비트씩 4개 밴드로 나누고, 밴드 값마다 게시글 ID 집합을 보관
+ * - 해밍 거리가 3 이하인 두 서명은 다른 비트가 최대 3개이므로 4개 밴드 중 하나는 반드시 같음 (비둘기집 원리)
+ * - 같은 밴드 값을 가진 게시글만 후보로 거리를 계산 (밴드 하나당 평균 n / 65536건)
+ *
+ * 그래서 max-distance는 0~3만 허용합니다.
+ *
+ * 중복 거절 모드에서는 저장 전에 reserve()로 확인과 서명 예약을 함께 해서,
+ * 커밋 전이라 아직 색인에 없는 동시 저장끼리도 서로 중복으로 거절합니다.
+ * 색인 유지 방식은 검색 색인(PostsSearchIndex)과 같습니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsDuplicateIndex {
+
+    /**
+     * 시작 시 색인을 만들 때 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private static final int BANDS = 4;
+
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * 게시글 샤드 (색인 생성 시 모든 샤드를 동시에 읽음)
+     */
+    private final PostsShards postsShards;
+
+    /**
+     * 중복으로 보는 최대 해밍 거리
+     */
+    private final int maxDistance;
+
+    /**
+     * 저장 시 중복이면 거절할지 여부
+     */
+    private final boolean rejectOnSave;
+
+    /**
+     * 게시글 ID -> 서명과 제목
+     */
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+
+    /**
+     * 밴드별 (밴드 값 -> 게시글 ID 집합)
+     */
+    private final List<Map<Integer, Set<Long>>> bands = new ArrayList<>(BANDS);
+
+    /**
+     * 저장 중인(커밋 전) 게시글의 예약 번호 -> 서명과 제목 (중복 거절 모드)
+     */
+    private final Map<Long, IndexedPost> reserved = new HashMap<>();
+
+    /**
+     * 마지막으로 발급한 예약 번호
+     */
+    private long lastReservation;
+
+    /**
+     * 조회는 동시에 여러 요청이 수행하고, 색인 변경과 예약만 배타적으로 수행
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인된 게시글 하나의 정보
+     *
+     * @param signature SimHash 서명
+     * @param title 제목 (결과 표시용)
+     */
+    private record IndexedPost(long signature, String title) {
+    }
+
+    /**
+     * @param postsRepository 게시글 리포지토리 (색인 생성용)
+     * @param postsShards 게시글 샤드 (색인 생성용)
+     * @param maxDistance 중복으로 보는 최대 해밍 거리 (0~3)
+     * @param rejectOnSave 저장 시 중복이면 거절할지 여부
+     */
+    public PostsDuplicateIndex(PostsRepository postsRepository,
+                               PostsShards postsShards,
+                               @Value("${posts.duplicate.max-distance:3}") int maxDistance,
+                               @Value("${posts.duplicate.reject-on-save:false}") boolean rejectOnSave) {
+        this.postsRepository = postsRepository;
+        this.postsShards = postsShards;
+        this.maxDistance = Math.clamp(maxDistance, 0, BANDS - 1);
+        this.rejectOnSave = rejectOnSave;
+        for (int band = 0; band < BANDS; band++) {
+            bands.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 게시글로 색인 생성
+     *
+     * 내용까지 필요하므로 엔티티를 id 커서로 REBUILD_CHUNK_SIZE씩 나누어 읽습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        clear();
+
+        postsShards.forEachShard(shard -> {
+            List<Posts> chunk = postsRepository.findAllByOrderByIdDesc(Limit.of(REBUILD_CHUNK_SIZE));
+            while (!chunk.isEmpty()) {
+                for (Posts found : chunk) {
+                    put(found.getId(), found.getTitle(), found.getContent());
+                }
+                Long cursor = chunk.get(chunk.size() - 1).getId();
+                chunk = postsRepository.findByIdLessThanOrderByIdDesc(cursor, Limit.of(REBUILD_CHUNK_SIZE));
+            }
+        });
+
+        log.info("게시글 중복 의심 색인 생성 완료: {}건, {}ms", size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋 이후)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            PostsResponseDto post = event.getPost();
+            put(post.getId(), post.getTitle(), post.getContent());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (커밋 이후)
+     *
+     * 서명은 제목+내용으로 만들므로 작성자만 바뀌었으면 할 일이 없습니다.
+     * 내용이 바뀌었으면 새 내용과 (새 또는 보관 중인) 제목으로 서명을 다시 계산하고,
+     * 제목만 바뀌었으면 내용이 필요하므로 내용 컬럼만 프로젝션(PostsContent)으로 다시 읽습니다.
+     * (색인에 없는 ID는 DB에도 없는 게시글이므로 건너뜀)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        List<Long> ids = event.getIds();
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            ids.forEach(this::remove);
+            return;
+        }
+        PostsBulkChangedEvent.Patch patch = event.getPatch();
+        if (patch.contentChanged()) {
+            // 제목도 바뀌었으면 모든 대상의 서명이 같으므로 한 번만 계산
+            Long shared = patch.titleChanged() ? signatureOf(patch.title(), patch.content()) : null;
+            for (Long id : ids) {
+                IndexedPost post = indexed(id);
+                if (post != null) {
+                    String title = patch.titleChanged() ? patch.title() : post.title();
+                    putSignature(id, shared != null ? shared : signatureOf(title, patch.content()), title);
+                }
+            }
+        } else if (patch.titleChanged()) {
+            for (int from = 0; from < ids.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, ids.size()));
+                for (List<PostsContent> contents : postsShards.readAll(shard -> postsRepository.findContents(chunk))) {
+                    for (PostsContent found : contents) {
+                        put(found.getId(), patch.title(), found.getContent());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 게시글 반영 (이미 있으면 이전 서명을 지우고 다시 반영)
+     *
+     * @param id 게시글 ID
+     * @param title 제목
+     * @param content 내용
+     */
+    public void put(Long id, String title, String content) {
+        putSignature(id, signatureOf(title, content), title);  // 서명은 잠금 밖에서 계산
+    }
+
+    private void putSignature(Long id, long signature, String title) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            posts.put(id, new IndexedPost(signature, title));
+            for (int band = 0; band < BANDS; band++) {
+                bands.get(band).computeIfAbsent(bandValue(signature, band), key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거
+     *
+     * @param id 게시글 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목/내용과 비슷한 게시글 조회
+     *
+     * @param title 제목
+     * @param content 내용
+     * @param limit 최대 개수
+     * @return 거리 오름차순(같으면 ID 오름차순) 중복 의심 게시글
+     */
+    public List<PostsDuplicateDto> find(String title, String content, int limit) {
+        return find(signatureOf(title, content), null, limit);
+    }
+
+    /**
+     * 게시글과 비슷한 다른 게시글 조회
+     *
+     * @param id 게시글 ID
+     * @param limit 최대 개수
+     * @return 거리 오름차순(같으면 ID 오름차순) 중복 의심 게시글
+     * @throws IllegalArgumentException 색인에 없는 게시글일 때
+     */
+    public List<PostsDuplicateDto> duplicatesOf(Long id, int limit) {
+        IndexedPost post = indexed(id);
+        if (post == null) {
+            throw new IllegalArgumentException("해당 게시글이 없습니다. id=" + id);
+        }
+        return find(post.signature(), id, limit);
+    }
+
+    /**
+     * 저장 전 중복 확인과 서명 예약 (중복 거절 모드)
+     *
+     * 색인은 커밋 이후에 갱신되므로 find()로 확인만 하면 동시에 저장되는 비슷한 글이 모두 통과합니다.
+     * 확인과 예약을 같은 쓰기 잠금 안에서 하고 색인과 함께 예약된(저장 중인) 서명도 비교하므로,
+     * 비슷한 글이 동시에 저장되면 하나만 통과합니다. 예약된 서명은 저장 중인 요청 수만큼만 있으므로 하나씩 비교합니다.
+     *
+     * 저장이 끝나면 커밋 여부와 상관없이 release()로 예약을 풀어야 합니다.
+     * (커밋되었으면 그 전에 변경 이벤트로 색인에 들어가 있음)
+     *
+     * @param title 제목
+     * @param content 내용
+     * @return 예약 번호
+     * @throws PostsDuplicateException 비슷한 게시글이 이미 있거나 저장 중일 때
+     */
+    public long reserve(String title, String content) {
+        long signature = signatureOf(title, content);  // 잠금 밖에서 계산
+        lock.writeLock().lock();
+        try {
+            List<PostsDuplicateDto> duplicates = find(signature, null, 1);  // 쓰기 잠금을 가진 채 읽기 잠금 재진입
+            if (!duplicates.isEmpty()) {
+                throw new PostsDuplicateException(duplicates.getFirst());
+            }
+            for (IndexedPost pending : reserved.values()) {
+                int distance = SimHash.distance(signature, pending.signature());
+                if (distance <= maxDistance) {
+                    throw new PostsDuplicateException(new PostsDuplicateDto(null, pending.title(), distance,
+                            1.0 - (double) distance / Long.SIZE));
+                }
+            }
+            long reservation = ++lastReservation;
+            reserved.put(reservation, new IndexedPost(signature, title));
+            return reservation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 서명 예약 해제
+     *
+     * @param reservation reserve()가 반환한 예약 번호
+     */
+    public void release(long reservation) {
+        lock.writeLock().lock();
+        try {
+            reserved.remove(reservation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장 시 중복이면 거절하는 모드인지 여부
+     */
+    public boolean isRejectOnSave() {
+        return rejectOnSave;
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체 비우기
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            posts.clear();
+            bands.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexedPost indexed(Long id) {
+        lock.readLock().lock();
+        try {
+            return posts.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<PostsDuplicateDto> find(long signature, Long excludeId, int limit) {
+        List<PostsDuplicateDto> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> candidates = bands.get(band).get(bandValue(signature, band));
+                if (candidates == null) {
+                    continue;
+                }
+                for (Long candidate : candidates) {
+                    if (candidate.equals(excludeId) || !seen.add(candidate)) {
+                        continue;
+                    }
+                    IndexedPost post = posts.get(candidate);
+                    int distance = SimHash.distance(signature, post.signature());
+                    if (distance <= maxDistance) {
+                        results.add(new PostsDuplicateDto(candidate, post.title(), distance,
+                                1.0 - (double) distance / Long.SIZE));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        results.sort(Comparator.comparingInt(PostsDuplicateDto::getDistance).thenComparing(PostsDuplicateDto::getId));
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    private void removeLocked(Long id) {
+        IndexedPost previous = posts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            Map<Integer, Set<Long>> buckets = bands.get(band);
+            int value = bandValue(previous.signature(), band);
+            Set<Long> ids = buckets.get(value);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                buckets.remove(value);
+            }
+        }
+    }
+
+    private static long signatureOf(String title, String content) {
+        return SimHash.of((title == null ? "" : title) + "\n" + (content == null ? "" : content));
+    }
+
+    private static int bandValue(long signature, int band) {
+        return (int) ((signature >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+}
@@ -0,0 +1,116 @@
+package com.david.CorpMemberLibrary.service.posts.duplicate;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 64비트 SimHash 서명
+ *
+ * 문서를 글자 3-gram(shingle)으로 나누고, 각 shingle의 64비트 해시를 출현 횟수만큼 더하고 빼서
+ * 비트마다 부호를 취합니다. 내용이 조금만 바뀌면 일부 shingle만 달라지므로 서명도 몇 비트만 바뀝니다.
+ * 두 서명의 해밍 거리(다른 비트 수)가 작을수록 비슷한 문서입니다.
+ *
+ * 한글은 띄어쓰기와 조사가 자주 바뀌므로 단어 대신 글자 단위 shingle을 사용하고,
+ * 대소문자와 연속된 공백은 무시합니다.
+ */
+final class SimHash {
+
+    /**
+     * shingle 길이 (글자 수)
+     */
+    static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * 서명 계산
+     *
+     * @param text 문서 (null이면 빈 문서)
+     * @return 64비트 서명
+     */
+    static long of(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return 0L;
+        }
+
+        Map<String, Integer> shingles = new HashMap<>();
+        if (normalized.length() <= SHINGLE) {
+            shingles.put(normalized, 1);
+        } else {
+            for (int i = 0; i + SHINGLE <= normalized.length(); i++) {
+                shingles.merge(normalized.substring(i, i + SHINGLE), 1, Integer::sum);
+            }
+        }
+
+        int[] votes = new int[Long.SIZE];
+        for (Map.Entry<String, Integer> shingle : shingles.entrySet()) {
+            long hash = hash(shingle.getKey());
+            int weight = shingle.getValue();
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+            }
+        }
+
+        long signature = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                signature |= 1L << bit;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 해밍 거리 (다른 비트 수)
+     */
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 소문자로 바꾸고 연속된 공백을 하나로 합침
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+                continue;
+            }
+            if (space) {
+                builder.append(' ');
+                space = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 64비트 문자열 해시 (FNV-1a 후 비트 섞기)
+     *
+     * String.hashCode()는 32비트이고 비슷한 문자열의 해시가 비슷해서 SimHash에 쓰기 어렵습니다.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // MurmurHash3 fmix64
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
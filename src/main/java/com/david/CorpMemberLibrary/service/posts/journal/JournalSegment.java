@@ -0,0 +1,161 @@
+package com.david.CorpMemberLibrary.service.posts.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 변경 저널 세그먼트 (메모리 매핑된 고정 크기 파일 하나)
+ *
+ * 항목 형식:
+ * <pre>
+ * [길이 int][seq long][JSON UTF-8 바이트]
+ * </pre>
+ * 길이는 seq와 JSON을 모두 쓴 다음 마지막에 기록합니다. 새 파일은 0으로 채워져 있으므로
+ * 기록 도중 프로세스가 종료되면 길이가 0으로 남고, 복구할 때 그 위치를 저널의 끝으로 봅니다.
+ *
+ * 동기화하지 않으므로 PostsChangeJournal의 잠금 안에서만 사용합니다.
+ */
+final class JournalSegment {
+
+    private static final int HEADER = Integer.BYTES + Long.BYTES;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    /**
+     * 이 세그먼트의 첫 순번
+     */
+    private final long firstSeq;
+
+    /**
+     * 항목 순서대로의 파일 내 위치 (offsets[seq - firstSeq])
+     */
+    private int[] offsets = new int[1024];
+
+    private int count;
+
+    private int writePosition;
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer, long firstSeq) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.firstSeq = firstSeq;
+    }
+
+    /**
+     * 새 세그먼트 생성
+     *
+     * @param path 파일 경로
+     * @param firstSeq 첫 순번
+     * @param capacity 파일 크기
+     */
+    static JournalSegment create(Path path, long firstSeq, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), firstSeq);
+    }
+
+    /**
+     * 기존 세그먼트를 열고 끝까지 읽어 위치 색인을 복구
+     *
+     * @param path 파일 경로
+     * @param firstSeq 첫 순번 (파일 이름에서 읽은 값)
+     */
+    static JournalSegment open(Path path, long firstSeq) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        JournalSegment segment = new JournalSegment(path, channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()), firstSeq);
+        segment.recover();
+        return segment;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 공간이 부족하면 false
+     */
+    boolean append(long seq, byte[] json) {
+        int length = HEADER + json.length;
+        if (writePosition + length + Integer.BYTES > buffer.capacity()) {
+            return false;  // 끝 표시(길이 0)를 위한 4바이트는 항상 남겨 둠
+        }
+        int position = writePosition;
+        buffer.putLong(position + Integer.BYTES, seq);
+        buffer.put(position + HEADER, json);
+        buffer.putInt(position, length);  // 마지막에 길이를 기록해서 항목을 확정
+        addOffset(position);
+        writePosition = position + length;
+        return true;
+    }
+
+    /**
+     * 순번으로 항목 읽기
+     *
+     * @param seq 순번 (firstSeq ~ lastSeq)
+     */
+    PostsJournalEntry read(long seq) {
+        int position = offsets[(int) (seq - firstSeq)];
+        int length = buffer.getInt(position);
+        byte[] json = new byte[length - HEADER];
+        buffer.get(position + HEADER, json);
+        return new PostsJournalEntry(buffer.getLong(position + Integer.BYTES), new String(json, StandardCharsets.UTF_8));
+    }
+
+    long firstSeq() {
+        return firstSeq;
+    }
+
+    /**
+     * 마지막 순번 (항목이 없으면 firstSeq - 1)
+     */
+    long lastSeq() {
+        return firstSeq + count - 1;
+    }
+
+    /**
+     * 디스크에 강제 기록 후 닫기
+     */
+    void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * 닫고 파일 삭제 (보관 기간이 지난 세그먼트)
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    private void recover() {
+        int position = 0;
+        while (position + HEADER <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < HEADER || position + length > buffer.capacity()
+                    || buffer.getLong(position + Integer.BYTES) != firstSeq + count) {
+                break;  // 끝 또는 기록 중 끊긴 항목
+            }
+            addOffset(position);
+            position += length;
+        }
+        writePosition = position;
+    }
+
+    private void addOffset(int position) {
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = position;
+    }
+}
@@ -0,0 +1,379 @@
+package com.david.CorpMemberLibrary.service.posts.journal;
+
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsChangeDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 변경 저널 (추가 전용 로그)
+ *
+ * 게시글 저장/수정/삭제가 커밋될 때마다 순번(seq)을 붙인 변경 항목을 메모리 매핑 파일에 추가합니다.
+ * 하위 시스템은 전체 목록을 다시 읽어 비교하지 않고, 마지막으로 받은 순번 이후의 변경만 받아 동기화합니다.
+ *
+ * 저장 구조:
+ * - 고정 크기 세그먼트 파일(posts-journal-{첫 순번}.log)을 차례로 만들고, 가득 차면 다음 세그먼트로 넘어감
+ * - 세그먼트가 max-segments 개를 넘으면 가장 오래된 것부터 삭제
+ *   (삭제된 구간 이전부터 이어 받으려는 구독자는 전체를 다시 읽어야 함 -> earliestSeq() 참고)
+ * - 시작할 때 기존 세그먼트를 읽어 마지막 순번부터 이어서 기록
+ *
+ * 저널 세대(epoch):
+ * 순번이 1부터 다시 시작할 때마다(새 디렉터리, 세그먼트가 모두 없어짐) 새 세대 값을 만들어 posts-journal.epoch에 저장합니다.
+ * 구독자는 (세대, 순번)으로 위치를 기억하므로, 세대가 다르면 예전 순번을 그대로 이어 받지 않고 전체를 다시 읽습니다.
+ *
+ * 경로를 설정하지 않으면 임시 디렉터리를 사용하므로 재시작할 때마다 새 세대가 시작되고, 종료할 때 디렉터리를 삭제합니다.
+ * 기록은 OS 페이지 캐시에 맡기고 종료할 때만 디스크에 강제 기록(force)합니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsChangeJournal {
+
+    private static final String PREFIX = "posts-journal-";
+
+    private static final String SUFFIX = ".log";
+
+    private static final String EPOCH_FILE = "posts-journal.epoch";
+
+    private final JsonMapper jsonMapper;
+
+    private final Path directory;
+
+    /**
+     * 임시 디렉터리 사용 여부 (종료할 때 삭제)
+     */
+    private final boolean temporary;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    /**
+     * 오래된 순서의 세그먼트 목록 (마지막이 기록 중인 세그먼트)
+     */
+    private final Deque<JournalSegment> segments = new ArrayDeque<>();
+
+    /**
+     * 기록과 읽기를 보호하는 잠금
+     *
+     * 구독자 스레드는 새 항목이 추가될 때까지 appended 조건에서 기다립니다.
+     * (synchronized 대신 ReentrantLock을 사용해서 가상 스레드가 캐리어 스레드를 붙잡지 않게 함)
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition appended = lock.newCondition();
+
+    private long lastSeq;
+
+    /**
+     * 저널 세대 (순번이 1부터 다시 시작할 때마다 바뀜)
+     */
+    private String epoch;
+
+    /**
+     * 생성자
+     *
+     * @param jsonMapper 항목 JSON 변환용
+     * @param path 저널 디렉터리 (비어 있으면 임시 디렉터리)
+     * @param segmentSize 세그먼트 파일 크기
+     * @param maxSegments 보관할 최대 세그먼트 수
+     */
+    public PostsChangeJournal(JsonMapper jsonMapper,
+                              @Value("${posts.journal.path:}") String path,
+                              @Value("${posts.journal.segment-size:16MB}") DataSize segmentSize,
+                              @Value("${posts.journal.max-segments:8}") int maxSegments) throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.temporary = path.isBlank();
+        this.directory = temporary ? Files.createTempDirectory(PREFIX) : Files.createDirectories(Path.of(path));
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.maxSegments = Math.max(1, maxSegments);
+        recover();
+    }
+
+    /**
+     * 게시글 변경 이벤트 기록 (커밋 이후)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        append(event.getType(), event.getId(), event.getPost());
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 기록 (커밋 이후)
+     *
+     * 게시글마다 항목을 하나씩 기록하며, 변경 후 데이터는 담지 않습니다.
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        for (Long id : event.getIds()) {
+            append(event.getType(), id, null);
+        }
+    }
+
+    /**
+     * 변경 항목 추가
+     *
+     * @param type 변경 종류
+     * @param id 게시글 ID
+     * @param post 변경 후 게시글 (없으면 null)
+     * @return 부여된 순번
+     */
+    public long append(PostsChangedEvent.Type type, Long id, PostsResponseDto post) {
+        lock.lock();
+        try {
+            long seq = lastSeq + 1;
+            byte[] json = jsonMapper.writeValueAsBytes(
+                    new PostsChangeDto(seq, type.name(), id, post, System.currentTimeMillis()));
+            if (!segments.getLast().append(seq, json)) {
+                roll(seq, json.length);
+                segments.getLast().append(seq, json);
+            }
+            lastSeq = seq;
+            appended.signalAll();
+            return seq;
+        } catch (IOException e) {
+            throw new UncheckedIOException("변경 저널에 기록하지 못했습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 순번 이후의 항목 읽기
+     *
+     * @param afterSeq 마지막으로 받은 순번 (이 순번 다음부터 읽음)
+     * @param max 최대 개수
+     * @return 순번 오름차순 항목 (afterSeq가 보관 구간 이전이면 보관된 첫 항목부터)
+     */
+    public List<PostsJournalEntry> read(long afterSeq, int max) {
+        lock.lock();
+        try {
+            List<PostsJournalEntry> entries = new ArrayList<>();
+            long seq = Math.max(afterSeq + 1, earliestSeqLocked());
+            Iterator<JournalSegment> it = segments.iterator();
+            while (it.hasNext() && entries.size() < max) {
+                JournalSegment segment = it.next();
+                for (; seq <= segment.lastSeq() && entries.size() < max; seq++) {
+                    entries.add(segment.read(seq));
+                }
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 순번 이후의 항목이 추가될 때까지 대기
+     *
+     * @param afterSeq 마지막으로 받은 순번
+     * @param timeoutMillis 최대 대기 시간
+     * @return 새 항목이 있으면 true, 시간이 지나면 false
+     */
+    public boolean await(long afterSeq, long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (lastSeq <= afterSeq) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 순번 (항목이 없으면 0)
+     */
+    public long lastSeq() {
+        lock.lock();
+        try {
+            return lastSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널 세대
+     *
+     * 같은 순번이라도 세대가 다르면 다른 변경이므로, 구독자는 순번과 함께 이 값을 기억해야 합니다.
+     */
+    public String epoch() {
+        lock.lock();
+        try {
+            return epoch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널 디렉터리
+     */
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * 보관 중인 첫 순번
+     *
+     * 구독자가 이어 받으려는 순번(afterSeq + 1)이 이보다 작으면 중간 변경이 빠지므로 전체를 다시 읽어야 합니다.
+     */
+    public long earliestSeq() {
+        lock.lock();
+        try {
+            return earliestSeqLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 항목을 삭제하고 새 세대로 다시 시작 (테스트용)
+     *
+     * 구독 중인 피드는 세대가 바뀐 것을 보고 reset을 보냅니다.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            while (!segments.isEmpty()) {
+                segments.removeFirst().delete();
+            }
+            roll(1, 0);
+            epoch = newEpoch();
+            lastSeq = 0;
+            appended.signalAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("변경 저널을 비우지 못했습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 디스크에 강제 기록 후 닫기 (임시 디렉터리는 삭제)
+     */
+    @PreDestroy  // Jakarta: 빈 소멸 직전에 호출
+    public void close() {
+        lock.lock();
+        try {
+            for (JournalSegment segment : segments) {
+                if (temporary) {
+                    segment.delete();
+                } else {
+                    segment.close();
+                }
+            }
+            segments.clear();
+            if (temporary) {
+                Files.deleteIfExists(directory.resolve(EPOCH_FILE));
+                Files.deleteIfExists(directory);
+            }
+        } catch (IOException e) {
+            log.warn("변경 저널을 닫지 못했습니다. directory={}", directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long earliestSeqLocked() {
+        return segments.getFirst().firstSeq();
+    }
+
+    /**
+     * 새 세그먼트로 넘어가고 보관 개수를 넘은 세그먼트 삭제
+     */
+    private void roll(long firstSeq, int entrySize) throws IOException {
+        // 세그먼트보다 큰 항목은 그 항목만 담을 수 있는 크기로 만듦
+        int capacity = Math.max(segmentSize, entrySize + 64);
+        segments.addLast(JournalSegment.create(directory.resolve(fileName(firstSeq)), firstSeq, capacity));
+        while (segments.size() > maxSegments) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().startsWith(PREFIX)
+                            && p.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            JournalSegment segment = JournalSegment.open(file, firstSeqOf(file));
+            if (!segments.isEmpty() && segment.firstSeq() != segments.getLast().lastSeq() + 1) {
+                // 순번이 끊긴 세그먼트(이전 세그먼트가 기록 도중 끊김)는 이어 쓸 수 없으므로 앞부분을 버림
+                log.warn("변경 저널 순번이 끊겨 이전 세그먼트를 버립니다. file={}", file);
+                while (!segments.isEmpty()) {
+                    segments.removeFirst().delete();
+                }
+            }
+            segments.addLast(segment);
+        }
+        Path epochFile = directory.resolve(EPOCH_FILE);
+        if (segments.isEmpty() || !Files.exists(epochFile)) {
+            // 순번이 1부터 다시 시작하거나 세대를 알 수 없으면 새 세대로 시작
+            if (segments.isEmpty()) {
+                roll(1, 0);
+            }
+            epoch = newEpoch();
+        } else {
+            epoch = Files.readString(epochFile).strip();
+        }
+        lastSeq = segments.getLast().lastSeq();
+        log.info("변경 저널 시작 directory={}, epoch={}, earliestSeq={}, lastSeq={}",
+                directory, epoch, earliestSeqLocked(), lastSeq);
+    }
+
+    /**
+     * 새 세대 값을 만들어 파일에 저장
+     */
+    private String newEpoch() throws IOException {
+        String value = UUID.randomUUID().toString();
+        Files.writeString(directory.resolve(EPOCH_FILE), value);
+        return value;
+    }
+
+    /**
+     * 세그먼트 파일 이름 (첫 순번을 0으로 채워 이름순 정렬이 순번순이 되게 함)
+     */
+    private static String fileName(long firstSeq) {
+        return PREFIX + String.format("%020d", firstSeq) + SUFFIX;
+    }
+
+    private static long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.david.CorpMemberLibrary.service.posts.journal;
+
+/**
+ * 변경 저널 항목
+ *
+ * @param seq 순번 (1부터 1씩 증가)
+ * @param json 변경 내용 JSON (PostsChangeDto 형식, 저널에 저장된 그대로)
+ */
+public record PostsJournalEntry(long seq, String json) {
+}
@@ -0,0 +1,95 @@
+package com.david.CorpMemberLibrary.service.posts.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 포스팅 리스트 (게시글 ID 목록)
+ *
+ * List&lt;Long&gt; 대신 정렬된 long[] / int[] 배열을 사용합니다.
+ * - 박싱(boxing) 객체가 없어 게시글 수가 많아도 메모리 사용량이 작음
+ * - ID가 정렬되어 있어 추가/삭제 위치를 이진 탐색으로 찾음
+ *
+ * 동기화는 하지 않으며, PostsSearchIndex의 락 안에서만 사용합니다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * 오름차순으로 정렬된 게시글 ID
+     */
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    /**
+     * ids와 같은 위치의 가중치 (필드별 가중치를 곱한 토큰 등장 횟수)
+     */
+    private int[] weights = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * 게시글 추가 (이미 있으면 가중치 교체)
+     *
+     * @param id 게시글 ID
+     * @param weight 가중치
+     */
+    void put(long id, int weight) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            weights[pos] = weight;
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        weights[insertAt] = weight;
+        size++;
+    }
+
+    /**
+     * 게시글 제거
+     *
+     * @param id 게시글 ID
+     */
+    void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+        size--;
+    }
+
+    /**
+     * 게시글의 가중치 조회
+     *
+     * @param id 게시글 ID
+     * @return 가중치, 없으면 0
+     */
+    int weightOf(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        return pos >= 0 ? weights[pos] : 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int weightAt(int index) {
+        return weights[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
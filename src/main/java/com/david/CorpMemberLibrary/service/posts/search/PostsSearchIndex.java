@@ -0,0 +1,386 @@
+package com.david.CorpMemberLibrary.service.posts.search;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSearchResultDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문(full-text) 검색용 메모리 역색인(inverted index)
+ *
+ * 제목/내용/작성자를 토큰으로 나누고, 토큰마다 그 토큰을 포함한 게시글 ID 목록
+ * (포스팅 리스트)을 유지합니다. 검색 시 LIKE '%검색어%'로 테이블 전체를 훑지 않고
+ * 검색어 토큰의 포스팅 리스트만 읽어서 점수를 계산합니다.
+ *
+ * 점수 계산은 BM25 방식을 사용하며, 필드별 가중치는 제목 3, 작성자 2, 내용 1입니다.
+ *
+ * 색인 유지 방식:
+ * 1. 애플리케이션 시작이 끝나면(ApplicationReadyEvent) DB 전체를 읽어 색인 생성
+ * 2. 이후에는 PostsChangedEvent를 받아 변경된 게시글만 반영 (커밋 이후)
+ * 3. 일괄 수정(PostsBulkChangedEvent)은 게시글을 다시 읽지 않고 이벤트의 새 값을 메모리에서 적용
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    /**
+     * BM25 파라미터
+     */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 시작 시 색인을 만들 때 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * 게시글 샤드 (색인 생성 시 모든 샤드를 동시에 읽음)
+     */
+    private final PostsShards postsShards;
+
+    /**
+     * 토큰 -> 포스팅 리스트
+     */
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    /**
+     * 게시글 ID -> 색인된 문서 정보 (수정/삭제 시 기존 토큰을 지우기 위해 보관)
+     */
+    private final Map<Long, IndexedDoc> docs = new HashMap<>();
+
+    /**
+     * 검색은 동시에 여러 요청이 수행하고, 색인 변경만 배타적으로 수행
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 모든 문서 길이의 합 (BM25 평균 문서 길이 계산용)
+     */
+    private long totalLength;
+
+    /**
+     * 색인된 문서 하나의 정보
+     *
+     * @param title 게시글 제목 (검색 결과 표시용)
+     * @param author 게시글 작성자 (검색 결과 표시용)
+     * @param terms 문서에 포함된 토큰 (중복 제거)
+     * @param length 가중치를 적용한 문서 길이
+     */
+    private record IndexedDoc(String title, String author, String[] terms, int length) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 게시글로 색인 생성
+     *
+     * 전체 테이블을 한 번에 읽지 않고 id 커서로 REBUILD_CHUNK_SIZE씩 나누어 읽습니다.
+     * 샤딩을 켜면 샤드마다 동시에 읽어 하나의 색인에 넣습니다 (검색은 모든 샤드의 게시글 대상).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        clear();
+
+        postsShards.forEachShard(shard -> {
+            List<Posts> chunk = postsRepository.findAllByOrderByIdDesc(Limit.of(REBUILD_CHUNK_SIZE));
+            while (!chunk.isEmpty()) {
+                for (Posts posts : chunk) {
+                    index(new PostsResponseDto(posts));
+                }
+                Long cursor = chunk.get(chunk.size() - 1).getId();
+                chunk = postsRepository.findByIdLessThanOrderByIdDesc(cursor, Limit.of(REBUILD_CHUNK_SIZE));
+            }
+        });
+
+        log.info("게시글 검색 색인 생성 완료: {}건, 토큰 {}개, {}ms",
+                size(), termCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리
+     *
+     * 트랜잭션이 커밋된 뒤에 실행되므로 롤백된 변경은 색인에 반영되지 않습니다.
+     * (트랜잭션 밖에서 발행된 이벤트는 fallbackExecution으로 즉시 실행)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            index(event.getPost());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리
+     *
+     * 삭제는 대상 ID를 색인에서 제거합니다.
+     * 수정은 게시글을 다시 읽지 않고 이벤트의 새 값(Patch)을 색인에 적용합니다.
+     * 색인에 없는 ID는 DB에도 없는 게시글이므로 건너뜁니다.
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            event.getIds().forEach(this::remove);
+            return;
+        }
+        PostsBulkChangedEvent.Patch patch = event.getPatch();
+        // 새 값의 토큰은 모든 대상에 같으므로 한 번만 계산
+        Map<String, Integer> titleTerms = patch.titleChanged() ? termsOf(patch.title(), TITLE_WEIGHT) : null;
+        Map<String, Integer> authorTerms = patch.authorChanged() ? termsOf(patch.author(), AUTHOR_WEIGHT) : null;
+        Map<String, Integer> contentTerms = patch.contentChanged() ? termsOf(patch.content(), CONTENT_WEIGHT) : null;
+        for (Long id : event.getIds()) {
+            lock.writeLock().lock();
+            try {
+                patchLocked(id, patch, titleTerms, authorTerms, contentTerms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 기존 토큰을 지우고 다시 색인)
+     *
+     * @param post 색인할 게시글
+     */
+    public void index(PostsResponseDto post) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, post.getTitle(), TITLE_WEIGHT);
+        addTerms(termWeights, post.getAuthor(), AUTHOR_WEIGHT);
+        addTerms(termWeights, post.getContent(), CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            putLocked(post.getId(), post.getTitle(), post.getAuthor(), termWeights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거
+     *
+     * @param id 제거할 게시글 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련된 게시글을 점수 순으로 조회
+     *
+     * 검색어 토큰 중 하나라도 포함한 게시글이 후보가 되며(OR 검색),
+     * 여러 토큰을 포함하거나 제목/작성자에 포함될수록 점수가 높아집니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 검색 결과
+     */
+    public List<PostsSearchResultDto> search(String query, int limit) {
+        List<String> terms = PostsTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / docCount;
+
+            // 포스팅 리스트를 순회하며 게시글별 점수 누적
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+                for (int i = 0; i < list.size(); i++) {
+                    long id = list.idAt(i);
+                    int weight = list.weightAt(i);
+                    double norm = K1 * (1 - B + B * docs.get(id).length() / avgLength);
+                    scores.merge(id, idf * weight * (K1 + 1) / (weight + norm), Double::sum);
+                }
+            }
+
+            // 상위 limit개만 유지하는 최소 힙으로 정렬 비용을 줄임
+            Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.comparingByValue();
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byScore);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<PostsSearchResultDto> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Long, Double> entry = top.poll();
+                IndexedDoc doc = docs.get(entry.getKey());
+                results.add(new PostsSearchResultDto(entry.getKey(), doc.title(), doc.author(), entry.getValue()));
+            }
+            results.sort(Comparator.comparingDouble(PostsSearchResultDto::getScore).reversed());
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 수
+     *
+     * @return 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 토큰 종류 수
+     *
+     * @return 토큰 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체 삭제
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글에 일괄 수정 값 적용
+     *
+     * 토큰 가중치는 필드별 가중치의 합이므로, 색인된 가중치에서 보관 중인 제목/작성자의 토큰을 빼면
+     * 내용의 토큰만 남습니다. 내용이 바뀌지 않았으면 이렇게 구한 내용 토큰에
+     * 새(또는 기존) 제목/작성자 토큰을 더해 다시 색인합니다.
+     */
+    private void patchLocked(Long id, PostsBulkChangedEvent.Patch patch, Map<String, Integer> titleTerms,
+                             Map<String, Integer> authorTerms, Map<String, Integer> contentTerms) {
+        IndexedDoc doc = docs.get(id);
+        if (doc == null) {
+            return;
+        }
+        Map<String, Integer> termWeights = new HashMap<>();
+        if (contentTerms != null) {
+            termWeights.putAll(contentTerms);
+        } else {
+            for (String term : doc.terms()) {
+                termWeights.put(term, postings.get(term).weightOf(id));
+            }
+            subtractTerms(termWeights, termsOf(doc.title(), TITLE_WEIGHT));
+            subtractTerms(termWeights, termsOf(doc.author(), AUTHOR_WEIGHT));
+        }
+        (titleTerms != null ? titleTerms : termsOf(doc.title(), TITLE_WEIGHT))
+                .forEach((term, weight) -> termWeights.merge(term, weight, Integer::sum));
+        (authorTerms != null ? authorTerms : termsOf(doc.author(), AUTHOR_WEIGHT))
+                .forEach((term, weight) -> termWeights.merge(term, weight, Integer::sum));
+        putLocked(id, patch.titleChanged() ? patch.title() : doc.title(),
+                patch.authorChanged() ? patch.author() : doc.author(), termWeights);
+    }
+
+    private void putLocked(Long id, String title, String author, Map<String, Integer> termWeights) {
+        int length = 0;
+        for (int weight : termWeights.values()) {
+            length += weight;
+        }
+        removeLocked(id);
+        for (Map.Entry<String, Integer> entry : termWeights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new PostingList()).put(id, entry.getValue());
+        }
+        docs.put(id, new IndexedDoc(title, author, termWeights.keySet().toArray(new String[0]), length));
+        totalLength += length;
+    }
+
+    private void removeLocked(Long id) {
+        IndexedDoc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= doc.length();
+    }
+
+    private static void addTerms(Map<String, Integer> termWeights, String text, int fieldWeight) {
+        for (String token : PostsTokenizer.tokenize(text)) {
+            termWeights.merge(token, fieldWeight, Integer::sum);
+        }
+    }
+
+    private static Map<String, Integer> termsOf(String text, int fieldWeight) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, text, fieldWeight);
+        return termWeights;
+    }
+
+    private static void subtractTerms(Map<String, Integer> termWeights, Map<String, Integer> removed) {
+        removed.forEach((term, weight) ->
+                termWeights.computeIfPresent(term, (key, current) -> current > weight ? current - weight : null));
+    }
+}
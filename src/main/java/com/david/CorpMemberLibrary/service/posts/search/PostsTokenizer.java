@@ -0,0 +1,65 @@
+package com.david.CorpMemberLibrary.service.posts.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ *
+ * 문자/숫자가 아닌 문자를 기준으로 텍스트를 잘라 소문자 토큰으로 만듭니다.
+ * 한글은 조사가 붙어 "삼성전자의", "삼성전자는"처럼 형태가 달라지므로
+ * 단어 전체 외에 두 글자씩 끊은 바이그램(bigram)도 함께 토큰으로 만듭니다.
+ * 예: "삼성전자의" -> [삼성전자의, 삼성, 성전, 전자, 자의]
+ *
+ * 색인과 검색어에 같은 토크나이저를 사용하므로
+ * "삼성전자"로 검색해도 "삼성전자의"가 포함된 게시글을 찾을 수 있습니다.
+ */
+final class PostsTokenizer {
+
+    private PostsTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 변환
+     *
+     * @param text 변환할 텍스트 (null 허용)
+     * @return 토큰 목록 (중복 포함, 등장 순서)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(text.substring(start, i).toLowerCase(Locale.ROOT), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(String word, List<String> tokens) {
+        tokens.add(word);
+        if (word.length() > 2 && containsHangul(word)) {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,355 @@
+package com.david.CorpMemberLibrary.service.posts.shard;
+
+import com.david.CorpMemberLibrary.config.shard.ShardContext;
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 샤드 배치와 샤드별 작업 실행
+ *
+ * 샤딩(posts.sharding.enabled=true)을 켜면 법인(Posts.corporation)마다 샤드 하나에 게시글을 저장합니다.
+ * - 법인 하나의 작업: 그 법인의 샤드에서만 실행 (inCorporation)
+ * - 전체 목록/색인 생성처럼 여러 법인에 걸친 작업: 모든 샤드에 동시에 실행하고 결과를 모음 (readAll, merge)
+ *
+ * 법인 -> 샤드 배치는 렌데부(HRW) 해시로 정합니다. 법인과 샤드 이름의 해시 점수가 가장 높은 샤드를 고르므로,
+ * 샤드를 하나 추가해도 새 샤드로 옮겨 가는 법인은 약 1/N뿐입니다 (나머지 법인의 배치는 그대로).
+ * 특정 법인을 원하는 샤드에 두려면 posts.sharding.placement[법인]=샤드 로 고정합니다.
+ * (이미 저장된 게시글을 옮기지는 않으므로, 운영 중에 배치를 바꾸면 데이터를 직접 옮겨야 함)
+ *
+ * 샤딩을 끄면 기본 샤드 하나만 있는 것으로 동작하며, 모든 작업을 호출한 스레드에서 바로 실행합니다.
+ * (추가 스레드, 트랜잭션, SQL이 없음)
+ *
+ * 주의: 여러 샤드에 동시에 실행하는 작업은 다른 스레드에서 실행되므로
+ * 호출한 쪽의 트랜잭션과 SQL 예산(SqlStatements) 집계에 포함되지 않습니다.
+ *
+ * 지표: posts.sharding.scatter (모든 샤드에 동시에 실행한 작업의 소요 시간)
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsShards {
+
+    /**
+     * 샤딩을 껐을 때의 샤드 이름
+     */
+    public static final String DEFAULT_SHARD = "default";
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * 샤드마다 별도 트랜잭션으로 실행할 때 사용
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 샤드 이름 목록 (설정 순서, 첫 번째가 기본 샤드)
+     */
+    private final List<String> names;
+
+    /**
+     * 샤드 이름 해시 (names와 같은 순서, 렌데부 해시용)
+     */
+    private final long[] nameHashes;
+
+    /**
+     * 법인 -> 샤드 고정 배치
+     */
+    private final Map<String, String> placement;
+
+    /**
+     * 샤드별 작업을 동시에 실행하는 가상 스레드 (작업이 대부분 DB 응답 대기이므로 샤드마다 스레드 하나)
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer scatterTimer;
+
+    public PostsShards(PostsRepository postsRepository,
+                       TransactionTemplate transactionTemplate,
+                       Environment environment,
+                       @Value("${posts.sharding.enabled:false}") boolean enabled,
+                       @Value("${posts.sharding.shards:}") List<String> shards,
+                       MeterRegistry meterRegistry) {
+        this.postsRepository = postsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.names = enabled ? List.copyOf(shards) : List.of(DEFAULT_SHARD);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("posts.sharding.shards에 샤드가 하나 이상 필요합니다.");
+        }
+        this.nameHashes = names.stream().mapToLong(PostsShards::hash).toArray();
+        this.placement = enabled
+                ? Binder.get(environment).bind("posts.sharding.placement", Bindable.mapOf(String.class, String.class))
+                        .orElse(Map.of())
+                : Map.of();
+        placement.forEach((corporation, shard) -> {
+            if (!names.contains(shard)) {
+                throw new IllegalStateException("posts.sharding.placement의 샤드가 없습니다: " + corporation + "=" + shard);
+            }
+        });
+        this.scatterTimer = Timer.builder("posts.sharding.scatter")
+                .description("모든 샤드에 동시에 실행한 작업의 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 샤드 이름 목록 (첫 번째가 기본 샤드)
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * @return 샤드가 둘 이상인지 여부
+     */
+    public boolean isSharded() {
+        return names.size() > 1;
+    }
+
+    /**
+     * 법인의 게시글이 저장되는 샤드
+     *
+     * @param corporation 법인 키 (null이면 기본 법인)
+     * @return 샤드 이름
+     */
+    public String shardOf(String corporation) {
+        if (!isSharded()) {
+            return names.getFirst();
+        }
+        String key = Posts.normalizeCorporation(corporation);
+        String fixed = placement.get(key);
+        if (fixed != null) {
+            return fixed;
+        }
+        long corporationHash = hash(key);
+        int best = 0;
+        long bestScore = Long.MIN_VALUE;
+        for (int i = 0; i < names.size(); i++) {
+            long score = mix(corporationHash ^ nameHashes[i]);
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return names.get(best);
+    }
+
+    /**
+     * 샤드 하나에서 작업 실행 (호출한 스레드에서 실행, 트랜잭션은 호출한 쪽을 따름)
+     *
+     * 호출한 쪽이 트랜잭션 안이면 그 트랜잭션에서 아직 SQL을 실행하지 않았어야 합니다.
+     *
+     * @param shard 샤드 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T inShard(String shard, Supplier<T> action) {
+        if (!isSharded()) {
+            return action.get();
+        }
+        return ShardContext.call(shard, action);
+    }
+
+    /**
+     * 법인의 샤드에서 작업 실행
+     *
+     * @param corporation 법인 키 (null이면 기본 법인)
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T inCorporation(String corporation, Supplier<T> action) {
+        return inShard(shardOf(corporation), action);
+    }
+
+    /**
+     * 모든 샤드에서 작업을 동시에 실행하고 결과를 샤드 순서대로 반환
+     *
+     * 트랜잭션을 따로 열지 않으므로 저장소 메서드가 각자 트랜잭션을 엽니다.
+     * (시작 시 색인 생성처럼 오래 읽는 작업에서 영속성 컨텍스트가 계속 커지지 않도록)
+     *
+     * @param action 샤드 이름을 받아 실행할 작업
+     * @return 샤드별 결과
+     */
+    public <T> List<T> readAll(Function<String, T> action) {
+        return scatter(action);
+    }
+
+    /**
+     * 모든 샤드에서 작업을 동시에 실행 (결과 없음)
+     *
+     * @param action 샤드 이름을 받아 실행할 작업
+     */
+    public void forEachShard(Consumer<String> action) {
+        scatter(shard -> {
+            action.accept(shard);
+            return null;
+        });
+    }
+
+    /**
+     * 모든 샤드에서 변경 작업을 동시에 실행하고 결과를 샤드 순서대로 반환
+     *
+     * 샤드가 둘 이상이면 샤드마다 별도 트랜잭션으로 커밋합니다 (샤드 사이의 원자성은 없음).
+     * 샤드가 하나이면 호출한 쪽의 트랜잭션에 참여합니다.
+     *
+     * @param action 샤드 이름을 받아 실행할 작업
+     * @return 샤드별 결과
+     */
+    public <T> List<T> writeAll(Function<String, T> action) {
+        if (!isSharded()) {
+            return scatter(action);
+        }
+        return scatter(shard -> transactionTemplate.execute(status -> action.apply(shard)));
+    }
+
+    /**
+     * 모든 샤드에 동시에 조회해서 처음(샤드 순서) 찾은 결과 반환
+     *
+     * @param action 샤드 이름을 받아 조회하는 작업
+     * @return 찾은 결과 (없으면 빈 값)
+     */
+    public <T> Optional<T> findFirst(Function<String, Optional<T>> action) {
+        for (Optional<T> result : readAll(action)) {
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 게시글이 저장된 샤드 찾기
+     *
+     * ID로는 샤드를 알 수 없으므로 모든 샤드에 동시에 존재 여부를 확인합니다.
+     * 샤드가 하나이면 조회하지 않습니다.
+     *
+     * @param id 게시글 ID
+     * @return 샤드 이름 (어느 샤드에도 없으면 기본 샤드)
+     */
+    public String locate(Long id) {
+        if (!isSharded()) {
+            return names.getFirst();
+        }
+        return findFirst(shard -> postsRepository.existsById(id) ? Optional.of(shard) : Optional.<String>empty())
+                .orElse(names.getFirst());
+    }
+
+    /**
+     * 샤드별로 정렬된 목록을 하나의 정렬된 목록으로 병합 (k-way merge)
+     *
+     * 각 샤드에서 limit개까지만 읽었다면 병합 결과의 앞 limit개는 전체에서 조회한 것과 같습니다.
+     *
+     * @param sorted 샤드별 목록 (각각 order 순서로 정렬됨)
+     * @param order 정렬 순서
+     * @param limit 최대 개수
+     * @return order 순서로 병합한 앞 limit개
+     */
+    public static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> order, int limit) {
+        if (sorted.size() == 1) {
+            List<T> only = sorted.getFirst();
+            return only.size() > limit ? only.subList(0, limit) : only;
+        }
+        record Head<E>(E value, Iterator<E> rest) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.value(), b.value()));
+        for (List<T> list : sorted) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 샤드마다 가상 스레드 하나에서 작업 실행 (샤드가 하나이면 호출한 스레드에서 바로 실행)
+     */
+    private <T> List<T> scatter(Function<String, T> action) {
+        if (!isSharded()) {
+            return Collections.singletonList(action.apply(names.getFirst()));  // 결과 없는 작업(null)도 허용
+        }
+        long started = System.nanoTime();
+        List<Future<T>> futures = new ArrayList<>(names.size());
+        for (String shard : names) {
+            futures.add(executor.submit(() -> ShardContext.call(shard, () -> action.apply(shard))));
+        }
+        try {
+            List<T> results = new ArrayList<>(names.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 작업을 기다리는 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("샤드 작업 실패", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));  // 실패한 경우 남은 작업 취소 (끝난 작업에는 영향 없음)
+            scatterTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 문자열 해시 (FNV-1a 64비트)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 비트 섞기 (SplitMix64 마무리 단계, 렌데부 점수용)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
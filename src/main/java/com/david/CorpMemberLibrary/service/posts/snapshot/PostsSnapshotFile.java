@@ -0,0 +1,278 @@
+package com.david.CorpMemberLibrary.service.posts.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 게시글 스냅샷 바이너리 파일 형식
+ *
+ * 파일 구조 (모든 정수는 big-endian):
+ * <pre>
+ * [magic "PSNP" 4바이트][version int][count long]
+ * [id long][version long][modifiedDate long][title 문자열][content 바이트열][author 문자열][corporation 문자열] x count
+ * </pre>
+ * 문자열은 [UTF-8 바이트 길이 int][바이트]로 기록하며, 길이 -1은 null을 뜻합니다.
+ * 내용은 DB에 저장된 형식(PostsContentCodec, 압축 포함) 그대로 [길이 int][바이트]로 기록하므로
+ * 저장/적재할 때 압축을 풀거나 다시 압축하지 않습니다.
+ * 수정 시각은 UTC 기준 epoch 마이크로초로 기록하며, Long.MIN_VALUE는 null을 뜻합니다.
+ * (버전/수정 시각을 보존해야 재시작 후에도 같은 ETag가 만들어짐)
+ *
+ * 쓰기는 버퍼 스트림으로 순서대로 기록하고 마지막에 헤더의 count를 채웁니다.
+ * 읽기는 파일을 메모리 매핑(MappedByteBuffer)해서 커널 페이지 캐시에서 바로 읽으므로
+ * read() 시스템 호출과 힙 버퍼 복사가 없습니다. 2GB가 넘는 파일은 2GB 이하의 창으로 나눠 매핑합니다.
+ */
+final class PostsSnapshotFile {
+
+    private static final int MAGIC = 0x50534E50;  // "PSNP"
+
+    private static final int VERSION = 4;
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    /**
+     * count 필드의 파일 내 위치 (magic + version 다음)
+     */
+    private static final long COUNT_OFFSET = 8;
+
+    private PostsSnapshotFile() {
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        Instant instant = time.toInstant(ZoneOffset.UTC);
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 스냅샷 쓰기
+     */
+    static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+
+        private final DataOutputStream output;
+
+        private long count;
+
+        Writer(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(0);  // count는 close() 시 채움
+        }
+
+        void write(long id, long version, LocalDateTime modifiedDate,
+                   String title, byte[] encodedContent, String author, String corporation) throws IOException {
+            output.writeLong(id);
+            output.writeLong(version);
+            output.writeLong(toEpochMicros(modifiedDate));
+            writeString(title);
+            writeBytes(encodedContent);
+            writeString(author);
+            writeString(corporation);
+            count++;
+        }
+
+        long count() {
+            return count;
+        }
+
+        /**
+         * 남은 버퍼를 기록하고 count를 채운 뒤 디스크에 강제 기록(fsync)
+         */
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                output.flush();
+                ByteBuffer header = ByteBuffer.allocate(Long.BYTES).putLong(0, count);
+                channel.write(header, COUNT_OFFSET);
+                channel.force(true);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            if (bytes == null) {
+                output.writeInt(-1);
+                return;
+            }
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * 스냅샷 읽기 (메모리 매핑)
+     *
+     * MappedByteBuffer 하나는 2GB(Integer.MAX_VALUE)까지만 매핑할 수 있으므로,
+     * 파일을 최대 windowSize 크기의 창으로 나눠 차례로 매핑합니다.
+     * 읽을 필드가 현재 창 끝을 넘으면 그 필드 위치부터 다음 창을 매핑합니다.
+     * 이전 창의 매핑은 버퍼가 GC될 때 해제됩니다.
+     */
+    static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+
+        private final long size;
+
+        private final int windowSize;
+
+        private final long count;
+
+        /**
+         * 현재 창의 파일 내 시작 위치
+         */
+        private long windowStart;
+
+        private MappedByteBuffer buffer;
+
+        private long read;
+
+        Reader(Path path) throws IOException {
+            this(path, Integer.MAX_VALUE);
+        }
+
+        /**
+         * @param windowSize 한 번에 매핑할 최대 크기 (테스트에서 창 경계를 확인할 때 작게 지정)
+         */
+        Reader(Path path, int windowSize) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                this.size = channel.size();
+                this.windowSize = windowSize;
+                map(0);
+                require(Integer.BYTES * 2 + Long.BYTES);
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("스냅샷 파일 형식이 아닙니다. path=" + path);
+                }
+                int version = buffer.getInt();
+                if (version != VERSION) {
+                    throw new IOException("지원하지 않는 스냅샷 버전입니다. version=" + version);
+                }
+                this.count = buffer.getLong();
+            } catch (BufferUnderflowException e) {
+                channel.close();
+                throw new IOException("스냅샷 헤더가 잘렸습니다. path=" + path, e);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        long count() {
+            return count;
+        }
+
+        /**
+         * 다음 게시글 읽기
+         *
+         * @return 게시글, 모두 읽었으면 null
+         * @throws IOException 파일이 중간에 잘렸을 때
+         */
+        PostsSnapshotRecord next() throws IOException {
+            if (read >= count) {
+                return null;
+            }
+            try {
+                PostsSnapshotRecord record = new PostsSnapshotRecord(readLong(), readLong(),
+                        fromEpochMicros(readLong()), readString(), readBytes(), readString(), readString());
+                read++;
+                return record;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("스냅샷 파일이 잘렸습니다. record=" + read, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void map(long position) throws IOException {
+            this.windowStart = position;
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+        }
+
+        /**
+         * 현재 창에 bytes만큼 남아 있지 않으면 현재 위치부터 다음 창 매핑
+         *
+         * @throws BufferUnderflowException 파일 끝을 넘을 때
+         */
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            long position = windowStart + buffer.position();
+            if (bytes > size - position) {
+                throw new BufferUnderflowException();
+            }
+            if (bytes > windowSize) {
+                throw new IOException("스냅샷 필드가 매핑 창보다 큽니다. bytes=" + bytes);
+            }
+            map(position);
+        }
+
+        private long readLong() throws IOException {
+            require(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        private int readLength() throws IOException {
+            require(Integer.BYTES);
+            int length = buffer.getInt();
+            if (length >= 0) {
+                require(length);
+            }
+            return length;
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private String readString() throws IOException {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            // 매핑된 영역에서 바로 디코딩 (중간 byte[] 복사 없음)
+            String value = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length)).toString();
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    }
+}
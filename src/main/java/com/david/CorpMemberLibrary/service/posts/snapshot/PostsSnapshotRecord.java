@@ -0,0 +1,18 @@
+package com.david.CorpMemberLibrary.service.posts.snapshot;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스냅샷 파일의 게시글 한 건
+ *
+ * @param id 게시글 ID
+ * @param version 게시글 버전
+ * @param modifiedDate 마지막 수정 시각 (null 가능)
+ * @param title 제목
+ * @param encodedContent 내용 (PostsContentCodec 저장 형식)
+ * @param author 작성자 (null 가능)
+ * @param corporation 법인
+ */
+record PostsSnapshotRecord(long id, long version, LocalDateTime modifiedDate,
+                           String title, byte[] encodedContent, String author, String corporation) {
+}
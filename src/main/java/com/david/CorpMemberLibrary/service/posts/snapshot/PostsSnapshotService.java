@@ -0,0 +1,285 @@
+package com.david.CorpMemberLibrary.service.posts.snapshot;
+
+import com.david.CorpMemberLibrary.config.PrimaryReadContext;
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 스냅샷 서비스 (재시작 시 빠른 복구용)
+ *
+ * 인메모리 H2(create-drop)는 재시작하면 데이터가 모두 사라지므로,
+ * 주기적으로 posts 테이블 전체를 바이너리 스냅샷 파일(PostsSnapshotFile)로 저장하고
+ * 시작 시 이 파일을 메모리 매핑으로 읽어 JDBC 배치 INSERT로 다시 채웁니다.
+ *
+ * 동작 방식:
+ * 1. 시작: ApplicationRunner로 실행되므로 ApplicationReadyEvent(검색 색인 생성, 준비 완료)보다 먼저 적재
+ * 2. 주기 저장: 마지막 저장 이후 게시글이 변경된 경우에만 저장 (posts.snapshot.interval)
+ * 3. 종료: 변경 사항이 남아 있으면 한 번 더 저장 (posts.snapshot.write-on-shutdown)
+ *
+ * 저장은 임시 파일에 쓴 뒤 원자적으로 이름을 바꾸므로, 저장 중에 종료되어도
+ * 이전 스냅샷 파일은 손상되지 않습니다.
+ *
+ * posts.snapshot.enabled=true 일 때만 빈으로 등록됩니다.
+ * 스냅샷은 DB 하나를 기준으로 하므로 샤딩(posts.sharding.enabled)과는 함께 켤 수 없습니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Service  // Spring: 이 클래스를 서비스 빈으로 등록
+@ConditionalOnProperty(name = "posts.snapshot.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+public class PostsSnapshotService implements ApplicationRunner {
+
+    private static final String INSERT_SQL = "insert into posts (id, version, modified_date, title, content, author, corporation)"
+            + " values (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 적재 시 JDBC 배치 한 번에 보낼 행 수
+     */
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    /**
+     * Posts.id 시퀀스의 allocationSize (시퀀스 재시작 위치 계산용)
+     */
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 스냅샷 저장용 읽기 전용 트랜잭션 (공유 TransactionTemplate 빈의 설정은 바꾸지 않음)
+     */
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Path path;
+
+    private final boolean writeOnShutdown;
+
+    /**
+     * 마지막 저장(또는 적재) 이후 게시글이 변경되었는지 여부
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public PostsSnapshotService(PostsRepository postsRepository,
+                                EntityManager entityManager,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${posts.snapshot.path:data/posts.snapshot}") Path path,
+                                @Value("${posts.snapshot.write-on-shutdown:true}") boolean writeOnShutdown,
+                                @Value("${posts.sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException(
+                    "posts.snapshot.enabled와 posts.sharding.enabled는 함께 켤 수 없습니다.");
+        }
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.path = path;
+        this.writeOnShutdown = writeOnShutdown;
+    }
+
+    /**
+     * 시작 시 스냅샷 적재
+     *
+     * 파일을 읽지 못해도 애플리케이션은 빈 상태로 계속 시작합니다.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Files.exists(path)) {
+            log.info("게시글 스냅샷 파일이 없어 적재를 건너뜁니다: {}", path.toAbsolutePath());
+            return;
+        }
+        try {
+            load(path);
+        } catch (IOException | RuntimeException e) {
+            log.error("게시글 스냅샷 적재 실패: {}", path.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * 주기적으로 스냅샷 저장 (변경이 있을 때만)
+     */
+    @Scheduled(initialDelayString = "${posts.snapshot.interval:PT5M}",
+            fixedDelayString = "${posts.snapshot.interval:PT5M}")  // Spring: 이전 실행이 끝난 뒤 interval마다 실행
+    public void scheduledWrite() {
+        writeIfDirty();
+    }
+
+    /**
+     * 종료 시 남은 변경 사항 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (writeOnShutdown) {
+            writeIfDirty();
+        }
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (다음 주기에 저장하도록 표시)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (다음 주기에 저장하도록 표시)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 전체 게시글을 스냅샷 파일로 저장
+     *
+     * 스트림 쿼리로 한 행씩 읽어 바로 파일에 기록하므로 게시글 수와 상관없이
+     * 일정한 메모리만 사용합니다. 임시 파일(.tmp)에 기록한 뒤 target으로 원자적으로 교체합니다.
+     * 읽기 전용 트랜잭션이지만, 방금 커밋한 변경까지 저장해야 하므로 복제본이 아닌 주 DB에서 읽습니다.
+     *
+     * @param target 저장할 파일 경로
+     * @return 저장한 게시글 수
+     * @throws IOException 파일을 쓰지 못했을 때
+     */
+    public long write(Path target) throws IOException {
+        long started = System.nanoTime();
+        Path absolute = target.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+        long rows;
+        try {
+            rows = PrimaryReadContext.call(() -> readOnlyTransactionTemplate.execute(status -> {
+                try (PostsSnapshotFile.Writer writer = new PostsSnapshotFile.Writer(temp);
+                     Stream<Posts> stream = postsRepository.streamAll()) {
+                    Iterator<Posts> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        Posts posts = iterator.next();
+                        writer.write(posts.getId(), posts.getVersion() == null ? 0 : posts.getVersion(),
+                                posts.getModifiedDate(), posts.getTitle(), posts.getEncodedContent(), posts.getAuthor(),
+                                posts.getCorporation());
+                        entityManager.detach(posts);  // 쓴 엔티티는 영속성 컨텍스트에서 분리
+                    }
+                    return writer.count();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        }
+        Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        log.info("게시글 스냅샷 저장 완료: {}건, {} bytes, {}ms", rows, Files.size(absolute),
+                (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * 스냅샷 파일의 게시글을 posts 테이블에 적재
+     *
+     * 이미 게시글이 있으면 중복을 만들지 않도록 적재하지 않습니다.
+     * 엔티티와 영속성 컨텍스트를 거치지 않고 JDBC 배치 INSERT로 ID까지 그대로 넣은 뒤,
+     * 새 게시글이 기존 ID와 겹치지 않도록 posts_seq를 최대 ID 이후로 재시작합니다.
+     *
+     * @param source 스냅샷 파일 경로
+     * @return 적재한 게시글 수
+     * @throws IOException 파일 형식이 잘못되었거나 잘렸을 때 (이 경우 적재 전체가 롤백됨)
+     */
+    public long load(Path source) throws IOException {
+        long started = System.nanoTime();
+        if (postsRepository.count() > 0) {
+            log.warn("게시글이 이미 있어 스냅샷 적재를 건너뜁니다: {}", source.toAbsolutePath());
+            return 0;
+        }
+
+        long rows;
+        try (PostsSnapshotFile.Reader reader = new PostsSnapshotFile.Reader(source)) {
+            rows = transactionTemplate.execute(status -> {
+                try {
+                    return insertAll(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        dirty.set(false);
+
+        log.info("게시글 스냅샷 적재 완료: {}건, {}ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long insertAll(PostsSnapshotFile.Reader reader) throws IOException {
+        List<Object[]> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        long rows = 0;
+        long maxId = 0;
+        PostsSnapshotRecord record;
+        while ((record = reader.next()) != null) {
+            batch.add(new Object[]{record.id(), record.version(), record.modifiedDate(),
+                    record.title(), record.encodedContent(), record.author(), record.corporation()});
+            maxId = Math.max(maxId, record.id());
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                rows += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            rows += batch.size();
+        }
+        // pooled 최적화는 시퀀스 값 이전 allocationSize개를 사용하므로 그만큼 더 띄워서 재시작
+        jdbcTemplate.execute("alter sequence posts_seq restart with " + (maxId + SEQUENCE_ALLOCATION_SIZE + 1));
+        return rows;
+    }
+
+    private void writeIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            write(path);
+        } catch (IOException | RuntimeException e) {
+            dirty.set(true);  // 다음 주기에 다시 시도
+            log.error("게시글 스냅샷 저장 실패: {}", path.toAbsolutePath(), e);
+        }
+    }
+}
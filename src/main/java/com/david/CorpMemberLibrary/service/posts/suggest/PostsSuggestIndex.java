@@ -0,0 +1,268 @@
+package com.david.CorpMemberLibrary.service.posts.suggest;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSuggestionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자 이름/게시글 제목 자동완성 색인
+ *
+ * 서로 다른 작성자 이름과 제목을 각각 압축 접두사 트리(PrefixTrie)에 넣고,
+ * 해당 작성자/제목의 게시글 수를 가중치로 사용합니다.
+ * 입력 중인 접두사로 두 트리에서 상위 k개를 찾아 가중치 순으로 합칩니다.
+ *
+ * 대소문자와 앞뒤 공백은 구분하지 않으며, 표시할 때는 처음 등록된 원문을 사용합니다.
+ * 색인 유지 방식은 검색 색인(PostsSearchIndex)과 같습니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsSuggestIndex {
+
+    /**
+     * 시작 시 색인을 만들 때 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * 게시글 샤드 (색인 생성 시 모든 샤드를 동시에 읽음)
+     */
+    private final PostsShards postsShards;
+
+    private final PrefixTrie authors = new PrefixTrie();
+
+    private final PrefixTrie titles = new PrefixTrie();
+
+    /**
+     * 게시글 ID -> 색인된 작성자/제목 (수정/삭제 시 이전 값의 가중치를 빼기 위해 보관)
+     */
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+
+    /**
+     * 조회는 동시에 여러 요청이 수행하고, 색인 변경만 배타적으로 수행
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인된 게시글 하나의 정보
+     *
+     * @param author 작성자
+     * @param title 제목
+     */
+    private record IndexedPost(String author, String title) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 게시글로 색인 생성
+     *
+     * 요약 프로젝션(id, title, author)을 id 커서로 REBUILD_CHUNK_SIZE씩 나누어 읽습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        clear();
+
+        postsShards.forEachShard(shard -> {
+            List<PostsSummary> chunk = postsRepository.findSummaries(Limit.of(REBUILD_CHUNK_SIZE));
+            while (!chunk.isEmpty()) {
+                for (PostsSummary summary : chunk) {
+                    put(summary.getId(), summary.getAuthor(), summary.getTitle());
+                }
+                Long cursor = chunk.get(chunk.size() - 1).getId();
+                chunk = postsRepository.findSummariesBefore(cursor, Limit.of(REBUILD_CHUNK_SIZE));
+            }
+        });
+
+        lock.readLock().lock();
+        try {
+            log.info("자동완성 색인 생성 완료: 작성자 {}개, 제목 {}개, {}ms",
+                    authors.size(), titles.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋 이후)
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            PostsResponseDto post = event.getPost();
+            put(post.getId(), post.getAuthor(), post.getTitle());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (커밋 이후)
+     *
+     * 수정은 게시글을 다시 읽지 않고 이벤트의 새 작성자/제목을 보관 중인 값에 적용합니다.
+     * (색인에 없는 ID는 DB에도 없는 게시글이므로 건너뜀, 내용만 바뀌었으면 할 일 없음)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        if (event.getType() == PostsChangedEvent.Type.DELETED) {
+            event.getIds().forEach(this::remove);
+            return;
+        }
+        PostsBulkChangedEvent.Patch patch = event.getPatch();
+        if (!patch.titleChanged() && !patch.authorChanged()) {
+            return;
+        }
+        for (Long id : event.getIds()) {
+            lock.writeLock().lock();
+            try {
+                IndexedPost post = posts.get(id);
+                if (post != null) {
+                    putLocked(id, patch.authorChanged() ? patch.author() : post.author(),
+                            patch.titleChanged() ? patch.title() : post.title());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글 반영 (이미 있으면 이전 작성자/제목의 가중치를 빼고 다시 반영)
+     *
+     * @param id 게시글 ID
+     * @param author 작성자 (null이면 작성자 트리에 넣지 않음)
+     * @param title 제목
+     */
+    public void put(Long id, String author, String title) {
+        lock.writeLock().lock();
+        try {
+            putLocked(id, author, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거
+     *
+     * @param id 게시글 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 작성자/제목 추천어 조회
+     *
+     * @param prefix 입력 중인 접두사 (공백뿐이면 빈 결과)
+     * @param limit 최대 개수
+     * @return 가중치 내림차순 추천어
+     */
+    public List<PostsSuggestionDto> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key == null || limit <= 0) {
+            return List.of();
+        }
+
+        List<PostsSuggestionDto> results = new ArrayList<>(limit * 2);
+        lock.readLock().lock();
+        try {
+            for (PrefixTrie.Completion completion : authors.top(key, limit)) {
+                results.add(new PostsSuggestionDto(completion.text(), PostsSuggestionDto.Type.AUTHOR,
+                        completion.weight()));
+            }
+            for (PrefixTrie.Completion completion : titles.top(key, limit)) {
+                results.add(new PostsSuggestionDto(completion.text(), PostsSuggestionDto.Type.TITLE,
+                        completion.weight()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 두 트리의 결과를 가중치 순으로 합침 (같으면 작성자 먼저)
+        results.sort(Comparator.comparingInt(PostsSuggestionDto::getWeight).reversed()
+                .thenComparing(PostsSuggestionDto::getType));
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    /**
+     * 색인 전체 삭제
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            authors.clear();
+            titles.clear();
+            posts.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(Long id, String author, String title) {
+        removeLocked(id);
+        IndexedPost post = new IndexedPost(author, title);
+        posts.put(id, post);
+        apply(post, 1);
+    }
+
+    private void removeLocked(Long id) {
+        IndexedPost post = posts.remove(id);
+        if (post != null) {
+            apply(post, -1);
+        }
+    }
+
+    private void apply(IndexedPost post, int delta) {
+        String author = normalize(post.author());
+        if (author != null) {
+            authors.add(author, post.author().strip(), delta);
+        }
+        String title = normalize(post.title());
+        if (title != null) {
+            titles.add(title, post.title().strip(), delta);
+        }
+    }
+
+    /**
+     * 비교용 키 (앞뒤 공백 제거, 소문자)
+     *
+     * @return 정규화된 키, 비어 있으면 null
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String key = text.strip().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+}
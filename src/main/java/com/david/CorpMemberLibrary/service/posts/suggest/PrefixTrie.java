@@ -0,0 +1,262 @@
+package com.david.CorpMemberLibrary.service.posts.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가중치가 있는 압축 접두사 트리 (radix tree)
+ *
+ * 문자 하나마다 노드를 만드는 일반 트라이와 달리, 분기가 없는 구간은 간선 하나(label)로 합치므로
+ * 노드 수가 단어 수의 2배를 넘지 않습니다. (제목처럼 긴 문자열을 넣어도 메모리가 일정 수준으로 유지됨)
+ *
+ * 각 노드는 자기 서브트리의 최대 가중치(maxWeight)를 가지고 있어, 상위 k개 조회는
+ * 우선순위 큐로 가중치가 큰 가지부터 내려가며 k개를 찾으면 바로 멈춥니다.
+ * (접두사에 해당하는 단어가 많아도 서브트리 전체를 훑지 않음)
+ *
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 합니다.
+ */
+final class PrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+
+    private int size;
+
+    /**
+     * 트리 노드
+     */
+    private static final class Node {
+
+        /**
+         * 부모에서 이 노드로 오는 간선의 문자열 (정규화된 키의 일부)
+         */
+        String label;
+
+        /**
+         * 자식 노드 (label 첫 글자 순으로 정렬)
+         */
+        Node[] children = NO_CHILDREN;
+
+        /**
+         * 이 노드에서 끝나는 단어의 가중치 (0이면 단어가 아님)
+         */
+        int weight;
+
+        /**
+         * 서브트리(자신 포함)의 최대 가중치
+         */
+        int maxWeight;
+
+        /**
+         * 이 노드에서 끝나는 단어의 표시용 원문
+         */
+        String text;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int at, Node child) {
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, at);
+            next[at] = child;
+            System.arraycopy(children, at, next, at + 1, children.length - at);
+            children = next;
+        }
+
+        void removeChild(int at) {
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, at);
+            System.arraycopy(children, at + 1, next, at, children.length - at - 1);
+            children = next.length == 0 ? NO_CHILDREN : next;
+        }
+
+        void recomputeMax() {
+            int max = weight;
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param text 표시용 원문
+     * @param weight 가중치
+     */
+    record Completion(String text, int weight) {
+    }
+
+    /**
+     * 단어의 가중치를 delta만큼 변경 (없으면 추가, 0 이하가 되면 제거)
+     *
+     * @param key 정규화된 키 (빈 문자열 불가)
+     * @param text 표시용 원문 (새 단어일 때 사용)
+     * @param delta 가중치 변화량
+     */
+    void add(String key, String text, int delta) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int at = node.indexOf(key.charAt(i));
+            if (at < 0) {
+                if (delta <= 0) {
+                    return;  // 없는 단어를 빼는 경우
+                }
+                Node leaf = new Node(key.substring(i));
+                node.insertChild(-(at + 1), leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[at];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                if (delta <= 0) {
+                    return;
+                }
+                // 간선 중간에서 갈라지므로 공통 부분을 새 노드로 분리
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.maxWeight = child.maxWeight;
+                node.children[at] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+
+        int before = node.weight;
+        node.weight = Math.max(0, before + delta);
+        if (before == 0 && node.weight > 0) {
+            node.text = text;
+            size++;
+        } else if (before > 0 && node.weight == 0) {
+            node.text = null;
+            size--;
+        }
+
+        // 아래에서 위로 올라가며 빈 노드 정리 및 최대 가중치 갱신
+        for (int p = path.size() - 1; p > 0; p--) {
+            Node current = path.get(p);
+            Node parent = path.get(p - 1);
+            if (current.weight == 0 && current.children.length == 0) {
+                parent.removeChild(parent.indexOf(current.label.charAt(0)));
+            } else if (current.weight == 0 && current.children.length == 1) {
+                // 단어도 아니고 분기도 아닌 노드는 자식과 합침
+                Node only = current.children[0];
+                only.label = current.label + only.label;
+                parent.children[parent.indexOf(only.label.charAt(0))] = only;
+            } else {
+                current.recomputeMax();
+            }
+        }
+        root.recomputeMax();
+    }
+
+    /**
+     * 접두사로 시작하는 단어 중 가중치 상위 k개 조회
+     *
+     * @param prefix 정규화된 접두사
+     * @param k 최대 개수
+     * @return 가중치 내림차순 (같으면 원문 오름차순) 결과
+     */
+    List<Completion> top(String prefix, int k) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int at = node.indexOf(prefix.charAt(i));
+            if (at < 0) {
+                return List.of();
+            }
+            Node child = node.children[at];
+            int length = Math.min(child.label.length(), prefix.length() - i);
+            if (!child.label.regionMatches(0, prefix, i, length)) {
+                return List.of();
+            }
+            node = child;
+            i += length;
+        }
+
+        // 후보: 노드(서브트리 최대 가중치) 또는 단어(자신의 가중치)
+        record Candidate(Node node, int score, boolean word) {
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingInt(Candidate::score).reversed()
+                        .thenComparing(Candidate::word, Comparator.reverseOrder()));
+        queue.add(new Candidate(node, node.maxWeight, false));
+
+        List<Completion> results = new ArrayList<>(k);
+        while (!queue.isEmpty() && results.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.score() == 0) {
+                break;
+            }
+            if (candidate.word()) {
+                results.add(new Completion(candidate.node().text, candidate.score()));
+                continue;
+            }
+            Node current = candidate.node();
+            if (current.weight > 0) {
+                queue.add(new Candidate(current, current.weight, true));
+            }
+            for (Node child : current.children) {
+                queue.add(new Candidate(child, child.maxWeight, false));
+            }
+        }
+        results.sort(Comparator.comparingInt(Completion::weight).reversed().thenComparing(Completion::text));
+        return results;
+    }
+
+    /**
+     * 저장된 단어 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 전체 삭제
+     */
+    void clear() {
+        root.children = NO_CHILDREN;
+        root.weight = 0;
+        root.maxWeight = 0;
+        size = 0;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
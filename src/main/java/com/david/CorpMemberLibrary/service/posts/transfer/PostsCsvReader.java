@@ -0,0 +1,140 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 게시글 리더 (RFC 4180)
+ *
+ * 첫 줄의 헤더로 title/content/author/corporation 컬럼 위치를 찾습니다. (author, corporation은 없어도 됨)
+ * 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, 이중 큰따옴표("")를 처리하므로
+ * 여러 줄로 된 내용(content)도 그대로 읽을 수 있습니다.
+ */
+class PostsCsvReader implements PostsRecordReader {
+
+    private final Reader reader;
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    /**
+     * 한 글자 앞서 읽은 문자 (없으면 -2)
+     */
+    private int peeked = -2;
+
+    /**
+     * 현재 레코드 번호 (헤더 = 1)
+     */
+    private long recordNumber;
+
+    /**
+     * @param reader 읽을 입력 (BufferedReader 권장)
+     * @throws IOException 헤더를 읽지 못했을 때
+     */
+    PostsCsvReader(Reader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("content")) {
+            throw new IllegalArgumentException("CSV 헤더에 title, content 컬럼이 필요합니다. header=" + header);
+        }
+    }
+
+    @Override
+    public PostsSaveRequestDto next() throws IOException {
+        List<String> record = readRecord();
+        while (record != null && record.size() == 1 && record.get(0).isEmpty()) {
+            record = readRecord();  // 빈 줄은 건너뜀
+        }
+        if (record == null) {
+            return null;
+        }
+        return new PostsSaveRequestDto(column(record, "title"), column(record, "content"), column(record, "author"),
+                column(record, "corporation"));
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        if (index >= record.size()) {
+            throw new IllegalArgumentException("CSV 컬럼 수가 부족합니다. record=" + recordNumber);
+        }
+        return record.get(index);
+    }
+
+    /**
+     * 레코드 하나를 읽어 필드 목록으로 반환
+     *
+     * @return 필드 목록, 입력이 끝났으면 null
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다. record=" + recordNumber);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');  // "" -> "
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    peeked = next;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,164 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전체 내보내기 서비스
+ *
+ * findAll()은 전체 테이블을 List&lt;Posts&gt;로, 다시 List&lt;PostsResponseDto&gt;로 만들어
+ * 게시글 수에 비례해 힙을 사용합니다. 이 서비스는 스트림 쿼리로 한 행씩 읽어
+ * 바로 출력 스트림에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리(detach)하므로
+ * 게시글 수와 상관없이 일정한 메모리만 사용합니다.
+ *
+ * CSV 헤더(id,title,content,author,corporation)는 가져오기(PostsImportService)와 호환됩니다.
+ *
+ * 샤딩을 켜면 샤드를 하나씩 차례로 내보냅니다 (샤드 안에서는 id 오름차순).
+ *
+ * 읽기 전용 트랜잭션에서 읽으므로 Hibernate가 변경 감지용 스냅샷을 만들지 않고 flush도 하지 않으며,
+ * 읽기/쓰기 라우팅을 켜면 전체 테이블 스캔이 주 DB 대신 복제본에서 실행됩니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Service  // Spring: 이 클래스를 서비스 빈으로 등록
+public class PostsExportService {
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * 읽기 전용 트랜잭션 (공유 TransactionTemplate 빈의 설정은 바꾸지 않음)
+     */
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final PostsShards postsShards;
+
+    public PostsExportService(PostsRepository postsRepository, EntityManager entityManager, JsonMapper jsonMapper,
+                              PlatformTransactionManager transactionManager, PostsShards postsShards) {
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.postsShards = postsShards;
+    }
+
+    /**
+     * 전체 게시글을 출력 스트림에 기록
+     *
+     * 스트림 쿼리는 트랜잭션 안에서만 동작하므로 샤드마다 트랜잭션 하나로 묶어서 읽습니다.
+     * 출력 스트림은 닫지 않고 flush만 합니다 (닫는 것은 호출하는 쪽의 책임).
+     *
+     * @param output 출력 스트림 (UTF-8로 기록)
+     * @param format 출력 형식
+     * @return 기록한 게시글 수
+     * @throws IOException 출력 중 오류가 발생했을 때
+     */
+    public long exportPosts(OutputStream output, PostsFileFormat format) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == PostsFileFormat.CSV) {
+            writer.write("id,title,content,author,corporation\r\n");
+        }
+
+        try {
+            for (String shard : postsShards.names()) {
+                // 스트림을 읽는 동안 DB 커넥션을 유지
+                rows += postsShards.inShard(shard, () -> readOnlyTransactionTemplate.execute(status -> {
+                    try {
+                        return writeAll(writer, format);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("게시글 내보내기 완료: {}건, {}, {}ms", rows, format, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * 현재 샤드의 게시글을 스트림으로 읽어 기록 (트랜잭션 안에서 호출)
+     *
+     * @return 기록한 게시글 수
+     */
+    private long writeAll(Writer writer, PostsFileFormat format) throws IOException {
+        long rows = 0;
+        try (Stream<Posts> stream = postsRepository.streamAll()) {
+            Iterator<Posts> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Posts posts = iterator.next();
+                if (format == PostsFileFormat.CSV) {
+                    writeCsv(writer, posts);
+                } else {
+                    writeNdjson(writer, posts);
+                }
+                entityManager.detach(posts);  // 쓴 엔티티는 영속성 컨텍스트에서 분리
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void writeNdjson(Writer writer, Posts posts) throws IOException {
+        writer.write(jsonMapper.writeValueAsString(new PostsResponseDto(posts)));
+        writer.write('\n');
+    }
+
+    private static void writeCsv(Writer writer, Posts posts) throws IOException {
+        writer.write(String.valueOf(posts.getId()));
+        writer.write(',');
+        writeCsvField(writer, posts.getTitle());
+        writer.write(',');
+        writeCsvField(writer, posts.getContent());
+        writer.write(',');
+        writeCsvField(writer, posts.getAuthor());
+        writer.write(',');
+        writeCsvField(writer, posts.getCorporation());
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 필드 기록 (쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감쌈)
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,12 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+/**
+ * 게시글 일괄 가져오기 파일 형식
+ *
+ * - CSV: 첫 줄은 헤더(title,content,author), 큰따옴표로 감싼 값은 쉼표/줄바꿈 포함 가능
+ * - NDJSON: 한 줄에 JSON 객체 하나 ({"title":..,"content":..,"author":..})
+ */
+public enum PostsFileFormat {
+    CSV,
+    NDJSON
+}
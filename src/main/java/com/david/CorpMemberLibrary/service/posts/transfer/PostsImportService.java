@@ -0,0 +1,165 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsImportResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 일괄 가져오기 서비스
+ *
+ * PostsService.save()를 한 건씩 호출하면 INSERT 한 번마다 커밋이 일어나지만,
+ * 이 서비스는 입력을 스트림으로 읽으면서 batchSize 단위로 묶어 처리합니다.
+ *
+ * 처리 방식:
+ * 1. 입력 스트림에서 batchSize 건만 읽음 (파일 전체를 메모리에 올리지 않음)
+ * 2. 하나의 트랜잭션에서 저장 후 flush -> JDBC 배치 INSERT로 전송
+ * 3. clear()로 영속성 컨텍스트를 비워 엔티티가 계속 쌓이지 않게 함
+ *
+ * 샤딩을 켜면 배치를 법인의 샤드별로 나누어 샤드마다 한 트랜잭션으로 저장합니다.
+ *
+ * 중복 거절 모드(posts.duplicate.reject-on-save)는 적용하지 않습니다.
+ * 가져오기는 내보낸 파일 복원이나 초기 적재처럼 입력 전체를 그대로 넣는 용도이므로,
+ * 비슷한 게시글도 모두 저장됩니다 (저장 후 중복 의심 색인에는 반영됨).
+ *
+ * JDBC 배치가 동작하려면 ID를 INSERT 전에 알 수 있어야 하므로
+ * Posts.id는 IDENTITY 대신 시퀀스(pooled) 전략을 사용합니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Service  // Spring: 이 클래스를 서비스 빈으로 등록
+public class PostsImportService {
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final JsonMapper jsonMapper;
+
+    private final PostsShards postsShards;
+
+    /**
+     * 한 트랜잭션에서 저장할 건수
+     * hibernate.jdbc.batch_size와 같거나 그 배수로 맞추는 것이 좋습니다.
+     */
+    private final int batchSize;
+
+    public PostsImportService(PostsRepository postsRepository,
+                              EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              JsonMapper jsonMapper,
+                              PostsShards postsShards,
+                              @Value("${posts.import.batch-size:500}") int batchSize) {
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.postsShards = postsShards;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 입력 스트림의 게시글을 일괄 저장
+     *
+     * 배치 단위로 커밋하므로, 중간에 잘못된 레코드를 만나면
+     * 그 이전 배치까지는 저장된 상태로 예외가 발생합니다.
+     *
+     * @param input 게시글 데이터 (UTF-8)
+     * @param format 파일 형식
+     * @return 저장 건수와 처리 속도
+     * @throws IOException 입력을 읽지 못했을 때
+     * @throws IllegalArgumentException 레코드 형식이 잘못되었을 때
+     */
+    public PostsImportResultDto importPosts(InputStream input, PostsFileFormat format) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        long batches = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        PostsRecordReader recordReader = format == PostsFileFormat.CSV
+                ? new PostsCsvReader(reader)
+                : new PostsNdjsonReader(reader, jsonMapper);
+
+        List<Posts> chunk = new ArrayList<>(batchSize);
+        PostsSaveRequestDto record;
+        while ((record = recordReader.next()) != null) {
+            chunk.add(toEntity(record, rows + chunk.size() + 1));
+            if (chunk.size() == batchSize) {
+                saveChunk(chunk);
+                rows += chunk.size();
+                batches++;
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk);
+            rows += chunk.size();
+            batches++;
+        }
+
+        PostsImportResultDto result = new PostsImportResultDto(rows, batches, (System.nanoTime() - started) / 1_000_000);
+        log.info("게시글 일괄 가져오기 완료: {}건, 배치 {}개, {}ms ({} rows/s)",
+                result.getRows(), result.getBatches(), result.getElapsedMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 배치 하나를 하나의 트랜잭션으로 저장 (샤딩을 켜면 샤드마다 하나의 트랜잭션)
+     *
+     * @param chunk 저장할 게시글 엔티티
+     */
+    private void saveChunk(List<Posts> chunk) {
+        Map<String, List<Posts>> byShard = new LinkedHashMap<>();
+        for (Posts posts : chunk) {
+            byShard.computeIfAbsent(postsShards.shardOf(posts.getCorporation()), shard -> new ArrayList<>()).add(posts);
+        }
+        byShard.forEach((shard, shardChunk) -> postsShards.inShard(shard, () -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                postsRepository.saveAll(shardChunk);
+                entityManager.flush();  // 쌓인 INSERT를 JDBC 배치로 전송
+                for (Posts posts : shardChunk) {
+                    eventPublisher.publishEvent(PostsChangedEvent.saved(new PostsResponseDto(posts)));
+                }
+                entityManager.clear();  // 영속성 컨텍스트 비우기 (1차 캐시가 계속 커지지 않도록)
+            });
+            return null;
+        }));
+    }
+
+    private static Posts toEntity(PostsSaveRequestDto record, long recordNumber) {
+        if (record.getTitle() == null || record.getContent() == null) {
+            throw new IllegalArgumentException("title, content는 필수입니다. record=" + recordNumber);
+        }
+        return Posts.builder()
+                .title(record.getTitle())
+                .content(record.getContent())
+                .author(record.getAuthor())
+                .corporation(record.getCorporation())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON(JSON Lines) 게시글 리더
+ *
+ * 한 줄에 JSON 객체 하나씩 읽습니다. 빈 줄은 건너뜁니다.
+ * 예: {"title":"제목","content":"내용","author":"작성자","corporation":"법인"}
+ */
+class PostsNdjsonReader implements PostsRecordReader {
+
+    private final BufferedReader reader;
+
+    private final JsonMapper jsonMapper;
+
+    private long lineNumber;
+
+    PostsNdjsonReader(BufferedReader reader, JsonMapper jsonMapper) {
+        this.reader = reader;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public PostsSaveRequestDto next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        if (line == null) {
+            return null;
+        }
+
+        JsonNode node;
+        try {
+            node = jsonMapper.readTree(line);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("JSON 형식이 잘못되었습니다. line=" + lineNumber, e);
+        }
+        return new PostsSaveRequestDto(text(node, "title"), text(node, "content"), text(node, "author"),
+                text(node, "corporation"));
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asString();
+    }
+}
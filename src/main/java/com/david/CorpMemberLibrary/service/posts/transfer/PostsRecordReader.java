@@ -0,0 +1,22 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+
+import java.io.IOException;
+
+/**
+ * 게시글 레코드를 하나씩 읽는 리더
+ *
+ * 파일 전체를 메모리에 올리지 않고 스트림에서 한 레코드씩 읽기 위한 인터페이스입니다.
+ */
+interface PostsRecordReader {
+
+    /**
+     * 다음 레코드 읽기
+     *
+     * @return 다음 게시글 데이터, 더 이상 없으면 null
+     * @throws IOException 입력 스트림을 읽지 못했을 때
+     * @throws IllegalArgumentException 레코드 형식이 잘못되었을 때
+     */
+    PostsSaveRequestDto next() throws IOException;
+}
@@ -0,0 +1,347 @@
+package com.david.CorpMemberLibrary.service.posts.writebehind;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 저장 쓰기 지연(write-behind) 큐
+ *
+ * 야간 피드처럼 POST /posts/save가 몰려 들어오면 요청마다 INSERT와 커밋이 한 번씩 일어납니다.
+ * 이 큐를 켜면 저장 요청을 크기 제한이 있는 큐에 넣고, 작업 스레드 하나가 모아서
+ * 한 트랜잭션으로 저장합니다 (group commit). 커밋 횟수가 요청 수가 아니라 묶음 수만큼만 일어나므로
+ * 몰려 들어올수록 한 번에 더 많이 저장합니다.
+ *
+ * 묶는 기준:
+ * - 첫 요청을 꺼낸 뒤 max-delay 동안 더 기다리거나 batch-size 건이 모이면 저장
+ * - 요청이 하나뿐이면 max-delay만큼 늦게 저장되므로 값은 수 밀리초로 작게 설정
+ *
+ * 응답:
+ * - save()는 묶음이 커밋된 뒤 생성된 ID를 반환 (커밋 전에는 반환하지 않음)
+ * - commit-timeout 안에 커밋되지 않으면 PostsWriteTimeoutException 발생 (504로 응답, 나중에 저장될 수 있음)
+ * - 묶음 저장이 실패하면 한 건씩 다시 저장해서, 잘못된 요청만 실패하게 함
+ * - 샤딩을 켜면 묶음을 법인의 샤드별로 나누어 샤드마다 한 트랜잭션으로 저장
+ *
+ * 역압(backpressure):
+ * - 큐가 가득 차면 offer-timeout 동안 기다렸다가 PostsWriteRejectedException 발생 (503으로 응답)
+ *
+ * 종료:
+ * - 종료가 시작되면 새 요청을 받지 않고(running과 offer를 같은 잠금으로 보호) 큐에 남은 요청을 모두 저장
+ * - 작업 스레드가 인터럽트나 예상하지 못한 오류로 멈추면 저장하지 못한 요청을 모두 실패 처리
+ *
+ * 지표: posts.write-behind.batch(묶음 크기), posts.write-behind.queue(대기 건수),
+ * posts.write-behind.rejected(거절 건수)
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Service  // Spring: 이 클래스를 서비스 빈으로 등록
+@ConditionalOnProperty(name = "posts.write-behind.enabled", havingValue = "true")  // Spring Boot: 설정이 true일 때만 등록
+public class PostsWriteBehindQueue {
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PostsShards postsShards;
+
+    private final BlockingQueue<PendingSave> queue;
+
+    private final int batchSize;
+
+    private final long maxDelayNanos;
+
+    private final long offerTimeoutNanos;
+
+    private final long commitTimeoutNanos;
+
+    private final DistributionSummary batchSizes;
+
+    private final Counter rejected;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * running 확인과 큐에 넣기를 묶는 잠금
+     *
+     * 요청을 넣는 스레드는 읽기 잠금(동시에 여러 개), 받기를 멈추는 쪽은 쓰기 잠금을 잡습니다.
+     * running이 false가 된 뒤에는 큐에 새 요청이 들어가지 않으므로, 작업 스레드가 큐를 비우고 끝나면
+     * 응답을 받지 못하고 남는 요청이 없습니다.
+     */
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    /**
+     * 큐에서 기다리는 저장 요청
+     *
+     * @param request 저장할 게시글 데이터
+     * @param result 커밋 후 생성된 ID로 완료
+     */
+    private record PendingSave(PostsSaveRequestDto request, CompletableFuture<Long> result) {
+    }
+
+    /**
+     * @param capacity 큐 최대 크기
+     * @param batchSize 한 트랜잭션에서 저장할 최대 건수
+     * @param maxDelay 묶음을 모으기 위해 기다리는 최대 시간
+     * @param offerTimeout 큐가 가득 찼을 때 기다리는 최대 시간
+     * @param commitTimeout save()가 커밋을 기다리는 최대 시간
+     */
+    public PostsWriteBehindQueue(PostsRepository postsRepository,
+                                 EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PostsShards postsShards,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${posts.write-behind.capacity:10000}") int capacity,
+                                 @Value("${posts.write-behind.batch-size:500}") int batchSize,
+                                 @Value("${posts.write-behind.max-delay:5ms}") Duration maxDelay,
+                                 @Value("${posts.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+                                 @Value("${posts.write-behind.commit-timeout:10s}") Duration commitTimeout) {
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.postsShards = postsShards;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.commitTimeoutNanos = commitTimeout.toNanos();
+        this.batchSizes = DistributionSummary.builder("posts.write-behind.batch")
+                .description("한 트랜잭션으로 저장한 게시글 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("posts.write-behind.rejected")
+                .description("큐가 가득 차서 거절한 저장 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("posts.write-behind.queue", queue, BlockingQueue::size)
+                .description("저장을 기다리는 요청 수")
+                .register(meterRegistry);
+        this.worker = Thread.ofPlatform().name("posts-write-behind").daemon().start(this::run);
+    }
+
+    /**
+     * 저장 요청을 큐에 넣고 커밋될 때까지 대기
+     *
+     * @param requestDto 저장할 게시글 데이터
+     * @return 저장된 게시글의 ID
+     * @throws PostsWriteRejectedException 큐가 가득 찼을 때 (저장되지 않음)
+     * @throws PostsWriteTimeoutException commit-timeout 안에 커밋되지 않았을 때 (나중에 저장될 수 있음)
+     */
+    public Long save(PostsSaveRequestDto requestDto) {
+        CompletableFuture<Long> result = submit(requestDto);
+        try {
+            return result.get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 작업 스레드에서 발생한 예외를 감싸지 않고 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new PostsWriteTimeoutException("저장 결과를 제시간에 확인하지 못했습니다. 저장되었을 수 있으니 확인 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PostsWriteTimeoutException("저장 결과를 기다리는 중 중단되었습니다. 저장되었을 수 있으니 확인 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 저장 요청을 큐에 넣음 (기다리지 않음)
+     *
+     * @param requestDto 저장할 게시글 데이터
+     * @return 커밋 후 생성된 ID로 완료되는 Future
+     * @throws PostsWriteRejectedException 큐가 가득 찼을 때 (저장되지 않음)
+     */
+    public CompletableFuture<Long> submit(PostsSaveRequestDto requestDto) {
+        PendingSave pending = new PendingSave(requestDto, new CompletableFuture<>());
+        boolean accepted;
+        acceptLock.readLock().lock();
+        try {
+            accepted = running && queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new PostsWriteRejectedException("저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return pending.result();
+    }
+
+    /**
+     * 종료 시 남은 요청을 모두 저장하고 작업 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopAccepting();
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        if (worker.isAlive()) {
+            // 제시간에 다 저장하지 못하면 중단시키고 남은 요청은 실패 처리
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 새 요청 받기 중단 (큐에 넣는 중인 요청이 끝날 때까지 기다림)
+     */
+    private void stopAccepting() {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작업 스레드: 큐에서 묶음을 꺼내 저장
+     */
+    private void run() {
+        List<PendingSave> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingSave first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                try {
+                    commit(batch);
+                } catch (RuntimeException e) {
+                    // commit()에서 각 요청에 예외를 전달하므로 여기까지 오는 일은 없어야 함
+                    log.error("쓰기 지연 큐 처리 실패", e);
+                    batch.forEach(p -> p.result().completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 어떤 이유로 멈추든 저장하지 못한 요청이 응답을 계속 기다리지 않도록 모두 실패 처리
+            // (이미 완료된 요청에는 영향 없음)
+            stopAccepting();
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                log.error("쓰기 지연 큐가 멈춰 저장하지 못한 요청 {}건을 실패 처리합니다.", batch.size());
+                PostsWriteRejectedException failure =
+                        new PostsWriteRejectedException("저장 작업이 중단되었습니다. 잠시 후 다시 시도해 주세요.");
+                batch.forEach(p -> p.result().completeExceptionally(failure));
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 이후 max-delay 동안 batch-size까지 더 모음
+     */
+    private void collect(List<PendingSave> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;  // 이미 쌓여 있는 요청은 기다리지 않고 가져감
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingSave next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 묶음을 하나의 트랜잭션으로 저장하고, 커밋된 뒤 각 요청에 ID 전달
+     *
+     * 여러 샤드의 요청이 섞여 있으면 샤드별로 나누어 각각 커밋합니다
+     * (한 샤드의 실패가 이미 커밋한 다른 샤드의 요청을 다시 저장하게 하지 않도록).
+     * 묶음 저장이 실패하면 한 건씩 다시 저장합니다.
+     */
+    private void commit(List<PendingSave> batch) {
+        Map<String, List<PendingSave>> byShard = new LinkedHashMap<>();
+        for (PendingSave pending : batch) {
+            byShard.computeIfAbsent(postsShards.shardOf(pending.request().getCorporation()), shard -> new ArrayList<>())
+                    .add(pending);
+        }
+        if (byShard.size() > 1) {
+            byShard.values().forEach(this::commit);
+            return;
+        }
+        String shard = byShard.keySet().iterator().next();
+        try {
+            List<Long> ids = postsShards.inShard(shard, () -> saveInTransaction(batch));
+            batchSizes.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+                return;
+            }
+            log.warn("게시글 묶음 저장 실패, 한 건씩 다시 저장합니다: {}건", batch.size(), e);
+            for (PendingSave pending : batch) {
+                commit(List.of(pending));
+            }
+        }
+    }
+
+    private List<Long> saveInTransaction(List<PendingSave> batch) {
+        return transactionTemplate.execute(status -> {
+            // 실패 후 다시 저장할 수 있도록 엔티티는 시도할 때마다 새로 만듦
+            List<Posts> entities = new ArrayList<>(batch.size());
+            for (PendingSave pending : batch) {
+                entities.add(Posts.builder()
+                        .title(pending.request().getTitle())
+                        .content(pending.request().getContent())
+                        .author(pending.request().getAuthor())
+                        .corporation(pending.request().getCorporation())
+                        .build());
+            }
+            postsRepository.saveAll(entities);
+            entityManager.flush();  // 쌓인 INSERT를 JDBC 배치로 전송
+            List<Long> ids = new ArrayList<>(entities.size());
+            for (Posts posts : entities) {
+                eventPublisher.publishEvent(PostsChangedEvent.saved(new PostsResponseDto(posts)));
+                ids.add(posts.getId());
+            }
+            entityManager.clear();  // 영속성 컨텍스트 비우기
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.david.CorpMemberLibrary.service.posts.writebehind;
+
+/**
+ * 쓰기 지연(write-behind) 큐가 가득 차서 저장 요청을 받지 못했을 때 발생하는 예외
+ *
+ * 큐에 들어가지 못했으므로 저장되지 않았으며, 호출한 쪽은 잠시 후 다시 시도하면 됩니다.
+ * (웹 요청에서는 503 Service Unavailable + Retry-After로 응답)
+ */
+public class PostsWriteRejectedException extends RuntimeException {
+
+    public PostsWriteRejectedException(String message) {
+        super(message);
+    }
+}
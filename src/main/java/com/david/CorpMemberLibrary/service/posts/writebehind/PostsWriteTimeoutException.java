@@ -0,0 +1,15 @@
+package com.david.CorpMemberLibrary.service.posts.writebehind;
+
+/**
+ * 쓰기 지연(write-behind) 큐에 넣은 저장 요청이 commit-timeout 안에 커밋되지 않았을 때 발생하는 예외
+ *
+ * 요청은 이미 큐에 들어갔으므로 나중에 저장될 수 있습니다.
+ * 호출한 쪽은 같은 내용을 바로 다시 저장하지 말고, 목록에서 저장 여부를 확인해야 합니다.
+ * (웹 요청에서는 504 Gateway Timeout으로 응답)
+ */
+public class PostsWriteTimeoutException extends RuntimeException {
+
+    public PostsWriteTimeoutException(String message) {
+        super(message);
+    }
+}
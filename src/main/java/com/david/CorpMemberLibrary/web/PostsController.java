@@ -1,14 +1,47 @@
 package com.david.CorpMemberLibrary.web;
 
 import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.duplicate.PostsDuplicateException;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsExportService;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsFileFormat;
+import com.david.CorpMemberLibrary.service.posts.transfer.PostsImportService;
+import com.david.CorpMemberLibrary.service.posts.writebehind.PostsWriteRejectedException;
+import com.david.CorpMemberLibrary.service.posts.writebehind.PostsWriteTimeoutException;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsAuthorStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsCacheStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsDuplicateDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsImportResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSearchResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSuggestionDto;
 import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
+import com.david.CorpMemberLibrary.web.feed.PostsChangeFeed;
+import com.david.CorpMemberLibrary.web.fragment.PostsFragmentCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -34,6 +67,41 @@ public class PostsController {
      * Spring이 PostsService를 주입해줍니다 (의존성 주입, DI)
      */
     private final PostsService postsService;
+
+    /**
+     * 게시글 일괄 가져오기 서비스
+     */
+    private final PostsImportService postsImportService;
+
+    /**
+     * 게시글 전체 내보내기 서비스
+     */
+    private final PostsExportService postsExportService;
+    
+    /**
+     * 렌더링된 게시글 목록 행 캐시
+     */
+    private final PostsFragmentCache postsFragmentCache;
+    
+    /**
+     * 게시글 변경 피드 (SSE)
+     */
+    private final PostsChangeFeed postsChangeFeed;
+    
+    /**
+     * 폼 데이터 바인딩 설정
+     * 
+     * 요청 DTO(PostsSaveRequestDto, PostsUpdateRequestDto)는 setter 없이 기본 생성자와 getter만 있어서
+     * 기본 바인딩으로는 폼 값이 채워지지 않습니다. setter 대신 필드에 직접 값을 넣도록 설정합니다.
+     * 
+     * @InitBinder: 이 컨트롤러의 요청 파라미터 바인딩 전에 호출
+     * 
+     * @param binder 데이터 바인더
+     */
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        binder.initDirectFieldAccess();
+    }
     
     /**
      * 게시글 작성 폼 페이지
@@ -52,38 +120,144 @@ public class PostsController {
     /**
      * 게시글 목록 페이지
      * 
+     * 전체 목록을 한 번에 읽지 않고 커서 기반으로 한 페이지씩 조회합니다.
+     * 예: /posts?cursor=120&size=20&direction=NEXT -> id 120보다 오래된 글 20건
+     * 예: /posts?corporation=삼성전자 -> 한 법인의 글만 (그 법인의 샤드에서만 조회)
+     * 
+     * @param corporation 법인 키 (없으면 모든 법인)
+     * @param cursor 기준 게시글 ID (없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param direction 이동 방향 (NEXT: 다음 페이지, PREV: 이전 페이지)
+     * @param webRequest 조건부 요청(If-None-Match, If-Modified-Since) 확인용
+     * @param request 요청 객체 (행 HTML 렌더링용)
+     * @param response 응답 객체 (Cache-Control 헤더 설정, 행 HTML 렌더링용)
      * @param model 뷰에 데이터를 전달하기 위한 Model 객체
      *              Spring이 자동으로 주입해줌
-     * @return 뷰 이름 (templates/posts/posts-list.html)
+     * @return 뷰 이름 (templates/posts/posts-list.html), 304 응답이면 null
      */
     @GetMapping("/posts")  // GET /posts 요청 처리
-    public String postsList(Model model) {
-        // Service를 통해 전체 게시글 목록 조회
-        List<PostsResponseDto> postsList = postsService.findAll();
+    public String postsList(@RequestParam(required = false) String corporation,
+                            @RequestParam(required = false) Long cursor,
+                            @RequestParam(defaultValue = "" + PostsService.DEFAULT_PAGE_SIZE) int size,
+                            @RequestParam(defaultValue = "NEXT") CursorDirection direction,
+                            WebRequest webRequest,
+                            HttpServletRequest request,
+                            HttpServletResponse response,
+                            Model model) {
+        // 게시글이 마지막으로 변경된 이후 같은 ETag를 가진 요청이면
+        // DB 조회와 템플릿 렌더링 없이 304 Not Modified로 응답
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(postsService.listETag(), postsService.listLastModified())) {
+            return null;
+        }
+        
+        // Service를 통해 현재 페이지의 게시글 목록 조회
+        PostsPageResponseDto page = postsService.findPage(corporation, cursor, size, direction);
         
-        // Model에 게시글 목록을 추가
-        // 뷰에서 "postsList"라는 이름으로 접근 가능
-        model.addAttribute("postsList", postsList);
+        // Model에 게시글 목록과 페이지 정보를 추가
+        // 뷰에서 "postsList", "page"라는 이름으로 접근 가능
+        model.addAttribute("postsList", page.getPosts());
+        model.addAttribute("page", page);
+        
+        // 각 행은 캐시된 HTML을 사용 (캐시에 없거나 버전이 바뀐 행만 렌더링)
+        model.addAttribute("rows", postsFragmentCache.rows(page.getPosts(), request, response));
         
         // 게시글 목록 페이지로 이동
         return "posts/posts-list";
     }
     
+    /**
+     * 게시글 검색 페이지
+     * 
+     * 제목/내용/작성자에서 검색어를 찾아 관련도 순으로 보여줍니다.
+     * 예: /posts/search?q=삼성전자
+     * 
+     * @param q 검색어 (없으면 빈 결과)
+     * @param limit 최대 결과 수
+     * @param model 뷰에 데이터를 전달하기 위한 Model 객체
+     * @return 뷰 이름 (templates/posts/posts-search.html)
+     */
+    @GetMapping("/posts/search")  // GET /posts/search 요청 처리
+    public String postsSearch(@RequestParam(defaultValue = "") String q,
+                              @RequestParam(defaultValue = "" + PostsService.DEFAULT_PAGE_SIZE) int limit,
+                              Model model) {
+        // Service를 통해 검색 색인 조회
+        List<PostsSearchResultDto> results = postsService.search(q, limit);
+        
+        // Model에 검색어와 검색 결과를 추가
+        model.addAttribute("q", q);
+        model.addAttribute("results", results);
+        
+        // 검색 결과 페이지로 이동
+        return "posts/posts-search";
+    }
+    
+    /**
+     * 작성자/제목 자동완성
+     * 
+     * 검색창에 입력할 때마다 호출하는 가벼운 JSON 엔드포인트입니다.
+     * 예: GET /posts/suggest?prefix=홍&limit=10
+     * 
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 개수
+     * @return 가중치 내림차순 추천어 (JSON)
+     */
+    @GetMapping("/posts/suggest")  // GET /posts/suggest 요청 처리
+    @ResponseBody
+    public List<PostsSuggestionDto> suggest(@RequestParam(defaultValue = "") String prefix,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        return postsService.suggest(prefix, limit);
+    }
+    
+    /**
+     * 게시글 변경 피드 (Server-Sent Events)
+     * 
+     * 전체 목록을 다시 읽어 비교하지 않고, 마지막으로 받은 순번 이후의 변경만 받습니다.
+     * 예: curl -N http://localhost:8080/posts/changes?since=120
+     * 
+     * 이벤트 ID는 "저널 세대:순번" 형식이며, 저널이 새로 시작되어 세대가 바뀌면 reset 이벤트부터 받습니다.
+     * 브라우저 EventSource는 다시 연결할 때 마지막으로 받은 이벤트 ID를
+     * Last-Event-ID 헤더로 보내므로, 헤더가 있으면 since보다 우선합니다.
+     * 
+     * @param since 마지막으로 받은 이벤트 ID 또는 순번 (0이면 보관 중인 처음부터, 없으면 지금 이후만)
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID
+     * @return SSE 응답 (change, reset 이벤트)
+     */
+    @GetMapping(value = "/posts/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)  // GET /posts/changes 요청 처리
+    @ResponseBody
+    public SseEmitter changes(@RequestParam(required = false) String since,
+                              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return postsChangeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+    
     /**
      * 게시글 상세 조회 페이지
      * 
      * @PathVariable: URL 경로에서 변수 값을 추출
      * 예: /posts/1 -> id = 1
      * 
+     * 게시글 버전으로 강한 ETag를, 수정 시각으로 Last-Modified를 만듭니다.
+     * 게시글은 상세 캐시에서 읽으므로 캐시 적중 시 DB 조회 없이 304로 응답합니다.
+     * 
      * @param id 조회할 게시글 ID
+     * @param webRequest 조건부 요청(If-None-Match, If-Modified-Since) 확인용
+     * @param response 응답 객체 (Cache-Control 헤더 설정)
      * @param model 뷰에 데이터를 전달하기 위한 Model 객체
-     * @return 뷰 이름 (templates/posts/posts-detail.html)
+     * @return 뷰 이름 (templates/posts/posts-detail.html), 304 응답이면 null
      */
     @GetMapping("/posts/{id}")  // GET /posts/{id} 요청 처리
-    public String postsDetail(@PathVariable Long id, Model model) {
+    public String postsDetail(@PathVariable Long id, WebRequest webRequest, HttpServletResponse response,
+                              Model model) {
         // Service를 통해 게시글 조회
         PostsResponseDto dto = postsService.findById(id);
         
+        // 게시글이 바뀌지 않았으면 템플릿 렌더링 없이 304 Not Modified로 응답
+        // (Cache-Control: no-cache -> 캐시는 하되 매번 서버에 재검증)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(etagOf(dto), lastModifiedOf(dto))) {
+            return null;
+        }
+        
         // Model에 게시글 데이터를 추가
         // 뷰에서 "post"라는 이름으로 접근 가능
         model.addAttribute("post", dto);
@@ -168,5 +342,249 @@ public class PostsController {
         // 삭제 후 게시글 목록 페이지로 리다이렉트
         return "redirect:/posts";
     }
-}
+    
+    /**
+     * 게시글 일괄 삭제 (JSON 요청)
+     * 
+     * 예: curl -H 'Content-Type: application/json' -d '{"ids":[1,2,3]}' http://localhost:8080/posts/bulk/delete
+     * 
+     * @RequestBody: JSON 요청 본문을 DTO로 변환
+     * 
+     * @param requestDto 삭제할 게시글 ID 목록
+     * @return 요청 ID 수와 삭제된 행 수
+     */
+    @PostMapping("/posts/bulk/delete")  // POST /posts/bulk/delete 요청 처리
+    @ResponseBody
+    public PostsBulkResultDto bulkDelete(@RequestBody PostsBulkRequestDto requestDto) {
+        return postsService.deleteAll(requestDto.getIds());
+    }
+    
+    /**
+     * 게시글 작성자 일괄 변경 (JSON 요청)
+     * 
+     * 예: {"ids":[1,2,3],"author":"홍길동"}
+     * 
+     * @param requestDto 변경할 게시글 ID 목록과 새 작성자
+     * @return 요청 ID 수와 변경된 행 수
+     */
+    @PostMapping("/posts/bulk/author")  // POST /posts/bulk/author 요청 처리
+    @ResponseBody
+    public PostsBulkResultDto bulkUpdateAuthor(@RequestBody PostsBulkRequestDto requestDto) {
+        return postsService.updateAuthor(requestDto);
+    }
+    
+    /**
+     * 게시글 일괄 부분 수정 (JSON 요청)
+     * 
+     * 예: {"ids":[1,2,3],"title":"공지"} (생략한 필드는 기존 값 유지)
+     * 
+     * @param requestDto 변경할 게시글 ID 목록과 새 값
+     * @return 요청 ID 수와 변경된 행 수
+     */
+    @PostMapping("/posts/bulk/patch")  // POST /posts/bulk/patch 요청 처리
+    @ResponseBody
+    public PostsBulkResultDto bulkPatch(@RequestBody PostsBulkRequestDto requestDto) {
+        return postsService.patchAll(requestDto);
+    }
+    
+    /**
+     * 게시글 일괄 가져오기 (multipart 업로드)
+     * 
+     * CSV 또는 NDJSON 파일을 스트림으로 읽으면서 배치 단위로 저장합니다.
+     * 업로드는 컨테이너가 먼저 임시 파일로 받으며, 크기 제한(spring.servlet.multipart.max-file-size)을 넘으면 413으로 거절됩니다.
+     * 예: curl -F file=@members.csv -F format=CSV http://localhost:8080/posts/import
+     * 
+     * @ResponseBody: 뷰 이름이 아닌 반환 객체를 JSON으로 응답
+     * 
+     * @param file 업로드 파일
+     * @param format 파일 형식 (CSV, NDJSON)
+     * @return 저장 건수와 처리 속도(rows/sec)
+     * @throws IOException 업로드 파일을 읽지 못했을 때
+     */
+    @PostMapping("/posts/import")  // POST /posts/import 요청 처리
+    @ResponseBody
+    public PostsImportResultDto importPosts(@RequestParam("file") MultipartFile file,
+                                            @RequestParam(defaultValue = "CSV") PostsFileFormat format) throws IOException {
+        // 업로드 파일(임시 파일)을 메모리에 모두 올리지 않고 스트림으로 전달
+        try (InputStream input = file.getInputStream()) {
+            return postsImportService.importPosts(input, format);
+        }
+    }
+    
+    /**
+     * 게시글 전체 내보내기 (다운로드)
+     * 
+     * 게시글을 한 행씩 읽어 응답 스트림에 바로 기록하므로
+     * 게시글 수와 상관없이 일정한 메모리로 내보낼 수 있습니다.
+     * 예: curl -o posts.ndjson http://localhost:8080/posts/export?format=NDJSON
+     * 
+     * @param format 출력 형식 (NDJSON, CSV)
+     * @param response 응답 객체 (출력 스트림에 직접 기록)
+     * @throws IOException 응답을 쓰지 못했을 때
+     */
+    @GetMapping("/posts/export")  // GET /posts/export 요청 처리
+    public void exportPosts(@RequestParam(defaultValue = "NDJSON") PostsFileFormat format,
+                            HttpServletResponse response) throws IOException {
+        String extension = format == PostsFileFormat.CSV ? "csv" : "ndjson";
+        response.setContentType(format == PostsFileFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts." + extension + "\"");
+        
+        // 응답 스트림에 바로 기록 (응답 전체를 메모리에 만들지 않음)
+        postsExportService.exportPosts(response.getOutputStream(), format);
+    }
+    
+    /**
+     * 게시글과 비슷한 다른 게시글 조회 (중복 의심)
+     * 
+     * 예: GET /posts/120/duplicates?limit=10
+     * 
+     * @param id 게시글 ID
+     * @param limit 최대 개수
+     * @return 거리 오름차순 중복 의심 게시글 (JSON)
+     */
+    @GetMapping("/posts/{id}/duplicates")  // GET /posts/{id}/duplicates 요청 처리
+    @ResponseBody
+    public List<PostsDuplicateDto> duplicates(@PathVariable Long id, @RequestParam(defaultValue = "10") int limit) {
+        return postsService.duplicates(id, limit);
+    }
+    
+    /**
+     * 저장하기 전에 비슷한 게시글이 있는지 조회 (JSON 요청)
+     * 
+     * 예: {"title":"홍길동 이사 선임","content":"..."}
+     * 
+     * @param requestDto 저장할 게시글 데이터
+     * @param limit 최대 개수
+     * @return 거리 오름차순 중복 의심 게시글 (JSON)
+     */
+    @PostMapping("/posts/duplicates")  // POST /posts/duplicates 요청 처리
+    @ResponseBody
+    public List<PostsDuplicateDto> findDuplicates(@RequestBody PostsSaveRequestDto requestDto,
+                                                  @RequestParam(defaultValue = "10") int limit) {
+        return postsService.findDuplicates(requestDto, limit);
+    }
+    
+    /**
+     * 게시글 수 상위 작성자 조회
+     * 
+     * 예: GET /posts/authors/top?limit=10
+     * 
+     * @param limit 최대 인원
+     * @return 건수 내림차순 작성자 집계 목록 (JSON)
+     */
+    @GetMapping("/posts/authors/top")  // GET /posts/authors/top 요청 처리
+    @ResponseBody
+    public List<PostsAuthorStatsDto> topAuthors(@RequestParam(defaultValue = "10") int limit) {
+        return postsService.topAuthors(limit);
+    }
+    
+    /**
+     * 작성자별 게시글 집계 조회
+     * 
+     * 예: GET /posts/authors/홍길동
+     * ("top"은 상위 작성자 조회 경로이므로 작성자 이름으로 사용할 수 없음)
+     * 
+     * @param author 작성자
+     * @return 게시글 수와 최근 게시글 (JSON)
+     */
+    @GetMapping("/posts/authors/{author}")  // GET /posts/authors/{author} 요청 처리
+    @ResponseBody
+    public PostsAuthorStatsDto authorStats(@PathVariable String author) {
+        return postsService.authorStats(author);
+    }
+    
+    /**
+     * 게시글 상세 캐시 통계 조회
+     * 
+     * @return 캐시 적중/미스/제거 횟수 (JSON)
+     */
+    @GetMapping("/posts/cache/stats")  // GET /posts/cache/stats 요청 처리
+    @ResponseBody
+    public PostsCacheStatsDto cacheStats() {
+        return postsService.cacheStats();
+    }
+
+    /**
+     * 저장 대기열이 가득 찼을 때 응답 (쓰기 지연 큐 사용 시)
+     * 
+     * 저장되지 않았으므로 503 Service Unavailable과 Retry-After로 잠시 후 재시도를 요청합니다.
+     * 
+     * @ExceptionHandler: 이 컨트롤러에서 발생한 예외를 처리
+     * 
+     * @param e 거절 예외
+     * @return 503 응답
+     */
+    @ExceptionHandler(PostsWriteRejectedException.class)
+    public ResponseEntity<String> writeRejected(PostsWriteRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage());
+    }
 
+    /**
+     * 저장 요청이 제시간에 커밋되지 않았을 때 응답 (쓰기 지연 큐 사용 시)
+     * 
+     * 요청은 큐에 들어갔으므로 나중에 저장될 수 있습니다.
+     * 같은 내용을 바로 다시 보내지 않도록 Retry-After 없이 504 Gateway Timeout으로 응답합니다.
+     * 
+     * @param e 시간 초과 예외
+     * @return 504 응답
+     */
+    @ExceptionHandler(PostsWriteTimeoutException.class)
+    public ResponseEntity<String> writeTimeout(PostsWriteTimeoutException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage());
+    }
+
+    /**
+     * 수정하려는 게시글을 다른 요청이 먼저 수정했을 때 응답 (낙관적 잠금 충돌)
+     * 
+     * 게시글의 버전(@Version)이 읽은 뒤에 바뀌어 UPDATE가 적용되지 않은 경우입니다.
+     * (ObjectOptimisticLockingFailureException 포함)
+     * 500 대신 409 Conflict로 응답해서 최신 내용을 다시 읽고 수정하게 합니다.
+     * 
+     * @param e 낙관적 잠금 예외
+     * @return 409 응답
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> updateConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("다른 사용자가 먼저 게시글을 수정했습니다. 최신 내용을 확인한 뒤 다시 수정해 주세요.");
+    }
+
+    /**
+     * 비슷한 게시글이 이미 있을 때 응답 (중복 거절 모드)
+     * 
+     * @param e 중복 예외
+     * @return 409 응답
+     */
+    @ExceptionHandler(PostsDuplicateException.class)
+    public ResponseEntity<String> duplicateRejected(PostsDuplicateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage());
+    }
+
+    /**
+     * 게시글 상세 ETag
+     * 
+     * 재시작 후 같은 ID/버전의 다른 게시글과 겹치지 않도록 수정 시각도 함께 넣습니다.
+     */
+    private static String etagOf(PostsResponseDto dto) {
+        return "\"" + dto.getId() + "-" + dto.getVersion() + "-" + lastModifiedOf(dto) + "\"";
+    }
+
+    /**
+     * 게시글 수정 시각 (epoch 밀리초, 없으면 -1)
+     */
+    private static long lastModifiedOf(PostsResponseDto dto) {
+        if (dto.getModifiedDate() == null) {
+            return -1;
+        }
+        return dto.getModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,13 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+/**
+ * 커서 기반 페이지 이동 방향
+ *
+ * 게시글 목록은 최신 글(id가 큰 글)부터 보여줍니다.
+ * - NEXT: 커서보다 오래된 글 (다음 페이지)
+ * - PREV: 커서보다 최신 글 (이전 페이지)
+ */
+public enum CursorDirection {
+    NEXT,
+    PREV
+}
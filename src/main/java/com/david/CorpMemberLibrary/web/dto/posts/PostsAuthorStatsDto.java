@@ -0,0 +1,32 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작성자별 게시글 집계 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsAuthorStatsDto {
+
+    /**
+     * 작성자
+     */
+    private final String author;
+
+    /**
+     * 작성한 게시글 수
+     */
+    private final int count;
+
+    /**
+     * 가장 최근 게시글 ID (게시글이 없으면 null)
+     */
+    private final Long latestId;
+
+    /**
+     * 가장 최근 게시글 제목 (게시글이 없으면 null)
+     */
+    private final String latestTitle;
+}
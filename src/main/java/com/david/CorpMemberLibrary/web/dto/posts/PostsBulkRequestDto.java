@@ -0,0 +1,54 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 변경 요청 DTO
+ * 
+ * 일괄 삭제, 작성자 일괄 변경, 일괄 부분 수정에서 함께 사용합니다.
+ * 예: {"ids":[1,2,3],"author":"홍길동"}
+ * 
+ * 부분 수정에서는 null인 필드는 기존 값을 유지합니다.
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@NoArgsConstructor  // Lombok: 기본 생성자 자동 생성
+public class PostsBulkRequestDto {
+    
+    /**
+     * 변경할 게시글 ID 목록
+     */
+    private List<Long> ids;
+    
+    /**
+     * 새 제목 (부분 수정용)
+     */
+    private String title;
+    
+    /**
+     * 새 내용 (부분 수정용)
+     */
+    private String content;
+    
+    /**
+     * 새 작성자
+     */
+    private String author;
+    
+    /**
+     * 모든 필드를 받는 생성자
+     * 
+     * @param ids 변경할 게시글 ID 목록
+     * @param title 새 제목
+     * @param content 새 내용
+     * @param author 새 작성자
+     */
+    public PostsBulkRequestDto(List<Long> ids, String title, String content, String author) {
+        this.ids = ids;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+    }
+}
@@ -0,0 +1,22 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 일괄 변경 결과 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsBulkResultDto {
+
+    /**
+     * 요청한 ID 수 (중복 제거 후)
+     */
+    private final int requested;
+
+    /**
+     * 실제로 변경/삭제된 행 수
+     */
+    private final int affected;
+}
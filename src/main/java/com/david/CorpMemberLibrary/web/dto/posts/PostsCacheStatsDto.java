@@ -0,0 +1,52 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 캐시 통계 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsCacheStatsDto {
+
+    /**
+     * 현재 캐시에 들어 있는 항목 수 (근사값)
+     */
+    private final long size;
+
+    /**
+     * 캐시 적중 횟수
+     */
+    private final long hitCount;
+
+    /**
+     * 캐시 미스 횟수
+     */
+    private final long missCount;
+
+    /**
+     * 크기/만료 정책으로 제거된 항목 수
+     */
+    private final long evictionCount;
+
+    /**
+     * 캐시 적중률 (0.0 ~ 1.0)
+     */
+    private final double hitRate;
+
+    /**
+     * 캐시 미스로 실제 실행한 DB 조회 수
+     */
+    private final long loadCount;
+
+    /**
+     * 진행 중인 DB 조회에 합쳐진 캐시 미스 수
+     */
+    private final long coalescedCount;
+
+    /**
+     * 캐시 미스 중 합쳐진 비율 (0.0 ~ 1.0)
+     */
+    private final double coalescedRate;
+}
@@ -0,0 +1,58 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 변경 피드 항목 DTO
+ *
+ * 변경 저널에 JSON으로 저장되고, /posts/changes 피드로 그대로 전달됩니다.
+ * 일괄 변경(bulk)으로 생긴 항목은 변경 후 데이터를 모르므로 post가 null이며,
+ * 필요하면 /posts/{id}로 다시 조회해야 합니다.
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@NoArgsConstructor  // Lombok: 기본 생성자 자동 생성 (JSON 역직렬화용)
+public class PostsChangeDto {
+
+    /**
+     * 저널 순번
+     */
+    private long seq;
+
+    /**
+     * 변경 종류 (SAVED, UPDATED, DELETED)
+     */
+    private String type;
+
+    /**
+     * 게시글 ID
+     */
+    private Long id;
+
+    /**
+     * 변경 후 게시글 (삭제 또는 일괄 변경이면 null)
+     */
+    private PostsResponseDto post;
+
+    /**
+     * 기록 시각 (epoch 밀리초)
+     */
+    private long timestamp;
+
+    /**
+     * 모든 필드를 받는 생성자
+     *
+     * @param seq 저널 순번
+     * @param type 변경 종류
+     * @param id 게시글 ID
+     * @param post 변경 후 게시글
+     * @param timestamp 기록 시각
+     */
+    public PostsChangeDto(long seq, String type, Long id, PostsResponseDto post, long timestamp) {
+        this.seq = seq;
+        this.type = type;
+        this.id = id;
+        this.post = post;
+        this.timestamp = timestamp;
+    }
+}
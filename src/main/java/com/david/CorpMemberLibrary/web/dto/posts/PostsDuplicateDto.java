@@ -0,0 +1,32 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 중복 의심 게시글 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsDuplicateDto {
+
+    /**
+     * 게시글 ID
+     */
+    private final Long id;
+
+    /**
+     * 게시글 제목
+     */
+    private final String title;
+
+    /**
+     * SimHash 서명의 해밍 거리 (0이면 정규화한 내용이 사실상 같음)
+     */
+    private final int distance;
+
+    /**
+     * 유사도 (1 - 거리/64, 0.0 ~ 1.0)
+     */
+    private final double similarity;
+}
@@ -0,0 +1,34 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 일괄 가져오기 결과 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsImportResultDto {
+
+    /**
+     * 저장된 게시글 수
+     */
+    private final long rows;
+
+    /**
+     * 커밋한 배치(청크) 수
+     */
+    private final long batches;
+
+    /**
+     * 전체 소요 시간 (밀리초)
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 초당 저장 건수
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,48 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsSummary;
+import lombok.Getter;
+
+/**
+ * 게시글 목록 응답 DTO
+ * 
+ * 목록 화면에서 보여주는 ID, 제목, 작성자만 담습니다.
+ * 내용(content)을 담는 PostsResponseDto와 분리한 이유:
+ * 1. 목록 조회 시 TEXT 컬럼을 읽지 않아 DB -> JDBC -> 힙으로 옮기는 데이터가 줄어듦
+ * 2. 행마다 만들어지는 객체 크기가 작아짐
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+public class PostsListResponseDto {
+    
+    /**
+     * 게시글 고유 ID
+     */
+    private final Long id;
+    
+    /**
+     * 게시글 제목
+     */
+    private final String title;
+    
+    /**
+     * 게시글 작성자
+     */
+    private final String author;
+    
+    /**
+     * 게시글 버전 (렌더링된 행 HTML 캐시 확인용)
+     */
+    private final Long version;
+    
+    /**
+     * 요약 프로젝션을 DTO로 변환하는 생성자
+     * 
+     * @param summary 변환할 게시글 요약 프로젝션
+     */
+    public PostsListResponseDto(PostsSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.author = summary.getAuthor();
+        this.version = summary.getVersion();
+    }
+}
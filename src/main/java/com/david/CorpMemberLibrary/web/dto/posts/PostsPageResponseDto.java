@@ -0,0 +1,69 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 페이지 응답 DTO
+ *
+ * 커서 기반 페이지네이션 결과를 담는 객체입니다.
+ * 전체 개수(count)나 페이지 번호를 계산하지 않고,
+ * 앞뒤 페이지로 이동하기 위한 커서만 전달합니다.
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+public class PostsPageResponseDto {
+
+    /**
+     * 현재 페이지의 게시글 목록 (id 내림차순)
+     */
+    private final List<PostsListResponseDto> posts;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private final int size;
+
+    /**
+     * 다음 페이지가 존재하는지 여부
+     */
+    private final boolean hasNext;
+
+    /**
+     * 이전 페이지가 존재하는지 여부
+     */
+    private final boolean hasPrev;
+
+    /**
+     * 페이지 정보를 받는 생성자
+     *
+     * @param posts 현재 페이지의 게시글 목록 (id 내림차순)
+     * @param size 요청한 페이지 크기
+     * @param hasNext 다음 페이지 존재 여부
+     * @param hasPrev 이전 페이지 존재 여부
+     */
+    public PostsPageResponseDto(List<PostsListResponseDto> posts, int size, boolean hasNext, boolean hasPrev) {
+        this.posts = posts;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.hasPrev = hasPrev;
+    }
+
+    /**
+     * 다음 페이지 커서 (현재 페이지의 마지막 게시글 ID)
+     *
+     * @return 다음 페이지 커서, 게시글이 없으면 null
+     */
+    public Long getNextCursor() {
+        return posts.isEmpty() ? null : posts.get(posts.size() - 1).getId();
+    }
+
+    /**
+     * 이전 페이지 커서 (현재 페이지의 첫 번째 게시글 ID)
+     *
+     * @return 이전 페이지 커서, 게시글이 없으면 null
+     */
+    public Long getPrevCursor() {
+        return posts.isEmpty() ? null : posts.get(0).getId();
+    }
+}
@@ -3,6 +3,8 @@ package com.david.CorpMemberLibrary.web.dto.posts;
 import com.david.CorpMemberLibrary.domain.posts.Posts;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 /**
  * 게시글 응답 DTO
  * 
@@ -36,6 +38,21 @@ public class PostsResponseDto {
      */
     private String author;
     
+    /**
+     * 게시글이 속한 법인 키
+     */
+    private String corporation;
+    
+    /**
+     * 게시글 버전 (ETag 계산용)
+     */
+    private Long version;
+    
+    /**
+     * 마지막 수정 시각 (Last-Modified 계산용)
+     */
+    private LocalDateTime modifiedDate;
+    
     /**
      * Entity를 DTO로 변환하는 생성자
      * 
@@ -52,6 +69,9 @@ public class PostsResponseDto {
         this.title = entity.getTitle();
         this.content = entity.getContent();
         this.author = entity.getAuthor();
+        this.corporation = entity.getCorporation();
+        this.version = entity.getVersion();
+        this.modifiedDate = entity.getModifiedDate();
     }
 }
 
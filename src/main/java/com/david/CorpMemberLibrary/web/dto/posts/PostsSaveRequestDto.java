@@ -35,17 +35,36 @@ public class PostsSaveRequestDto {
     private String author;
     
     /**
-     * 모든 필드를 받는 생성자
+     * 게시글이 속한 법인 키
+     * 비어 있으면 기본 법인(Posts.DEFAULT_CORPORATION)으로 저장
+     */
+    private String corporation;
+    
+    /**
+     * 법인을 지정하지 않는 생성자 (기본 법인으로 저장)
      * 
      * @param title 게시글 제목
      * @param content 게시글 내용
      * @param author 게시글 작성자
      */
     public PostsSaveRequestDto(String title, String content, String author) {
+        this(title, content, author, null);
+    }
+    
+    /**
+     * 모든 필드를 받는 생성자
+     * 
+     * @param title 게시글 제목
+     * @param content 게시글 내용
+     * @param author 게시글 작성자
+     * @param corporation 게시글이 속한 법인 키 (null 가능)
+     */
+    public PostsSaveRequestDto(String title, String content, String author, String corporation) {
         // 생성자를 통해 필드 초기화
         this.title = title;
         this.content = content;
         this.author = author;
+        this.corporation = corporation;
     }
 }
 
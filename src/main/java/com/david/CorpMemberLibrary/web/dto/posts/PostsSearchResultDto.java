@@ -0,0 +1,35 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 검색 결과 DTO
+ *
+ * 검색 결과 목록에 필요한 필드와 검색 점수만 담습니다.
+ * 색인에 저장된 값으로 바로 만들 수 있어 검색 시 DB를 조회하지 않습니다.
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsSearchResultDto {
+
+    /**
+     * 게시글 고유 ID
+     */
+    private final Long id;
+
+    /**
+     * 게시글 제목
+     */
+    private final String title;
+
+    /**
+     * 게시글 작성자
+     */
+    private final String author;
+
+    /**
+     * 검색 점수 (클수록 검색어와 관련도가 높음)
+     */
+    private final double score;
+}
@@ -0,0 +1,34 @@
+package com.david.CorpMemberLibrary.web.dto.posts;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동완성 추천어 DTO
+ */
+@Getter  // Lombok: 모든 필드에 대한 getter 메서드 자동 생성
+@RequiredArgsConstructor  // Lombok: final 필드에 대한 생성자 자동 생성
+public class PostsSuggestionDto {
+
+    /**
+     * 추천어 종류
+     */
+    public enum Type {
+        AUTHOR, TITLE
+    }
+
+    /**
+     * 추천어 (작성자 이름 또는 게시글 제목)
+     */
+    private final String text;
+
+    /**
+     * 추천어 종류
+     */
+    private final Type type;
+
+    /**
+     * 가중치 (해당 작성자/제목의 게시글 수)
+     */
+    private final int weight;
+}
@@ -0,0 +1,177 @@
+package com.david.CorpMemberLibrary.web.feed;
+
+import com.david.CorpMemberLibrary.service.posts.journal.PostsChangeJournal;
+import com.david.CorpMemberLibrary.service.posts.journal.PostsJournalEntry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 변경 피드 (Server-Sent Events)
+ *
+ * 구독자마다 가상 스레드 하나가 변경 저널을 따라가며 항목을 보냅니다.
+ * 1. 요청한 순번 이후의 저장된 항목을 먼저 보냄 (따라잡기)
+ * 2. 끝에 도달하면 새 항목이 추가될 때까지 기다렸다가 이어서 보냄
+ * 따라잡기와 실시간 전송이 같은 커서로 이어지므로 그 사이에 추가된 항목이 빠지거나 중복되지 않습니다.
+ *
+ * 이벤트 형식:
+ * - change: id = "저널 세대:순번", data = PostsChangeDto JSON
+ * - reset: 요청한 순번 이후 일부가 보관 기간이 지나 삭제되었거나, 요청한 위치의 세대가 현재 저널과 다름
+ *          (id = "현재 세대:보관 중인 첫 순번 - 1", data = 보관 중인 첫 순번)
+ *          받은 쪽은 전체 목록을 다시 읽은 뒤 이어지는 change 이벤트를 적용해야 합니다.
+ * - 일정 시간 변경이 없으면 주석(keepalive)을 보내 끊긴 연결을 감지합니다.
+ */
+@Slf4j  // Lombok: log 필드 자동 생성
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsChangeFeed {
+
+    /**
+     * 한 번에 저널에서 읽는 최대 항목 수
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final PostsChangeJournal journal;
+
+    private final long timeoutMillis;
+
+    private final long heartbeatMillis;
+
+    /**
+     * 구독자별 가상 스레드 (대기 중에는 플랫폼 스레드를 점유하지 않음)
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    /**
+     * @param journal 게시글 변경 저널
+     * @param timeout 연결 최대 유지 시간 (지나면 클라이언트가 Last-Event-ID로 다시 연결)
+     * @param heartbeat 변경이 없을 때 keepalive를 보내는 간격
+     * @param meterRegistry 지표 저장소
+     */
+    public PostsChangeFeed(PostsChangeJournal journal,
+                           @Value("${posts.journal.sse-timeout:PT30M}") Duration timeout,
+                           @Value("${posts.journal.heartbeat:PT15S}") Duration heartbeat,
+                           MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatMillis = heartbeat.toMillis();
+        Gauge.builder("posts.journal.subscribers", subscribers, AtomicInteger::get)
+                .description("변경 피드 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("posts.journal.last.seq", journal, PostsChangeJournal::lastSeq)
+                .description("변경 저널 마지막 순번")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작
+     *
+     * @param since 마지막으로 받은 위치 ("세대:순번" 또는 순번만, null이면 지금 이후의 변경만 받음)
+     *              순번만 주면 현재 세대의 순번으로 보고, 세대가 다르거나 형식이 잘못되면 reset부터 보냅니다.
+     * @return SSE 응답 객체
+     */
+    public SseEmitter subscribe(String since) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        long cursor = since != null ? cursorOf(since) : journal.lastSeq();
+        executor.execute(() -> stream(emitter, closed, cursor));
+        return emitter;
+    }
+
+    /**
+     * 요청한 위치를 현재 저널의 순번으로 변환
+     *
+     * @return 순번 (다른 세대이거나 형식이 잘못되면 -1: 처음부터 다시 읽어야 함)
+     */
+    private long cursorOf(String since) {
+        int separator = since.lastIndexOf(':');
+        if (separator >= 0 && !since.substring(0, separator).equals(journal.epoch())) {
+            return -1;
+        }
+        try {
+            return Math.max(-1, Long.parseLong(since.substring(separator + 1).strip()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 저널을 따라가며 항목 전송 (구독자 가상 스레드)
+     */
+    private void stream(SseEmitter emitter, AtomicBoolean closed, long cursor) {
+        subscribers.incrementAndGet();
+        String epoch = journal.epoch();
+        try {
+            while (!closed.get()) {
+                if (!epoch.equals(journal.epoch())) {
+                    // 구독 중에 저널이 새로 시작됨
+                    epoch = journal.epoch();
+                    cursor = -1;
+                }
+                long earliest = journal.earliestSeq();
+                if (cursor < 0 || cursor + 1 < earliest || cursor > journal.lastSeq()) {
+                    // 다른 세대의 위치이거나, 이어 받을 구간이 이미 삭제되었거나, 순번을 알 수 없음
+                    // -> 전체를 다시 읽도록 알리고 보관된 첫 항목부터 계속
+                    emitter.send(SseEmitter.event()
+                            .id(epoch + ":" + (earliest - 1))
+                            .name("reset")
+                            .data(earliest));
+                    cursor = earliest - 1;
+                }
+
+                List<PostsJournalEntry> entries = journal.read(cursor, BATCH_SIZE);
+                for (PostsJournalEntry entry : entries) {
+                    emitter.send(SseEmitter.event()
+                            .id(epoch + ":" + entry.seq())
+                            .name("change")
+                            .data(entry.json(), MediaType.APPLICATION_JSON));
+                    cursor = entry.seq();
+                }
+                if (entries.isEmpty() && !journal.await(cursor, heartbeatMillis)) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김 또는 이미 완료된 응답
+            log.debug("게시글 변경 피드 연결 종료: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            subscribers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 구독자 수
+     */
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    /**
+     * 종료 시 모든 구독자 스레드 중단
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
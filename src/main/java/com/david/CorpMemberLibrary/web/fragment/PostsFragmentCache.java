@@ -0,0 +1,150 @@
+package com.david.CorpMemberLibrary.web.fragment;
+
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 렌더링된 게시글 목록 행(HTML) 캐시
+ *
+ * 데이터 조회가 빨라진 뒤에는 posts-list.html 렌더링이 요청당 CPU의 큰 부분을 차지합니다.
+ * 목록의 각 행(posts/fragments/posts-list-row.html)을 게시글 ID별로 한 번만 렌더링해 두고,
+ * 목록 페이지는 캐시된 행 HTML을 이어 붙이기만 하므로 행마다 템플릿 엔진을 실행하지 않습니다.
+ *
+ * 무효화:
+ * 1. 캐시 항목에 렌더링할 때의 게시글 버전을 함께 저장하고, 조회한 버전과 다르면 다시 렌더링
+ * 2. 게시글이 수정/삭제되면 커밋 이후 이벤트를 받아 해당 ID 항목을 바로 제거
+ *
+ * 행 HTML의 링크(@{...})에는 컨텍스트 경로가 포함되며, 애플리케이션 안에서는 항상 같으므로
+ * 요청과 상관없이 공유해도 됩니다.
+ */
+@Component  // Spring: 이 클래스를 빈으로 등록
+public class PostsFragmentCache {
+
+    private static final String ROW_TEMPLATE = "posts/fragments/posts-list-row";
+
+    private final ITemplateEngine templateEngine;
+
+    private final JakartaServletWebApplication application;
+
+    private final Cache<Long, RenderedRow> rows;
+
+    /**
+     * 렌더링된 행 하나
+     *
+     * @param version 렌더링할 때의 게시글 버전
+     * @param html 행 HTML
+     */
+    private record RenderedRow(Long version, String html) {
+    }
+
+    /**
+     * @param templateEngine Thymeleaf 템플릿 엔진
+     * @param servletContext 웹 컨텍스트(@{...} 링크 처리) 생성용
+     * @param maximumSize 최대 항목 수
+     * @param meterRegistry 지표 저장소 (cache.gets 등으로 노출)
+     */
+    public PostsFragmentCache(ITemplateEngine templateEngine,
+                              ServletContext servletContext,
+                              @Value("${posts.fragment-cache.maximum-size:20000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+        this.rows = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()  // 적중/미스/제거 횟수 기록
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rows, "posts.fragment");
+    }
+
+    /**
+     * 목록 행 HTML 조회 (캐시에 없거나 버전이 다르면 렌더링 후 저장)
+     *
+     * @param posts 목록에 표시할 게시글
+     * @param request 현재 요청 (렌더링할 때만 사용)
+     * @param response 현재 응답 (렌더링할 때만 사용)
+     * @return 게시글 순서대로의 행 HTML
+     */
+    public List<String> rows(List<PostsListResponseDto> posts, HttpServletRequest request,
+                             HttpServletResponse response) {
+        List<String> html = new ArrayList<>(posts.size());
+        IWebExchange exchange = null;
+        for (PostsListResponseDto post : posts) {
+            RenderedRow cached = rows.getIfPresent(post.getId());
+            if (cached == null || !Objects.equals(cached.version(), post.getVersion())) {
+                if (exchange == null) {
+                    exchange = application.buildExchange(request, response);
+                }
+                cached = new RenderedRow(post.getVersion(), render(post, exchange));
+                rows.put(post.getId(), cached);
+            }
+            html.add(cached.html());
+        }
+        return html;
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋 이후)
+     *
+     * 새 게시글은 아직 캐시에 없으므로 수정/삭제만 처리합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.getType() != PostsChangedEvent.Type.SAVED) {
+            rows.invalidate(event.getId());
+        }
+    }
+
+    /**
+     * 게시글 일괄 변경 이벤트 처리 (커밋 이후)
+     *
+     * @param event 게시글 일괄 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        rows.invalidateAll(event.getIds());
+    }
+
+    /**
+     * 캐시된 행 수
+     *
+     * @return 항목 수 (근사값)
+     */
+    public long size() {
+        return rows.estimatedSize();
+    }
+
+    /**
+     * 전체 항목 제거
+     */
+    public void clear() {
+        rows.invalidateAll();
+    }
+
+    private String render(PostsListResponseDto post, IWebExchange exchange) {
+        WebContext context = new WebContext(exchange, LocaleContextHolder.getLocale(), Map.of("post", post));
+        return templateEngine.process(ROW_TEMPLATE, context);
+    }
+}
@@ -0,0 +1,164 @@
+package com.david.CorpMemberLibrary.config;
+
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주 DB와 복제본을 서로 다른 인메모리 H2로 띄워 라우팅을 확인합니다.
+ *
+ * 두 H2 사이에는 복제가 없으므로 replicate()가 주 DB 내용을 복제본에 복사해서 복제를 흉내 내고,
+ * 복제 지연은 복제본의 replica_lag 테이블 값으로 조절합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "posts.datasource.routing.enabled=true",
+        "posts.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica",
+        "posts.datasource.routing.max-lag=5s",
+        "posts.datasource.routing.lag-query=SELECT lag_seconds FROM replica_lag",
+        "posts.datasource.routing.lag-check-interval=PT1H"
+})
+@Import(PostsTestCleanup.class)
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트")
+class DataSourceRoutingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsDetailCache postsDetailCache;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+        new JdbcTemplate(replicaDataSource).execute("DROP ALL OBJECTS");
+    }
+
+    /**
+     * 주 DB의 스키마와 데이터를 복제본에 복사하고 복제 지연 값을 설정
+     */
+    private void replicate(double lagSeconds) {
+        String script = tempDir.resolve("replica.sql").toString().replace("'", "''");
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + script + "'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM '" + script + "'");
+        replica.execute("CREATE TABLE replica_lag (lag_seconds DOUBLE)");
+        replica.update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("저장은 주 DB로, 읽기 전용 조회는 복제본으로 간다")
+    void testReadsGoToReplica() {
+        //given
+        replicate(0);
+        double replicaReadsBefore = meterRegistry.get("posts.datasource.reads").tag("target", "replica").counter().count();
+
+        //when
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        postsDetailCache.clear();
+
+        //then
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject("SELECT COUNT(*) FROM posts", Long.class))
+                .isEqualTo(1);
+        // 아직 복제되지 않았으므로 복제본에서 읽는 조회에는 보이지 않음
+        assertThat(postsService.findAll()).isEmpty();
+        assertThatThrownBy(() -> postsService.findById(id))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        replicate(0);
+        assertThat(postsService.findAll()).extracting(PostsResponseDto::getId).containsExactly(id);
+        assertThat(postsService.findPage(null, 10, CursorDirection.NEXT).getPosts())
+                .extracting(PostsListResponseDto::getId).containsExactly(id);
+        assertThat(postsService.findById(id).getTitle()).isEqualTo("제목");
+        assertThat(meterRegistry.get("posts.datasource.reads").tag("target", "replica").counter().count())
+                .isGreaterThan(replicaReadsBefore);
+    }
+
+    @Test
+    @DisplayName("변경 직후 max-lag 동안 목록은 복제본이 아니라 주 DB에서 읽어 새 ETag에 이전 목록이 담기지 않는다")
+    void testListReadsPrimaryWhileReplicaMayLag() {
+        //given
+        replicate(0);  // 복제본은 지연이 없다고 보고하지만 아직 새 글을 받지 못한 상태
+        String etagBefore = postsService.listETag();
+        double primaryReadsBefore = meterRegistry.get("posts.datasource.reads").tag("target", "primary").counter().count();
+
+        //when
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        String etagAfter = postsService.listETag();
+
+        //then
+        assertThat(etagAfter).isNotEqualTo(etagBefore);
+        assertThat(postsService.findPage(null, 10, CursorDirection.NEXT).getPosts())
+                .extracting(PostsListResponseDto::getId).containsExactly(id);
+        assertThat(meterRegistry.get("posts.datasource.reads").tag("target", "primary").counter().count())
+                .isGreaterThan(primaryReadsBefore);
+        // 다른 읽기 전용 조회는 그대로 복제본에서 읽음
+        assertThat(postsService.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 확인에 실패하면 읽기도 주 DB로 간다")
+    void testLaggingReplicaFallsBackToPrimary() {
+        //given
+        replicate(60);
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+
+        //when
+        boolean availableWhileLagging = replicaLagMonitor.isAvailable();
+        double lagWhileLagging = replicaLagMonitor.getLagSeconds();
+        int rowsWhileLagging = postsService.findAll().size();
+
+        new JdbcTemplate(replicaDataSource).execute("DROP TABLE replica_lag");
+        replicaLagMonitor.check();
+
+        //then
+        assertThat(availableWhileLagging).isFalse();
+        assertThat(lagWhileLagging).isEqualTo(60.0);
+        assertThat(rowsWhileLagging).isEqualTo(1);
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(replicaLagMonitor.getLagSeconds()).isNaN();
+        assertThat(postsService.findAll()).extracting(PostsResponseDto::getId).containsExactly(id);
+    }
+}
@@ -0,0 +1,140 @@
+package com.david.CorpMemberLibrary.config.admission;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "posts.admission.enabled=true",
+        "posts.admission.write.rate=0.001",
+        "posts.admission.write.burst=2",
+        "posts.admission.client-key-header=X-Client-Id"
+})
+@Import(PostsTestCleanup.class)
+@AutoConfigureMockMvc
+@DisplayName("수락 제어 필터 테스트")
+class AdmissionControlFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    @Test
+    @DisplayName("클라이언트별 쓰기 속도 제한을 넘으면 429와 Retry-After로 바로 거절한다")
+    void testWriteRateLimit() throws Exception {
+        //given
+        double rejectedBefore = requests("write", "rate-limited");
+
+        //when, then
+        for (int i = 0; i < 2; i++) {
+            save("10.0.0.1").andExpect(status().is3xxRedirection());
+        }
+        save("10.0.0.1")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        // 다른 클라이언트와 제한하지 않는 요청은 영향을 받지 않음
+        save("10.0.0.2").andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/posts/search").param("q", "제목"))
+                .andExpect(status().isOk());
+
+        assertThat(postsRepository.count()).isEqualTo(3);
+        assertThat(requests("write", "rate-limited") - rejectedBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("클라이언트 식별 헤더가 있으면 접속 IP가 같아도 클라이언트별로 따로 제한한다")
+    void testClientKeyHeader() throws Exception {
+        //given
+        String proxy = "10.0.0.100";
+
+        //when, then
+        for (int i = 0; i < 2; i++) {
+            save(proxy, "client-a").andExpect(status().is3xxRedirection());
+        }
+        save(proxy, "client-a").andExpect(status().isTooManyRequests());
+        // 같은 프록시 IP로 들어온 다른 클라이언트
+        save(proxy, "client-b").andExpect(status().is3xxRedirection());
+        // 여러 값이면 첫 번째 값으로 구분
+        save(proxy, "client-a, 10.0.0.100").andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("목록 요청은 받아들인 요청으로 기록되고 동시 처리 한도 지표가 노출된다")
+    void testListAdmitted() throws Exception {
+        //given
+        double admittedBefore = requests("list", "admitted");
+
+        //when
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk());
+
+        //then
+        assertThat(requests("list", "admitted") - admittedBefore).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.admission.limit").tag("class", "list").gauge().value())
+                .isEqualTo(admissionControlFilter.limitOf(AdmissionControlFilter.EndpointClass.LIST));
+        assertThat(meterRegistry.get("posts.admission.in-flight").tag("class", "list").gauge().value()).isZero();
+    }
+
+    /**
+     * 클라이언트 IP를 정해서 게시글 저장 요청
+     */
+    private ResultActions save(String remoteAddr) throws Exception {
+        return save(remoteAddr, null);
+    }
+
+    /**
+     * 클라이언트 IP와 식별 헤더를 정해서 게시글 저장 요청
+     */
+    private ResultActions save(String remoteAddr, String clientId) throws Exception {
+        return mockMvc.perform(post("/posts/save")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    if (clientId != null) {
+                        request.addHeader("X-Client-Id", clientId);
+                    }
+                    return request;
+                })
+                .param("title", "제목")
+                .param("content", "내용")
+                .param("author", "작성자"));
+    }
+
+    private double requests(String type, String outcome) {
+        Counter counter = meterRegistry.find("posts.admission.requests")
+                .tag("class", type).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,86 @@
+package com.david.CorpMemberLibrary.config.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("수락 제어 한도 테스트")
+class AimdConcurrencyLimitTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 다음 요청은 바로 거절된다")
+    void testRejectsOverLimit() {
+        //given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 10, TARGET, 0.5);
+
+        //when
+        boolean first = limit.tryAcquire();
+        boolean second = limit.tryAcquire();
+        boolean third = limit.tryAcquire();
+        limit.release(TARGET / 2, false);
+        boolean afterRelease = limit.tryAcquire();
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(afterRelease).isTrue();
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("느린 응답과 서버 오류에는 한도를 줄이고, 빠른 응답이 이어지면 다시 늘린다")
+    void testAdditiveIncreaseMultiplicativeDecrease() {
+        //given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(8, 2, 16, TARGET, 0.5);
+
+        //when
+        limit.tryAcquire();
+        limit.release(TARGET * 2, false);  // 느린 응답: 8 -> 4
+        int afterSlow = limit.limit();
+        limit.tryAcquire();
+        limit.release(TARGET / 2, true);  // 서버 오류: 4 -> 2
+        int afterError = limit.limit();
+        limit.tryAcquire();
+        limit.release(TARGET * 2, false);  // 최소 한도 아래로는 줄지 않음
+        int atMinimum = limit.limit();
+        for (int i = 0; i < 10; i++) {
+            // 한도를 다 쓰는 동안 빠른 응답이 이어짐
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.release(TARGET / 2, false);
+            limit.release(TARGET / 2, false);
+        }
+
+        //then
+        assertThat(afterSlow).isEqualTo(4);
+        assertThat(afterError).isEqualTo(2);
+        assertThat(atMinimum).isEqualTo(2);
+        assertThat(limit.limit()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 burst만큼 허용하고 이후에는 다음 토큰까지 남은 시간을 알려준다")
+    void testTokenBucket() {
+        //given
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, 2, now);  // 초당 2개, 최대 2개
+
+        //when
+        long first = bucket.tryAcquire(now);
+        long second = bucket.tryAcquire(now);
+        long third = bucket.tryAcquire(now);
+        long afterRefill = bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(500));
+
+        //then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(afterRefill).isZero();
+    }
+}
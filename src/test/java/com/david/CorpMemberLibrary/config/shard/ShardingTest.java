@@ -0,0 +1,153 @@
+package com.david.CorpMemberLibrary.config.shard;
+
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 샤드 두 개를 서로 다른 인메모리 H2로 띄워 법인별 저장과 전체 조회 병합을 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard-a",
+        "posts.sharding.enabled=true",
+        "posts.sharding.shards=a,b",
+        "posts.sharding.datasource.b.jdbc-url=jdbc:h2:mem:shard-b",
+        "posts.sharding.datasource.b.username=sa",
+        "posts.sharding.placement[corp-a]=a",
+        "posts.sharding.placement[corp-b]=b"
+})
+@Import(PostsTestCleanup.class)
+@DisplayName("법인 단위 샤딩 테스트")
+class ShardingTest {
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsShards postsShards;
+
+    @Autowired
+    private PostsDetailCache postsDetailCache;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    private long count(String shard) {
+        return postsShards.inShard(shard,
+                () -> new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM posts", Long.class));
+    }
+
+    private Long save(String title, String corporation) {
+        return postsService.save(new PostsSaveRequestDto(title, "내용", "작성자", corporation));
+    }
+
+    @Test
+    @DisplayName("게시글은 법인의 샤드에 저장되고 ID로 어느 샤드에서든 조회/수정/삭제된다")
+    void testSaveRoutesByCorporation() {
+        //given
+        Long idA = save("에이", "corp-a");
+        Long idB = save("비", "corp-b");
+        postsDetailCache.clear();
+
+        //when
+        postsService.update(new PostsUpdateRequestDto(idB, "비 수정", "내용", "작성자"));
+        postsService.delete(idA);
+
+        //then
+        assertThat(postsShards.shardOf("corp-b")).isEqualTo("b");
+        assertThat(count("a")).isZero();
+        assertThat(count("b")).isEqualTo(1);
+        assertThat(postsService.findById(idB).getTitle()).isEqualTo("비 수정");
+        assertThat(postsService.findById(idB).getCorporation()).isEqualTo("corp-b");
+        assertThatThrownBy(() -> postsService.findById(idA))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("법인 없이 목록을 조회하면 모든 샤드의 게시글을 최신 글부터 병합한다")
+    void testFindPageMergesShards() {
+        //given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(save("에이" + i, "corp-a"));
+            ids.add(save("비" + i, "corp-b"));
+        }
+        // 샤드와 상관없이 ID가 저장 순서를 따르므로 최신 글부터 = 저장 역순
+        List<Long> expected = ids.reversed();
+
+        //when
+        PostsPageResponseDto first = postsService.findPage(null, null, 5, CursorDirection.NEXT);
+        Long cursor = first.getPosts().getLast().getId();
+        PostsPageResponseDto second = postsService.findPage(null, cursor, 5, CursorDirection.NEXT);
+        PostsPageResponseDto tenant = postsService.findPage("corp-b", null, 10, CursorDirection.NEXT);
+
+        //then
+        assertThat(ids).isSorted();
+        assertThat(first.getPosts()).extracting(PostsListResponseDto::getId).isEqualTo(expected.subList(0, 5));
+        assertThat(first.getPosts()).extracting(PostsListResponseDto::getTitle)
+                .containsExactly("비3", "에이3", "비2", "에이2", "비1");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getPosts()).extracting(PostsListResponseDto::getId).isEqualTo(expected.subList(5, 8));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.isHasPrev()).isTrue();
+        assertThat(tenant.getPosts()).hasSize(4)
+                .allSatisfy(post -> assertThat(post.getTitle()).startsWith("비"));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 모든 샤드에서 실행된다")
+    void testBulkDeleteAcrossShards() {
+        //given
+        Long idA = save("에이", "corp-a");
+        Long idB = save("비", "corp-b");
+
+        //when
+        int affected = postsService.deleteAll(List.of(idA, idB)).getAffected();
+
+        //then
+        assertThat(affected).isEqualTo(2);
+        assertThat(count("a")).isZero();
+        assertThat(count("b")).isZero();
+    }
+
+    @Test
+    @DisplayName("샤드별 정렬 목록을 하나의 정렬 목록으로 병합한다")
+    void testMerge() {
+        //given
+        List<List<Integer>> sorted = List.of(List.of(9, 5, 1), List.of(8, 7, 2), List.of());
+
+        //when
+        List<Integer> merged = PostsShards.merge(sorted, Comparator.<Integer>reverseOrder(), 4);
+
+        //then
+        assertThat(merged).containsExactly(9, 8, 7, 5);
+    }
+}
@@ -0,0 +1,61 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc 요청의 SQL 예산 검증
+ *
+ * 예: mockMvc.perform(get("/posts/{id}", id)).andExpect(SqlBudgetMatchers.maxStatements(1));
+ */
+public final class SqlBudgetMatchers {
+
+    private SqlBudgetMatchers() {
+    }
+
+    /**
+     * 요청에서 실행된 SQL이 max회 이하
+     */
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            SqlStatementScope scope = scope(result);
+            if (scope.getStatements() > max) {
+                throw new AssertionError("SQL은 최대 " + max + "회여야 합니다: " + scope
+                        + ", 가장 많이 반복된 SQL: " + scope.getMostRepeatedSql());
+            }
+        };
+    }
+
+    /**
+     * 요청에서 읽은 행이 max건 이하
+     */
+    public static ResultMatcher maxRows(long max) {
+        return result -> {
+            SqlStatementScope scope = scope(result);
+            if (scope.getRows() > max) {
+                throw new AssertionError("읽은 행은 최대 " + max + "건이어야 합니다: " + scope);
+            }
+        };
+    }
+
+    /**
+     * 같은 SQL이 max회를 넘게 반복되지 않음 (N+1 방지)
+     */
+    public static ResultMatcher maxRepeats(int max) {
+        return result -> {
+            SqlStatementScope scope = scope(result);
+            if (scope.getMaxRepeats() > max) {
+                throw new AssertionError("같은 SQL이 " + scope.getMaxRepeats() + "회 반복되었습니다 (최대 " + max
+                        + "회): " + scope.getMostRepeatedSql());
+            }
+        };
+    }
+
+    private static SqlStatementScope scope(MvcResult result) {
+        Object scope = result.getRequest().getAttribute(SqlBudgetFilter.SCOPE_ATTRIBUTE);
+        if (!(scope instanceof SqlStatementScope sqlStatementScope)) {
+            throw new AssertionError("SQL 집계가 없습니다 (posts.sql-budget.enabled 확인)");
+        }
+        return sqlStatementScope;
+    }
+}
@@ -0,0 +1,131 @@
+package com.david.CorpMemberLibrary.config.sqlbudget;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.david.CorpMemberLibrary.config.sqlbudget.SqlBudgetMatchers.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Import(PostsTestCleanup.class)
+@AutoConfigureMockMvc
+@DisplayName("SQL 예산 테스트")
+class SqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudget sqlBudget;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private PostsDetailCache postsDetailCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    private List<Long> savePosts(int count) {
+        List<Posts> posts = IntStream.range(0, count)
+                .mapToObj(i -> Posts.builder().title("제목" + i).content("내용" + i).author("작성자").build())
+                .toList();
+        return postsRepository.saveAll(posts).stream().map(Posts::getId).toList();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 캐시 미스에 SQL 1회, 캐시 적중에 0회만 실행한다")
+    void testDetailStatements() throws Exception {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        postsDetailCache.clear();
+
+        //when, then
+        mockMvc.perform(get("/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(maxStatements(1))
+                .andExpect(maxRows(1));
+        mockMvc.perform(get("/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(maxStatements(0));
+    }
+
+    @Test
+    @DisplayName("목록 조회는 페이지 크기만큼만 읽는다")
+    void testListStatements() throws Exception {
+        //given
+        savePosts(30);
+
+        //when, then
+        mockMvc.perform(get("/posts").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(maxStatements(2))
+                .andExpect(maxRows(11))
+                .andExpect(maxRepeats(1));
+        try (SqlStatementScope sql = SqlStatements.open("다음 페이지")) {
+            postsService.findPage(Long.MAX_VALUE, 10, CursorDirection.NEXT);
+            assertThat(sql.getStatements()).isEqualTo(2);  // 목록 + 이전 페이지 exists
+            assertThat(sql.getRows()).isLessThanOrEqualTo(12);
+        }
+        assertThat(meterRegistry.get("posts.sql-budget.statements")
+                .tag("scope", "service").tag("name", "PostsService.findPage").summary().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 쿼리를 반복하면(N+1) 예산 위반으로 기록한다")
+    void testRepeatedStatements() {
+        //given
+        List<Long> ids = savePosts(6);
+        double before = violations("repeated");
+
+        //when
+        SqlStatementScope sql = SqlStatements.open("N+1");
+        ids.forEach(postsRepository::findById);  // 게시글마다 SELECT 한 번씩
+        sql.close();
+        List<String> violations = sqlBudget.check(SqlBudget.Scope.SERVICE, "N+1", sql);
+
+        //then
+        assertThat(sql.getMaxRepeats()).isEqualTo(6);
+        assertThat(violations).anySatisfy(violation -> assertThat(violation).contains("N+1"));
+        assertThat(violations("repeated") - before).isEqualTo(1);
+    }
+
+    private double violations(String type) {
+        Counter counter = meterRegistry.find("posts.sql-budget.violations")
+                .tag("name", "N+1").tag("type", type).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,74 @@
+package com.david.CorpMemberLibrary.domain.posts;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsContentCodec 테스트")
+class PostsContentCodecTest {
+
+    @Test
+    @DisplayName("기준 크기 미만의 내용은 압축하지 않고 그대로 저장한다")
+    void testShortContentStaysRaw() {
+        //given
+        String content = "짧은 내용";
+
+        //when
+        byte[] stored = PostsContentCodec.encode(content);
+
+        //then
+        assertThat(PostsContentCodec.isCompressed(stored)).isFalse();
+        assertThat(stored).hasSize(content.getBytes(StandardCharsets.UTF_8).length + 1);
+        assertThat(PostsContentCodec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("긴 내용은 압축해서 저장하고 원래 내용으로 복원한다")
+    void testLongContentIsCompressed() {
+        //given
+        String content = "홍길동 이사는 2020년부터 재무위원회 위원장을 맡고 있습니다.\n".repeat(50);
+
+        //when
+        byte[] stored = PostsContentCodec.encode(content);
+
+        //then
+        assertThat(PostsContentCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(PostsContentCodec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("압축해도 줄지 않는 내용은 그대로 저장한다")
+    void testIncompressibleContentStaysRaw() {
+        //given
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append((char) ('가' + random.nextInt(11172)));
+        }
+        String content = builder.toString();
+
+        //when
+        byte[] stored = PostsContentCodec.encode(content);
+
+        //then
+        assertThat(PostsContentCodec.decode(stored)).isEqualTo(content);
+        assertThat(stored.length).isLessThanOrEqualTo(content.getBytes(StandardCharsets.UTF_8).length + 1);
+    }
+
+    @Test
+    @DisplayName("잘린 압축 데이터는 예외가 발생한다")
+    void testTruncatedData() {
+        //given
+        byte[] stored = PostsContentCodec.encode("내용".repeat(500));
+
+        //when, then
+        assertThatThrownBy(() -> PostsContentCodec.decode(Arrays.copyOf(stored, stored.length / 2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -151,5 +153,47 @@ class PostsRepositoryTest {
         //then
         assertThat(foundPost).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("요약 프로젝션으로 id, 제목, 작성자를 커서 기준으로 조회할 수 있다")
+    void testFindSummaries() {
+        //given
+        Posts post1 = postsRepository.save(Posts.builder().title("제목1").content("내용1").author("작성자1").build());
+        Posts post2 = postsRepository.save(Posts.builder().title("제목2").content("내용2").author("작성자2").build());
+        Posts post3 = postsRepository.save(Posts.builder().title("제목3").content("내용3").author("작성자3").build());
+
+        //when
+        List<PostsSummary> first = postsRepository.findSummaries(Limit.of(2));
+        List<PostsSummary> before = postsRepository.findSummariesBefore(post2.getId(), Limit.of(2));
+        List<PostsSummary> after = postsRepository.findSummariesAfter(post1.getId(), Limit.of(2));
+
+        //then
+        assertThat(first).extracting(PostsSummary::getId).containsExactly(post3.getId(), post2.getId());
+        assertThat(first).extracting(PostsSummary::getTitle).containsExactly("제목3", "제목2");
+        assertThat(first).extracting(PostsSummary::getAuthor).containsExactly("작성자3", "작성자2");
+        assertThat(before).extracting(PostsSummary::getId).containsExactly(post1.getId());
+        assertThat(after).extracting(PostsSummary::getId).containsExactly(post2.getId(), post3.getId());
+    }
+
+    @Test
+    @DisplayName("긴 내용은 압축해서 저장하고, 조회한 엔티티는 getContent() 호출 시에만 압축을 푼다")
+    void testContentCompression() {
+        //given
+        String content = "이사회 의결 사항을 공유합니다. ".repeat(100);
+        Long id = postsRepository.save(Posts.builder()
+                .title("제목")
+                .content(content)
+                .author("작성자")
+                .build()).getId();
+
+        //when
+        Posts found = postsRepository.findById(id).orElseThrow();
+        Object beforeAccess = ReflectionTestUtils.getField(found, "content");
+
+        //then
+        assertThat(PostsContentCodec.isCompressed(found.getEncodedContent())).isTrue();
+        assertThat(found.getEncodedContent().length).isLessThan(content.length() / 4);
+        assertThat(beforeAccess).isNull();
+        assertThat(found.getContent()).isEqualTo(content);
+    }
+}
@@ -0,0 +1,301 @@
+package com.david.CorpMemberLibrary.service.posts;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.web.dto.posts.CursorDirection;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsAuthorStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsBulkResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsCacheStatsDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsListResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsPageResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSearchResultDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Import(PostsTestCleanup.class)
+@DisplayName("PostsService 테스트")
+class PostsServiceTest {
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostsDetailCache postsDetailCache;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    private List<Long> savePosts(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Posts saved = postsRepository.save(Posts.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author("작성자" + i)
+                    .build());
+            ids.add(saved.getId());
+        }
+        return ids;
+    }
+
+    private List<Long> idsOf(PostsPageResponseDto page) {
+        return page.getPosts().stream().map(PostsListResponseDto::getId).toList();
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 최신 글부터 페이지 크기만큼 조회한다")
+    void testFindFirstPage() {
+        //given
+        List<Long> ids = savePosts(5);
+
+        //when
+        PostsPageResponseDto page = postsService.findPage(null, 2, CursorDirection.NEXT);
+
+        //then
+        assertThat(idsOf(page)).containsExactly(ids.get(4), ids.get(3));
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.isHasPrev()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 커서로 오래된 글을, 이전 커서로 최신 글을 조회한다")
+    void testFindPageWithCursor() {
+        //given
+        List<Long> ids = savePosts(5);
+        PostsPageResponseDto first = postsService.findPage(null, 2, CursorDirection.NEXT);
+
+        //when
+        PostsPageResponseDto second = postsService.findPage(first.getNextCursor(), 2, CursorDirection.NEXT);
+        PostsPageResponseDto last = postsService.findPage(second.getNextCursor(), 2, CursorDirection.NEXT);
+        PostsPageResponseDto back = postsService.findPage(last.getPrevCursor(), 2, CursorDirection.PREV);
+
+        //then
+        assertThat(idsOf(second)).containsExactly(ids.get(2), ids.get(1));
+        assertThat(second.isHasPrev()).isTrue();
+        assertThat(second.isHasNext()).isTrue();
+
+        assertThat(idsOf(last)).containsExactly(ids.get(0));
+        assertThat(last.isHasNext()).isFalse();
+
+        assertThat(idsOf(back)).containsExactly(ids.get(2), ids.get(1));
+        assertThat(back.isHasPrev()).isTrue();
+        assertThat(back.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 허용 범위로 보정된다")
+    void testPageSizeIsClamped() {
+        //given
+        savePosts(3);
+
+        //when
+        PostsPageResponseDto page = postsService.findPage(null, 0, CursorDirection.NEXT);
+
+        //then
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.getPosts()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("저장/수정/삭제한 게시글이 검색 결과에 바로 반영된다")
+    void testSearchFollowsChanges() {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("이사회 소집 안내", "정기 이사회", "홍길동"));
+
+        //when
+        List<PostsSearchResultDto> saved = postsService.search("이사회", 10);
+        postsService.update(new PostsUpdateRequestDto(id, "주주총회 안내", "정기 주주총회", "홍길동"));
+        List<PostsSearchResultDto> afterUpdate = postsService.search("이사회", 10);
+        List<PostsSearchResultDto> byAuthor = postsService.search("홍길동", 10);
+        postsService.delete(id);
+        List<PostsSearchResultDto> afterDelete = postsService.search("홍길동", 10);
+
+        //then
+        assertThat(saved).extracting(PostsSearchResultDto::getId).containsExactly(id);
+        assertThat(afterUpdate).isEmpty();
+        assertThat(byAuthor).extracting(PostsSearchResultDto::getTitle).containsExactly("주주총회 안내");
+        assertThat(afterDelete).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 캐시를 사용하고, 수정/삭제 시 캐시가 비워진다")
+    void testFindByIdCache() {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        PostsCacheStatsDto before = postsService.cacheStats();
+
+        //when
+        postsService.findById(id);
+        postsService.findById(id);
+        PostsCacheStatsDto afterReads = postsService.cacheStats();
+        postsService.update(new PostsUpdateRequestDto(id, "새 제목", "내용", "작성자"));
+        PostsResponseDto updated = postsService.findById(id);
+        postsService.delete(id);
+
+        //then
+        assertThat(afterReads.getMissCount() - before.getMissCount()).isEqualTo(1);
+        assertThat(afterReads.getHitCount() - before.getHitCount()).isEqualTo(1);
+        assertThat(updated.getTitle()).isEqualTo("새 제목");
+        assertThatThrownBy(() -> postsService.findById(id))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("캐시가 빈 상태에서 같은 게시글을 동시에 조회하면 DB 조회는 한 번만 실행된다")
+    void testFindByIdSingleFlight() throws Exception {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("인기 글", "내용", "작성자"));
+        postsDetailCache.clear();
+        int threads = 64;
+        CountDownLatch start = new CountDownLatch(1);
+        double selectsBefore = meterRegistry.get("jdbc.query").tag("type", "select").timer().count();
+        PostsCacheStatsDto before = postsService.cacheStats();
+
+        //when
+        List<Future<PostsResponseDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return postsService.findById(id);
+                }));
+            }
+            start.countDown();
+        }
+
+        //then
+        for (Future<PostsResponseDto> result : results) {
+            assertThat(result.get().getTitle()).isEqualTo("인기 글");
+        }
+        PostsCacheStatsDto after = postsService.cacheStats();
+        assertThat(meterRegistry.get("jdbc.query").tag("type", "select").timer().count() - selectsBefore)
+                .isEqualTo(1);
+        assertThat(after.getLoadCount() - before.getLoadCount()).isEqualTo(1);
+        assertThat((after.getCoalescedCount() - before.getCoalescedCount())
+                + (after.getHitCount() - before.getHitCount())).isEqualTo(threads - 1);
+        postsService.delete(id);
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 실행 시간과 JDBC 쿼리 지표가 기록된다")
+    void testMetrics() {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+
+        //when
+        postsService.findPage(null, 10, CursorDirection.NEXT);
+
+        //then
+        assertThat(meterRegistry.get("posts.service").tag("method", "findPage").timer().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("jdbc.query").tag("type", "select").timer().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        postsService.delete(id);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 존재하는 게시글 수만큼 삭제하고 캐시와 검색 색인에서도 제거한다")
+    void testDeleteAll() {
+        //given
+        List<Long> ids = savePosts(3);
+        postsService.findById(ids.get(0));
+
+        //when
+        PostsBulkResultDto result = postsService.deleteAll(List.of(ids.get(0), ids.get(1), ids.get(1), -1L));
+
+        //then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(postsRepository.findAll()).extracting(Posts::getId).containsExactly(ids.get(2));
+        assertThatThrownBy(() -> postsService.findById(ids.get(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(postsService.search("제목1", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자 일괄 변경과 부분 수정은 지정한 필드만 바꾸고 검색 색인에 반영된다")
+    void testUpdateAuthorAndPatchAll() {
+        //given
+        // 색인은 변경 이벤트로 알게 된 게시글에만 일괄 수정을 적용하므로 서비스로 저장
+        List<Long> ids = List.of(
+                postsService.save(new PostsSaveRequestDto("제목1", "내용1", "작성자1")),
+                postsService.save(new PostsSaveRequestDto("제목2", "내용2", "작성자2")));
+        postsService.findById(ids.get(0));
+
+        //when
+        PostsBulkResultDto author = postsService.updateAuthor(new PostsBulkRequestDto(ids, null, null, "김철수"));
+        PostsBulkResultDto patch = postsService.patchAll(new PostsBulkRequestDto(List.of(ids.get(0)), "공지", null, null));
+
+        //then
+        assertThat(author.getAffected()).isEqualTo(2);
+        assertThat(patch.getAffected()).isEqualTo(1);
+        PostsResponseDto first = postsService.findById(ids.get(0));
+        assertThat(first.getTitle()).isEqualTo("공지");
+        assertThat(first.getContent()).isEqualTo("내용1");
+        assertThat(first.getAuthor()).isEqualTo("김철수");
+        assertThat(postsService.search("김철수", 10)).hasSize(2);
+        assertThat(postsService.search("작성자1", 10)).isEmpty();
+        assertThat(postsService.search("공지", 10)).extracting(PostsSearchResultDto::getId).containsExactly(ids.get(0));
+        assertThat(postsService.authorStats("김철수").getCount()).isEqualTo(2);
+        assertThatThrownBy(() -> postsService.patchAll(new PostsBulkRequestDto(ids, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("작성자 집계는 저장/수정/삭제와 일괄 변경을 따라간다")
+    void testAuthorStatsFollowChanges() {
+        //given
+        Long first = postsService.save(new PostsSaveRequestDto("제목1", "내용", "이사A"));
+        Long second = postsService.save(new PostsSaveRequestDto("제목2", "내용", "이사A"));
+
+        //when
+        PostsAuthorStatsDto saved = postsService.authorStats("이사A");
+        postsService.update(new PostsUpdateRequestDto(second, "제목2", "내용", "이사B"));
+        PostsAuthorStatsDto afterUpdate = postsService.authorStats("이사A");
+        postsService.updateAuthor(new PostsBulkRequestDto(List.of(first), null, null, "이사B"));
+        List<PostsAuthorStatsDto> top = postsService.topAuthors(1);
+        postsService.delete(second);
+
+        //then
+        assertThat(saved.getCount()).isEqualTo(2);
+        assertThat(saved.getLatestId()).isEqualTo(second);
+        assertThat(afterUpdate.getCount()).isEqualTo(1);
+        assertThat(afterUpdate.getLatestId()).isEqualTo(first);
+        assertThat(top).extracting(PostsAuthorStatsDto::getAuthor).containsExactly("이사B");
+        assertThat(top.get(0).getCount()).isEqualTo(2);
+        assertThat(postsService.authorStats("이사A").getCount()).isZero();
+        assertThat(postsService.authorStats("이사B").getLatestId()).isEqualTo(first);
+    }
+}
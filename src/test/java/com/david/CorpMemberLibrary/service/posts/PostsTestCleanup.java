@@ -0,0 +1,70 @@
+package com.david.CorpMemberLibrary.service.posts;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.author.PostsAuthorIndex;
+import com.david.CorpMemberLibrary.service.posts.cache.PostsDetailCache;
+import com.david.CorpMemberLibrary.service.posts.duplicate.PostsDuplicateIndex;
+import com.david.CorpMemberLibrary.service.posts.journal.PostsChangeJournal;
+import com.david.CorpMemberLibrary.service.posts.search.PostsSearchIndex;
+import com.david.CorpMemberLibrary.service.posts.shard.PostsShards;
+import com.david.CorpMemberLibrary.service.posts.suggest.PostsSuggestIndex;
+import com.david.CorpMemberLibrary.web.fragment.PostsFragmentCache;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 테스트 사이 게시글 데이터 초기화
+ *
+ * deleteAll()은 변경 이벤트를 발행하지 않으므로, 게시글을 지운 뒤 메모리 색인/캐시/변경 저널도 함께 비웁니다.
+ * 사용하는 테스트는 @Import(PostsTestCleanup.class)로 등록하고 @AfterEach에서 clear()를 호출합니다.
+ */
+@TestComponent  // Spring: 테스트에서 @Import로만 등록되는 빈 (컴포넌트 스캔 제외)
+public class PostsTestCleanup {
+
+    private final PostsRepository postsRepository;
+
+    private final PostsShards postsShards;
+
+    private final PostsSearchIndex postsSearchIndex;
+
+    private final PostsAuthorIndex postsAuthorIndex;
+
+    private final PostsSuggestIndex postsSuggestIndex;
+
+    private final PostsDuplicateIndex postsDuplicateIndex;
+
+    private final PostsDetailCache postsDetailCache;
+
+    private final PostsFragmentCache postsFragmentCache;
+
+    private final PostsChangeJournal postsChangeJournal;
+
+    PostsTestCleanup(PostsRepository postsRepository, PostsShards postsShards,
+                     PostsSearchIndex postsSearchIndex, PostsAuthorIndex postsAuthorIndex,
+                     PostsSuggestIndex postsSuggestIndex, PostsDuplicateIndex postsDuplicateIndex,
+                     PostsDetailCache postsDetailCache, PostsFragmentCache postsFragmentCache,
+                     PostsChangeJournal postsChangeJournal) {
+        this.postsRepository = postsRepository;
+        this.postsShards = postsShards;
+        this.postsSearchIndex = postsSearchIndex;
+        this.postsAuthorIndex = postsAuthorIndex;
+        this.postsSuggestIndex = postsSuggestIndex;
+        this.postsDuplicateIndex = postsDuplicateIndex;
+        this.postsDetailCache = postsDetailCache;
+        this.postsFragmentCache = postsFragmentCache;
+        this.postsChangeJournal = postsChangeJournal;
+    }
+
+    /**
+     * 모든 샤드의 게시글과 메모리 색인/캐시/변경 저널 비우기
+     */
+    public void clear() {
+        postsShards.forEachShard(shard -> postsRepository.deleteAll());
+        postsSearchIndex.clear();
+        postsAuthorIndex.clear();
+        postsSuggestIndex.clear();
+        postsDuplicateIndex.clear();
+        postsDetailCache.clear();
+        postsFragmentCache.clear();
+        postsChangeJournal.clear();
+    }
+}
@@ -0,0 +1,94 @@
+package com.david.CorpMemberLibrary.service.posts.author;
+
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsAuthorStatsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsAuthorIndex 테스트")
+class PostsAuthorIndexTest {
+
+    private final PostsAuthorIndex index = new PostsAuthorIndex(null, null);
+
+    @Test
+    @DisplayName("작성자별 건수와 최근 게시글을 조회한다")
+    void testStats() {
+        //given
+        index.put(1L, "홍길동", "첫 글");
+        index.put(3L, "홍길동", "세 번째 글");
+        index.put(2L, "김철수", "두 번째 글");
+
+        //when
+        PostsAuthorStatsDto hong = index.stats("홍길동");
+        PostsAuthorStatsDto nobody = index.stats("이영희");
+
+        //then
+        assertThat(hong.getCount()).isEqualTo(2);
+        assertThat(hong.getLatestId()).isEqualTo(3L);
+        assertThat(hong.getLatestTitle()).isEqualTo("세 번째 글");
+        assertThat(nobody.getCount()).isZero();
+        assertThat(nobody.getLatestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("작성자가 바뀌거나 게시글이 삭제되면 집계와 순위가 갱신된다")
+    void testAuthorChangeAndRemove() {
+        //given
+        index.put(1L, "홍길동", "글1");
+        index.put(2L, "홍길동", "글2");
+        index.put(3L, "김철수", "글3");
+
+        //when
+        index.put(2L, "김철수", "글2");
+        index.remove(1L);
+        List<PostsAuthorStatsDto> top = index.top(10);
+
+        //then
+        assertThat(top).extracting(PostsAuthorStatsDto::getAuthor).containsExactly("김철수");
+        assertThat(top.get(0).getCount()).isEqualTo(2);
+        assertThat(top.get(0).getLatestId()).isEqualTo(3L);
+        assertThat(index.stats("홍길동").getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 작성자는 건수 내림차순, 같으면 이름 순으로 limit명까지 조회한다")
+    void testTop() {
+        //given
+        index.put(1L, "b", "글");
+        index.put(2L, "a", "글");
+        index.put(3L, "c", "글");
+        index.put(4L, "c", "글");
+        index.put(5L, null, "작성자 없음");
+
+        //when
+        List<PostsAuthorStatsDto> top = index.top(2);
+
+        //then
+        assertThat(top).extracting(PostsAuthorStatsDto::getAuthor).containsExactly("c", "a");
+        assertThat(index.authorCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("작성자 일괄 변경은 작성자가 없던 게시글도 보관 중인 제목으로 집계한다")
+    void testBulkAuthorChange() {
+        //given
+        index.put(1L, "홍길동", "글1");
+        index.put(2L, null, "글2");
+
+        //when
+        index.onPostsBulkChanged(PostsBulkChangedEvent.updated(List.of(1L, 2L, 99L),
+                PostsBulkChangedEvent.Patch.author("김철수")));
+
+        //then
+        PostsAuthorStatsDto kim = index.stats("김철수");
+        assertThat(kim.getCount()).isEqualTo(2);
+        assertThat(kim.getLatestId()).isEqualTo(2L);
+        assertThat(kim.getLatestTitle()).isEqualTo("글2");
+        assertThat(index.stats("홍길동").getCount()).isZero();
+        assertThat(index.authorCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.david.CorpMemberLibrary.service.posts.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final int THREADS = 32;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("진행 중인 조회에 동시 요청이 합쳐져 loader는 한 번만 실행된다")
+    void testCoalescing() throws Exception {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        //when
+        List<Future<String>> results = burst(() -> singleFlight.execute(1L, () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "값";
+        }), release);
+
+        //then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("값");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.leaderCount()).isEqualTo(1);
+        assertThat(singleFlight.followerCount()).isEqualTo(THREADS - 1);
+        assertThat(singleFlight.coalescedRate()).isEqualTo((double) (THREADS - 1) / THREADS);
+    }
+
+    @Test
+    @DisplayName("loader 예외는 기다리던 요청 모두에게 한 번의 조회로 전달된다")
+    void testSharedFailure() throws Exception {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        //when
+        List<Future<String>> results = burst(() -> singleFlight.execute(1L, () -> {
+            calls.incrementAndGet();
+            await(release);
+            throw new IllegalArgumentException("해당 게시글이 없습니다. id=1");
+        }), release);
+
+        //then
+        for (Future<String> result : results) {
+            assertThatThrownBy(result::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("해당 게시글이 없습니다. id=1");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 결과를 보관하지 않고 다음 요청은 새로 조회한다")
+    void testNoMemoization() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        singleFlight.execute(1L, () -> "첫 번째" + calls.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "두 번째" + calls.incrementAndGet());
+
+        //then
+        assertThat(second).isEqualTo("두 번째2");
+        assertThat(singleFlight.followerCount()).isZero();
+    }
+
+    /**
+     * 요청을 동시에 보내고, 나머지 요청이 모두 합쳐진 뒤 loader를 풀어줌
+     */
+    private List<Future<String>> burst(Callable<String> call, CountDownLatch release)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(call));
+            }
+            while (singleFlight.followerCount() < THREADS - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
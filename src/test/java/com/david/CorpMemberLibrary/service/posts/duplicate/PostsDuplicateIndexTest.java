@@ -0,0 +1,78 @@
+package com.david.CorpMemberLibrary.service.posts.duplicate;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsDuplicateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsDuplicateIndex 테스트")
+class PostsDuplicateIndexTest {
+
+    private static final String PROFILE = """
+            홍길동 사외이사는 1965년 서울에서 태어나 서울대학교 경영학과를 졸업하고 미국 펜실베이니아대학교에서 \
+            경영학 석사 학위를 받았다. 이후 삼성전자 재무팀에서 이십여 년간 근무하며 해외 법인 재무 관리와 \
+            인수합병 업무를 담당했고, 2015년부터 2020년까지 같은 회사의 최고재무책임자로 재직했다. \
+            2021년 주주총회에서 사외이사로 선임되어 감사위원회 위원장을 맡고 있으며, 내부회계관리제도 \
+            운영 실태를 점검하고 외부감사인 선임 절차를 감독하는 역할을 하고 있다.""";
+
+    private final PostsDuplicateIndex index = new PostsDuplicateIndex(null, null, 3, false);
+
+    @Test
+    @DisplayName("조금 고친 소개글은 중복 의심으로 찾고, 다른 소개글은 찾지 않는다")
+    void testNearDuplicate() {
+        //given
+        index.put(1L, "홍길동 사외이사", PROFILE);
+        index.put(2L, "김철수 대표이사", "김철수 대표이사는 현대자동차에서 연구개발을 총괄했으며 2019년 대표이사로 취임했다.");
+
+        //when
+        List<PostsDuplicateDto> edited = index.find("홍길동 사외이사",
+                PROFILE.replace("이십여 년간", "이십 년 넘게"), 10);
+        List<PostsDuplicateDto> spaced = index.find("홍길동  사외이사", PROFILE.replace("。", "") + "  ", 10);
+        List<PostsDuplicateDto> unrelated = index.find("이영희 감사", "이영희 감사는 회계법인 파트너 출신이다.", 10);
+
+        //then
+        assertThat(edited).extracting(PostsDuplicateDto::getId).containsExactly(1L);
+        assertThat(edited.getFirst().getDistance()).isLessThanOrEqualTo(3);
+        assertThat(spaced).extracting(PostsDuplicateDto::getDistance).containsExactly(0);
+        assertThat(unrelated).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 자신은 제외하고 비슷한 다른 게시글을 거리순으로 조회한다")
+    void testDuplicatesOf() {
+        //given
+        index.put(1L, "홍길동 사외이사", PROFILE);
+        index.put(2L, "홍길동 사외이사", PROFILE);
+        index.put(3L, "홍길동 사외이사", PROFILE.replace("감사위원회 위원장을", "감사위원회 위원을"));
+
+        //when
+        List<PostsDuplicateDto> duplicates = index.duplicatesOf(1L, 10);
+
+        //then
+        assertThat(duplicates).extracting(PostsDuplicateDto::getId).containsExactly(2L, 3L);
+        assertThat(duplicates.getFirst().getSimilarity()).isEqualTo(1.0);
+        assertThatThrownBy(() -> index.duplicatesOf(99L, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 이전 서명은 색인에서 빠진다")
+    void testUpdateAndRemove() {
+        //given
+        index.put(1L, "홍길동 사외이사", PROFILE);
+        index.put(2L, "홍길동 사외이사", PROFILE);
+
+        //when
+        index.put(2L, "김철수 대표이사", "전혀 다른 내용의 소개글입니다. 현대자동차 연구개발 총괄 출신.");
+        List<PostsDuplicateDto> afterUpdate = index.duplicatesOf(1L, 10);
+        index.remove(1L);
+
+        //then
+        assertThat(afterUpdate).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find("홍길동 사외이사", PROFILE, 10)).isEmpty();
+    }
+}
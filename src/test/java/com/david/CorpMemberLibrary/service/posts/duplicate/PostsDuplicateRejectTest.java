@@ -0,0 +1,146 @@
+package com.david.CorpMemberLibrary.service.posts.duplicate;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "posts.duplicate.reject-on-save=true",
+        "posts.write-behind.enabled=true",
+        "posts.write-behind.max-delay=20ms"
+})
+@Import(PostsTestCleanup.class)
+@AutoConfigureMockMvc
+@DisplayName("중복 거절 모드 테스트")
+class PostsDuplicateRejectTest {
+
+    private static final String CONTENT = "홍길동 사외이사는 삼성전자 재무팀에서 이십여 년간 근무하며 해외 법인 재무 관리와 "
+            + "인수합병 업무를 담당했고, 2021년 주주총회에서 사외이사로 선임되어 감사위원회 위원장을 맡고 있다.";
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    @Test
+    @DisplayName("비슷한 게시글이 있으면 저장하지 않고 409로 응답한다")
+    void testRejectOnSave() throws Exception {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("홍길동 사외이사", CONTENT, "피드"));
+
+        //when, then
+        assertThatThrownBy(() -> postsService.save(new PostsSaveRequestDto("홍길동 사외이사", CONTENT + " ", "피드")))
+                .isInstanceOf(PostsDuplicateException.class)
+                .hasMessageContaining("id=" + id);
+        mockMvc.perform(post("/posts/save")
+                        .param("title", "홍길동 사외이사")
+                        .param("content", CONTENT)
+                        .param("author", "피드"))
+                .andExpect(status().isConflict());
+        assertThat(postsRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비슷한 게시글이 동시에 저장되면 쓰기 지연 큐의 같은 묶음에 들어와도 하나만 저장한다")
+    void testRejectConcurrentSaves() throws Exception {
+        //given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                String content = CONTENT + " ".repeat(i);  // 공백만 다른 같은 소개글
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return postsService.save(new PostsSaveRequestDto("홍길동 사외이사", content, "피드"));
+                }));
+            }
+            start.countDown();
+        }
+
+        //then
+        int saved = 0;
+        for (Future<Long> result : results) {
+            try {
+                result.get();
+                saved++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(PostsDuplicateException.class);
+            }
+        }
+        assertThat(saved).isEqualTo(1);
+        assertThat(postsRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 예약을 풀어 같은 게시글을 다시 저장할 수 있다")
+    void testReleaseOnFailure() {
+        //given
+        String tooLongTitle = "홍길동 사외이사" + " ".repeat(600);  // 제목 컬럼 길이(500) 초과
+
+        //when
+        assertThatThrownBy(() -> postsService.save(new PostsSaveRequestDto(tooLongTitle, CONTENT, "피드")))
+                .isNotInstanceOf(PostsDuplicateException.class);
+        Long id = postsService.save(new PostsSaveRequestDto("홍길동 사외이사", CONTENT, "피드"));
+
+        //then
+        assertThat(postsRepository.findAll()).extracting(Posts::getId).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("중복 의심 게시글을 ID 또는 저장 전 내용으로 조회한다")
+    void testDuplicateLookup() throws Exception {
+        //given
+        Long first = postsService.save(new PostsSaveRequestDto("홍길동 사외이사", CONTENT, "피드"));
+        Long other = postsService.save(new PostsSaveRequestDto("김철수 대표이사", "현대자동차 연구개발 총괄 출신", "피드"));
+
+        //when, then
+        mockMvc.perform(get("/posts/{id}/duplicates", other))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        mockMvc.perform(post("/posts/duplicates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"홍길동 사외이사\",\"content\":\"" + CONTENT + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first))
+                .andExpect(jsonPath("$[0].distance").value(0));
+    }
+}
@@ -0,0 +1,143 @@
+package com.david.CorpMemberLibrary.service.posts.journal;
+
+import com.david.CorpMemberLibrary.service.posts.PostsChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsChangeJournal 테스트")
+class PostsChangeJournalTest {
+
+    private final JsonMapper jsonMapper = new JsonMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("순번 이후의 변경만 순서대로 읽는다")
+    void testReadAfter() throws Exception {
+        //given
+        PostsChangeJournal journal = open(DataSize.ofKilobytes(64), 8);
+        journal.append(PostsChangedEvent.Type.DELETED, 10L, null);
+        journal.append(PostsChangedEvent.Type.DELETED, 11L, null);
+        journal.append(PostsChangedEvent.Type.DELETED, 12L, null);
+
+        //when
+        List<PostsJournalEntry> entries = journal.read(1, 100);
+
+        //then
+        assertThat(entries).extracting(PostsJournalEntry::seq).containsExactly(2L, 3L);
+        JsonNode json = jsonMapper.readTree(entries.get(0).json());
+        assertThat(json.get("seq").asLong()).isEqualTo(2L);
+        assertThat(json.get("type").asString()).isEqualTo("DELETED");
+        assertThat(json.get("id").asLong()).isEqualTo(11L);
+        assertThat(journal.read(3, 100)).isEmpty();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고 오래된 세그먼트는 삭제된다")
+    void testRollAndRetention() {
+        //given
+        PostsChangeJournal journal = open(DataSize.ofBytes(512), 2);
+
+        //when
+        for (long id = 1; id <= 100; id++) {
+            journal.append(PostsChangedEvent.Type.DELETED, id, null);
+        }
+
+        //then
+        long earliest = journal.earliestSeq();
+        assertThat(earliest).isGreaterThan(1L);
+        assertThat(journal.lastSeq()).isEqualTo(100L);
+        List<PostsJournalEntry> entries = journal.read(0, 1000);
+        assertThat(entries.get(0).seq()).isEqualTo(earliest);
+        assertThat(entries).hasSize((int) (100 - earliest + 1));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("다시 열면 기존 항목을 복구하고 마지막 순번부터 이어서 기록한다")
+    void testRecover() {
+        //given
+        PostsChangeJournal journal = open(DataSize.ofBytes(512), 8);
+        for (long id = 1; id <= 20; id++) {
+            journal.append(PostsChangedEvent.Type.DELETED, id, null);
+        }
+        journal.close();
+
+        //when
+        PostsChangeJournal reopened = open(DataSize.ofBytes(512), 8);
+        long seq = reopened.append(PostsChangedEvent.Type.DELETED, 21L, null);
+
+        //then
+        assertThat(reopened.epoch()).isEqualTo(journal.epoch());
+        assertThat(seq).isEqualTo(21L);
+        assertThat(reopened.read(0, 100)).extracting(PostsJournalEntry::seq)
+                .startsWith(1L, 2L)
+                .endsWith(20L, 21L)
+                .hasSize(21);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("경로가 없으면 임시 디렉터리에서 새 세대로 시작하고, 닫으면 디렉터리를 삭제한다")
+    void testTemporaryDirectory() throws Exception {
+        //given
+        PostsChangeJournal first = new PostsChangeJournal(jsonMapper, "", DataSize.ofKilobytes(64), 8);
+        first.append(PostsChangedEvent.Type.DELETED, 1L, null);
+        String firstEpoch = first.epoch();
+
+        //when
+        first.close();
+        PostsChangeJournal second = new PostsChangeJournal(jsonMapper, "", DataSize.ofKilobytes(64), 8);
+
+        //then
+        assertThat(second.lastSeq()).isZero();
+        assertThat(second.epoch()).isNotEqualTo(firstEpoch);
+        assertThat(first.directory()).doesNotExist();
+        second.close();
+        assertThat(second.directory()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("새 항목이 추가되면 대기 중인 구독자가 깨어난다")
+    void testAwait() throws Exception {
+        //given
+        PostsChangeJournal journal = open(DataSize.ofKilobytes(64), 8);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            journal.append(PostsChangedEvent.Type.DELETED, 1L, null);
+        });
+
+        //when
+        boolean appended = journal.await(0, 5_000);
+        boolean timedOut = journal.await(1, 10);
+
+        //then
+        assertThat(appended).isTrue();
+        assertThat(timedOut).isFalse();
+        writer.join();
+        journal.close();
+    }
+
+    private PostsChangeJournal open(DataSize segmentSize, int maxSegments) {
+        try {
+            return new PostsChangeJournal(jsonMapper, dir.toString(), segmentSize, maxSegments);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.david.CorpMemberLibrary.service.posts.search;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.service.posts.PostsBulkChangedEvent;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsResponseDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSearchResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsSearchIndex 테스트")
+class PostsSearchIndexTest {
+
+    private final PostsSearchIndex index = new PostsSearchIndex(null, null);
+
+    private PostsResponseDto post(long id, String title, String content, String author) {
+        Posts posts = Posts.builder().title(title).content(content).author(author).build();
+        ReflectionTestUtils.setField(posts, "id", id);
+        return new PostsResponseDto(posts);
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 게시글이 내용에만 있는 게시글보다 먼저 나온다")
+    void testTitleRanksHigher() {
+        //given
+        index.index(post(1L, "이사회 명단", "삼성전자 사외이사 선임", "홍길동"));
+        index.index(post(2L, "삼성전자 이사회", "2024년 정기 주주총회", "김철수"));
+
+        //when
+        List<PostsSearchResultDto> results = index.search("삼성전자", 10);
+
+        //then
+        assertThat(results).extracting(PostsSearchResultDto::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("한글 조사가 붙은 단어도 검색된다")
+    void testHangulBigram() {
+        //given
+        index.index(post(1L, "삼성전자의 이사회", "내용", "홍길동"));
+
+        //when
+        List<PostsSearchResultDto> results = index.search("삼성전자", 10);
+
+        //then
+        assertThat(results).extracting(PostsSearchResultDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시글은 이전 토큰으로 검색되지 않는다")
+    void testReindexAndRemove() {
+        //given
+        index.index(post(1L, "alpha", "content", "kim"));
+        index.index(post(2L, "alpha", "content", "lee"));
+
+        //when
+        index.index(post(1L, "beta", "content", "kim"));
+        index.remove(2L);
+
+        //then
+        assertThat(index.search("alpha", 10)).isEmpty();
+        assertThat(index.search("beta", 10)).extracting(PostsSearchResultDto::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 수정 이벤트는 게시글을 다시 읽지 않고 새로 색인한 것과 같은 결과로 반영된다")
+    void testBulkPatch() {
+        //given
+        index.index(post(1L, "alpha report", "board content", "kim"));
+        index.index(post(2L, "beta report", "board content", "lee"));  // 수정 후 기대 상태와 같은 게시글
+
+        //when
+        index.onPostsBulkChanged(PostsBulkChangedEvent.updated(List.of(1L, 99L),
+                PostsBulkChangedEvent.Patch.of("beta report", null, "lee")));
+
+        //then
+        assertThat(index.search("alpha", 10)).isEmpty();
+        assertThat(index.search("kim", 10)).isEmpty();
+        List<PostsSearchResultDto> results = index.search("beta board lee", 10);
+        assertThat(results).extracting(PostsSearchResultDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(results.get(0).getScore()).isEqualTo(results.get(1).getScore());
+        assertThat(results).extracting(PostsSearchResultDto::getAuthor).containsOnly("lee");
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
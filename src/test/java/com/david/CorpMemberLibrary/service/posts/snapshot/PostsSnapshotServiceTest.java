@@ -0,0 +1,142 @@
+package com.david.CorpMemberLibrary.service.posts.snapshot;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "posts.snapshot.enabled=true",
+        "posts.snapshot.path=build/tmp/posts-snapshot-test/posts.snapshot",
+        "posts.snapshot.write-on-shutdown=false"
+})
+@DisplayName("PostsSnapshotService 테스트")
+class PostsSnapshotServiceTest {
+
+    @Autowired
+    private PostsSnapshotService postsSnapshotService;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷을 적재하면 ID와 내용이 그대로 복원되고 새 게시글 ID는 겹치지 않는다")
+    void testWriteAndLoad() throws IOException {
+        //given
+        Long first = postsService.save(new PostsSaveRequestDto("제목1", "내용1\n여러 줄", "작성자1"));
+        Long second = postsService.save(new PostsSaveRequestDto("제목2", "내용2", null));
+        Path file = tempDir.resolve("posts.snapshot");
+
+        //when
+        long written = postsSnapshotService.write(file);
+        postsRepository.deleteAll();
+        long loaded = postsSnapshotService.load(file);
+        Long created = postsService.save(new PostsSaveRequestDto("제목3", "내용3", "작성자3"));
+
+        //then
+        assertThat(written).isEqualTo(2);
+        assertThat(loaded).isEqualTo(2);
+        List<Posts> posts = postsRepository.findAll();
+        assertThat(posts).extracting(Posts::getId).contains(first, second);
+        assertThat(posts).extracting(Posts::getContent).contains("내용1\n여러 줄");
+        assertThat(postsRepository.findById(second).orElseThrow().getAuthor()).isNull();
+        assertThat(created).isGreaterThan(Math.max(first, second));
+    }
+
+    @Test
+    @DisplayName("게시글이 이미 있으면 적재하지 않는다")
+    void testLoadSkipsWhenNotEmpty() throws IOException {
+        //given
+        postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        Path file = tempDir.resolve("posts.snapshot");
+        postsSnapshotService.write(file);
+
+        //when
+        long loaded = postsSnapshotService.load(file);
+
+        //then
+        assertThat(loaded).isZero();
+        assertThat(postsRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘린 스냅샷 파일은 예외가 발생하고 적재 전체가 롤백된다")
+    void testLoadTruncatedFile() throws IOException {
+        //given
+        postsService.save(new PostsSaveRequestDto("제목1", "내용1", "작성자1"));
+        postsService.save(new PostsSaveRequestDto("제목2", "내용2", "작성자2"));
+        Path file = tempDir.resolve("posts.snapshot");
+        postsSnapshotService.write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        postsRepository.deleteAll();
+
+        //when, then
+        assertThatThrownBy(() -> postsSnapshotService.load(file))
+                .isInstanceOf(IOException.class);
+        assertThat(postsRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일을 여러 매핑 창으로 나눠 읽어도 창 경계에 걸친 게시글이 그대로 읽힌다")
+    void testReadAcrossWindows() throws IOException {
+        //given
+        Path file = tempDir.resolve("posts.snapshot");
+        LocalDateTime modifiedDate = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+        try (PostsSnapshotFile.Writer writer = new PostsSnapshotFile.Writer(file)) {
+            for (int i = 1; i <= 20; i++) {
+                writer.write(i, i, modifiedDate, "제목" + i, ("내용" + i).getBytes(StandardCharsets.UTF_8),
+                        "작성자" + i, null);
+            }
+        }
+
+        //when
+        List<PostsSnapshotRecord> records = new ArrayList<>();
+        try (PostsSnapshotFile.Reader reader = new PostsSnapshotFile.Reader(file, 32)) {
+            PostsSnapshotRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+
+        //then
+        assertThat(Files.size(file)).isGreaterThan(32 * 10);
+        assertThat(records).hasSize(20);
+        assertThat(records).extracting(PostsSnapshotRecord::id).containsExactly(
+                1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+        PostsSnapshotRecord last = records.get(19);
+        assertThat(last.title()).isEqualTo("제목20");
+        assertThat(last.encodedContent()).isEqualTo("내용20".getBytes(StandardCharsets.UTF_8));
+        assertThat(last.author()).isEqualTo("작성자20");
+        assertThat(last.corporation()).isNull();
+        assertThat(last.modifiedDate()).isEqualTo(modifiedDate);
+    }
+}
@@ -0,0 +1,51 @@
+package com.david.CorpMemberLibrary.service.posts.suggest;
+
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSuggestionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostsSuggestIndex 테스트")
+class PostsSuggestIndexTest {
+
+    private final PostsSuggestIndex index = new PostsSuggestIndex(null, null);
+
+    @Test
+    @DisplayName("작성자와 제목 추천어를 게시글 수 순으로 합쳐서 조회한다")
+    void testSuggest() {
+        //given
+        index.put(1L, "Samsung IR", "삼성전자 이사회");
+        index.put(2L, "Samsung IR", "삼성전자 주주총회");
+        index.put(3L, "홍길동", "samsung 소식");
+
+        //when
+        List<PostsSuggestionDto> results = index.suggest(" SAM", 10);
+
+        //then
+        assertThat(results).extracting(PostsSuggestionDto::getText)
+                .containsExactly("Samsung IR", "samsung 소식");
+        assertThat(results).extracting(PostsSuggestionDto::getType)
+                .containsExactly(PostsSuggestionDto.Type.AUTHOR, PostsSuggestionDto.Type.TITLE);
+        assertThat(results.get(0).getWeight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작성자가 바뀌거나 게시글이 삭제되면 이전 추천어의 가중치가 줄어든다")
+    void testPutAndRemove() {
+        //given
+        index.put(1L, "홍길동", "제목1");
+        index.put(2L, "홍길동", "제목2");
+
+        //when
+        index.put(1L, "홍길순", "제목1");
+        index.remove(2L);
+
+        //then
+        assertThat(index.suggest("홍", 10)).extracting(PostsSuggestionDto::getText)
+                .containsExactly("홍길순");
+        assertThat(index.suggest("", 10)).isEmpty();
+    }
+}
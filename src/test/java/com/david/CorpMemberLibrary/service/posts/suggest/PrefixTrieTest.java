@@ -0,0 +1,72 @@
+package com.david.CorpMemberLibrary.service.posts.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PrefixTrie 테스트")
+class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    private List<String> texts(String prefix, int k) {
+        return trie.top(prefix, k).stream().map(PrefixTrie.Completion::text).toList();
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 단어를 가중치 순으로 상위 k개 조회한다")
+    void testTopByWeight() {
+        //given
+        trie.add("홍길동", "홍길동", 3);
+        trie.add("홍길순", "홍길순", 5);
+        trie.add("홍범도", "홍범도", 1);
+        trie.add("김철수", "김철수", 10);
+
+        //when, then
+        assertThat(texts("홍", 2)).containsExactly("홍길순", "홍길동");
+        assertThat(texts("홍길", 10)).containsExactly("홍길순", "홍길동");
+        assertThat(texts("홍길동전", 10)).isEmpty();
+        assertThat(texts("이", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 단어의 접두사인 단어와 간선 중간에서 갈라지는 단어를 모두 찾는다")
+    void testSplitEdges() {
+        //given
+        trie.add("abcdef", "abcdef", 1);
+        trie.add("abc", "abc", 2);
+        trie.add("abxy", "abxy", 3);
+
+        //when, then
+        assertThat(texts("ab", 10)).containsExactly("abxy", "abc", "abcdef");
+        assertThat(texts("abcd", 10)).containsExactly("abcdef");
+        assertThat(texts("abc", 10)).containsExactly("abc", "abcdef");
+    }
+
+    @Test
+    @DisplayName("가중치가 0이 된 단어는 제거되고 남은 단어는 계속 조회된다")
+    void testRemove() {
+        //given
+        trie.add("abc", "abc", 1);
+        trie.add("abcdef", "abcdef", 2);
+        trie.add("abxy", "abxy", 1);
+
+        //when
+        trie.add("abc", "abc", -1);
+        trie.add("abxy", "abxy", -1);
+        trie.add("zzz", "zzz", -1);
+
+        //then
+        assertThat(texts("a", 10)).containsExactly("abcdef");
+        assertThat(trie.top("a", 10).get(0).weight()).isEqualTo(2);
+        assertThat(trie.size()).isEqualTo(1);
+
+        trie.add("abcdef", "abcdef", -2);
+        assertThat(texts("", 10)).isEmpty();
+        assertThat(trie.size()).isZero();
+    }
+}
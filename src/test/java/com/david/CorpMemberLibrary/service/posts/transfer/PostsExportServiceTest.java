@@ -0,0 +1,72 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("PostsExportService 테스트")
+class PostsExportServiceTest {
+
+    @Autowired
+    private PostsExportService postsExportService;
+
+    @Autowired
+    private PostsImportService postsImportService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("전체 게시글을 NDJSON 한 줄씩 내보낸다")
+    void testExportNdjson() throws Exception {
+        //given
+        postsRepository.save(Posts.builder().title("제목1").content("내용1").author("작성자1").build());
+        postsRepository.save(Posts.builder().title("제목2").content("줄\n바꿈").author("작성자2").build());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        long rows = postsExportService.exportPosts(output, PostsFileFormat.NDJSON);
+
+        //then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"title\":\"제목1\"");
+        assertThat(lines[1]).contains("\"content\":\"줄\\n바꿈\"");
+    }
+
+    @Test
+    @DisplayName("CSV로 내보낸 파일을 다시 가져올 수 있다")
+    void testExportCsvRoundTrip() throws Exception {
+        //given
+        postsRepository.save(Posts.builder().title("제목, 쉼표").content("\"인용\"\n여러 줄").author("작성자").build());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        postsExportService.exportPosts(output, PostsFileFormat.CSV);
+        postsRepository.deleteAll();
+
+        //when
+        postsImportService.importPosts(new ByteArrayInputStream(output.toByteArray()), PostsFileFormat.CSV);
+
+        //then
+        Posts imported = postsRepository.findAll().get(0);
+        assertThat(imported.getTitle()).isEqualTo("제목, 쉼표");
+        assertThat(imported.getContent()).isEqualTo("\"인용\"\n여러 줄");
+        assertThat(imported.getAuthor()).isEqualTo("작성자");
+    }
+}
@@ -0,0 +1,85 @@
+package com.david.CorpMemberLibrary.service.posts.transfer;
+
+import com.david.CorpMemberLibrary.domain.posts.Posts;
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsImportResultDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "posts.import.batch-size=2")
+@DisplayName("PostsImportService 테스트")
+class PostsImportServiceTest {
+
+    @Autowired
+    private PostsImportService postsImportService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAll();
+    }
+
+    private InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV 파일을 배치 단위로 저장한다 (따옴표, 쉼표, 줄바꿈 포함)")
+    void testImportCsv() throws Exception {
+        //given
+        String csv = "title,content,author\r\n"
+                + "제목1,내용1,작성자1\r\n"
+                + "\"제목, 쉼표\",\"여러 줄\n\"\"내용\"\"\",작성자2\r\n"
+                + "제목3,내용3,\n";
+
+        //when
+        PostsImportResultDto result = postsImportService.importPosts(input(csv), PostsFileFormat.CSV);
+
+        //then
+        assertThat(result.getRows()).isEqualTo(3);
+        assertThat(result.getBatches()).isEqualTo(2);
+        List<Posts> posts = postsRepository.findAll();
+        assertThat(posts).extracting(Posts::getTitle).containsExactlyInAnyOrder("제목1", "제목, 쉼표", "제목3");
+        assertThat(posts).extracting(Posts::getContent).contains("여러 줄\n\"내용\"");
+    }
+
+    @Test
+    @DisplayName("NDJSON 파일을 저장한다")
+    void testImportNdjson() throws Exception {
+        //given
+        String ndjson = "{\"title\":\"제목1\",\"content\":\"내용1\",\"author\":\"작성자1\"}\n"
+                + "\n"
+                + "{\"title\":\"제목2\",\"content\":\"내용2\"}\n";
+
+        //when
+        PostsImportResultDto result = postsImportService.importPosts(input(ndjson), PostsFileFormat.NDJSON);
+
+        //then
+        assertThat(result.getRows()).isEqualTo(2);
+        assertThat(postsRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("컬럼이 부족한 레코드를 만나면 예외가 발생한다")
+    void testImportInvalidRecord() {
+        //given
+        String csv = "title,content,author\n제목1,내용1,작성자1\n제목2,내용2,작성자2\n제목3\n";
+
+        //when, then
+        assertThatThrownBy(() -> postsImportService.importPosts(input(csv), PostsFileFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(postsRepository.count()).isEqualTo(2);  // 앞선 배치는 커밋됨
+    }
+}
@@ -0,0 +1,135 @@
+package com.david.CorpMemberLibrary.service.posts.writebehind;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.PostsTestCleanup;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "posts.write-behind.enabled=true",
+        "posts.write-behind.max-delay=20ms"
+})
+@Import(PostsTestCleanup.class)
+@AutoConfigureMockMvc
+@DisplayName("PostsWriteBehindQueue 테스트")
+class PostsWriteBehindQueueTest {
+
+    @Autowired
+    private PostsWriteBehindQueue postsWriteBehindQueue;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostsTestCleanup postsTestCleanup;
+
+    @AfterEach
+    void tearDown() {
+        postsTestCleanup.clear();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 저장 요청은 묶어서 커밋되고 각 요청은 자기 ID를 받는다")
+    void testGroupCommit() throws Exception {
+        //given
+        int requests = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        DistributionSummary batches = meterRegistry.get("posts.write-behind.batch").summary();
+        long commitsBefore = batches.count();
+
+        //when
+        List<Future<Long>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                String title = "묶음 저장 " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return postsService.save(new PostsSaveRequestDto(title, "내용", "피드"));
+                }));
+            }
+            start.countDown();
+        }
+
+        //then
+        HashSet<Long> ids = new HashSet<>();
+        for (Future<Long> result : results) {
+            ids.add(result.get());
+        }
+        assertThat(ids).hasSize(requests);
+        assertThat(postsRepository.findAllById(ids)).hasSize(requests);
+        assertThat(batches.count() - commitsBefore).isLessThan(requests);
+        assertThat(batches.max()).isGreaterThan(1);
+        assertThat(postsService.search("묶음", requests)).hasSize(requests);
+    }
+
+    @Test
+    @DisplayName("묶음 안의 잘못된 요청만 실패하고 나머지는 저장된다")
+    void testPartialFailure() {
+        //given
+        List<CompletableFuture<Long>> valid = new ArrayList<>();
+
+        //when
+        valid.add(postsWriteBehindQueue.submit(new PostsSaveRequestDto("제목1", "내용", "작성자")));
+        CompletableFuture<Long> invalid = postsWriteBehindQueue.submit(new PostsSaveRequestDto(null, "내용", "작성자"));
+        valid.add(postsWriteBehindQueue.submit(new PostsSaveRequestDto("제목2", "내용", "작성자")));
+
+        //then
+        assertThatThrownBy(invalid::join).isInstanceOf(RuntimeException.class);
+        List<Long> ids = valid.stream().map(CompletableFuture::join).toList();
+        assertThat(postsRepository.findAllById(ids)).hasSize(2);
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @DisplayName("종료하면 받은 요청은 모두 저장하고, 이후 요청은 저장하지 않고 503과 Retry-After로 응답한다")
+    void testRejected() throws Exception {
+        //given
+        CompletableFuture<Long> accepted = postsWriteBehindQueue.submit(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        postsWriteBehindQueue.shutdown();
+        assertThat(accepted).isCompleted();
+
+        //when, then
+        mockMvc.perform(post("/posts/save")
+                        .param("title", "제목")
+                        .param("content", "내용")
+                        .param("author", "작성자"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        assertThat(postsRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.write-behind.rejected").counter().count()).isGreaterThanOrEqualTo(1);
+    }
+}
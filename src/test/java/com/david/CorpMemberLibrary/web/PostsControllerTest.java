@@ -0,0 +1,225 @@
+package com.david.CorpMemberLibrary.web;
+
+import com.david.CorpMemberLibrary.domain.posts.PostsRepository;
+import com.david.CorpMemberLibrary.service.posts.PostsService;
+import com.david.CorpMemberLibrary.service.posts.journal.PostsChangeJournal;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsSaveRequestDto;
+import com.david.CorpMemberLibrary.web.dto.posts.PostsUpdateRequestDto;
+import com.david.CorpMemberLibrary.web.fragment.PostsFragmentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("PostsController 테스트")
+class PostsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private PostsFragmentCache postsFragmentCache;
+
+    @Autowired
+    private PostsChangeJournal postsChangeJournal;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("폼으로 저장/수정하면 입력한 값이 게시글에 반영된다")
+    void testFormSaveAndUpdate() throws Exception {
+        //when
+        mockMvc.perform(post("/posts/save")
+                        .param("title", "폼 제목")
+                        .param("content", "폼 내용")
+                        .param("author", "폼 작성자"))
+                .andExpect(status().is3xxRedirection());
+        Long id = postsRepository.findAll().getFirst().getId();
+        mockMvc.perform(post("/posts/update/{id}", id)
+                        .param("title", "수정 제목")
+                        .param("content", "수정 내용")
+                        .param("author", "폼 작성자"))
+                .andExpect(status().is3xxRedirection());
+
+        //then
+        assertThat(postsService.findById(id).getTitle()).isEqualTo("수정 제목");
+        assertThat(postsService.findById(id).getContent()).isEqualTo("수정 내용");
+        postsService.delete(id);
+    }
+
+    @Test
+    @DisplayName("상세 페이지는 ETag가 같으면 304, 게시글이 수정되면 200으로 응답한다")
+    void testDetailConditionalGet() throws Exception {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        String etag = mockMvc.perform(get("/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when, then
+        mockMvc.perform(get("/posts/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        postsService.update(new PostsUpdateRequestDto(id, "새 제목", "내용", "작성자"));
+        String updatedEtag = mockMvc.perform(get("/posts/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("목록 페이지는 게시글이 변경되기 전까지 같은 ETag로 304를 응답한다")
+    void testListConditionalGet() throws Exception {
+        //given
+        postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+        String etag = mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when, then
+        mockMvc.perform(get("/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        postsService.save(new PostsSaveRequestDto("제목2", "내용2", "작성자2"));
+        mockMvc.perform(get("/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("목록 행은 캐시된 HTML로 그리고, 수정된 게시글의 행은 다시 렌더링한다")
+    void testListRowsFromFragmentCache() throws Exception {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("<b>제목</b>", "내용", "작성자"));
+        postsFragmentCache.clear();
+
+        //when, then
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("&lt;b&gt;제목&lt;/b&gt;")))
+                .andExpect(content().string(containsString("/posts/update/" + id)));
+        assertThat(postsFragmentCache.size()).isEqualTo(1);
+
+        postsService.update(new PostsUpdateRequestDto(id, "새 제목", "내용", "작성자"));
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("새 제목")))
+                .andExpect(content().string(not(containsString("&lt;b&gt;제목"))));
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 요청이 먼저 수정한 게시글을 수정하면 500 대신 409로 응답한다")
+    void testUpdateConflict() {
+        //given
+        Long id = postsService.save(new PostsSaveRequestDto("제목", "내용", "작성자"));
+
+        //when, then
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 수정 요청이 참여할 트랜잭션에서 게시글을 먼저 읽어 두고, 그 뒤 다른 수정으로 버전을 올림
+            postsRepository.findById(id).orElseThrow();
+            new JdbcTemplate(dataSource).update("UPDATE posts SET version = version + 1 WHERE id = ?", id);
+            try {
+                mockMvc.perform(post("/posts/update/{id}", id)
+                                .param("title", "늦은 수정")
+                                .param("content", "내용")
+                                .param("author", "작성자"))
+                        .andExpect(status().isConflict());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+        assertThat(postsRepository.findById(id).orElseThrow().getTitle()).isEqualTo("제목");
+    }
+
+    @Test
+    @DisplayName("변경 피드는 요청한 순번 이후의 변경만 보내고, 이후 변경도 이어서 보낸다")
+    void testChangeFeed() throws Exception {
+        //given
+        Long before = postsService.save(new PostsSaveRequestDto("이전 글", "내용", "작성자"));
+        long since = postsChangeJournal.lastSeq();
+        Long saved = postsService.save(new PostsSaveRequestDto("피드 글", "내용", "작성자"));
+
+        //when
+        MvcResult result = mockMvc.perform(get("/posts/changes").param("since", Long.toString(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        postsService.delete(saved);
+
+        //then
+        String epoch = postsChangeJournal.epoch();
+        String body = awaitContent(result, "\"type\":\"DELETED\"");
+        assertThat(body).contains("id:" + epoch + ":" + (since + 1), "event:change", "\"title\":\"피드 글\"");
+        assertThat(body).contains("id:" + epoch + ":" + (since + 2));
+        assertThat(body).doesNotContain("이전 글", "id:" + epoch + ":" + since + "\n", "event:reset");
+        postsService.delete(before);
+    }
+
+    @Test
+    @DisplayName("다른 세대의 Last-Event-ID로 다시 연결하면 reset부터 보내고 보관된 처음부터 이어서 보낸다")
+    void testChangeFeedResetOnEpochMismatch() throws Exception {
+        //given
+        Long saved = postsService.save(new PostsSaveRequestDto("피드 글", "내용", "작성자"));
+        long lastSeq = postsChangeJournal.lastSeq();
+        String epoch = postsChangeJournal.epoch();
+
+        //when
+        MvcResult result = mockMvc.perform(get("/posts/changes")
+                        .header("Last-Event-ID", "previous-epoch:" + lastSeq))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = awaitContent(result, "id:" + epoch + ":" + lastSeq);
+        long earliest = postsChangeJournal.earliestSeq();
+        assertThat(body).startsWith("id:" + epoch + ":" + (earliest - 1) + "\nevent:reset\n");
+        assertThat(body).contains("id:" + epoch + ":" + lastSeq, "\"title\":\"피드 글\"");
+        postsService.delete(saved);
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+}